@@ -0,0 +1,92 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Definition of lazy associations to be initialized after the query, for all the loaded entities at once
+ * (a single query per association). It does not affect the query itself, it is executed by {@code SpecificationRepository}.</p>
+ *
+ * <p>Unlike {@link JoinFetch}, it does not multiply the rows of the query, so several collections can be loaded
+ * without a cartesian product and paging is still applied by the database.</p>
+ */
+public class BatchLoad<T> implements Specification<T>, Fake {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> paths;
+    private final String alias;
+
+    public BatchLoad(String[] paths, String alias) {
+        this.paths = Arrays.asList(paths);
+        this.alias = alias;
+
+        if (!alias.isEmpty() && paths.length != 1) {
+            throw new IllegalArgumentException(
+                    "Batch load alias can be defined only for batch load with a single path! "
+                            + "Remove alias from the annotation or repeat @BatchLoad annotation for every path and use unique alias for each load."
+            );
+        }
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        return null;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public String getAlias() {
+        return alias;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BatchLoad<?> batchLoad = (BatchLoad<?>) o;
+        return Objects.equals(paths, batchLoad.paths)
+                && Objects.equals(alias, batchLoad.alias);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(paths, alias);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchLoad["
+                + "paths=" + paths
+                + ", alias='" + alias + '\''
+                + ']';
+    }
+}
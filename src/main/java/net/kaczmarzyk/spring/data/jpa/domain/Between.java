@@ -33,6 +33,9 @@ import java.util.Objects;
  * <p>Field types must be Comparable (e.g, implement the Comparable interface); this is
  * a JPA constraint.</p>
  *
+ * <p>If the configured date format has only day precision and the field is a timestamp, both boundary days are included as a whole,
+ * i.e. {@code path >= lowerDay and path < upperDay + 1}.</p>
+ *
  * <p>NOTE: comparisons are dependent on the underlying database.</p>
  * <p>Comparisons of floats and doubles (especially floats) may be incorrect due to precision loss.</p>
  * <p>Comparisons of booleans may be dependent on the underlying database representation.</p>
@@ -66,6 +69,12 @@ public class Between<T> extends PathSpecification<T> {
         Expression<Comparable<Object>> targetExpression = path(root);
         Class<?> typeOnPath = targetExpression.getJavaType();
 
+        if (converter.isDayBucket(typeOnPath)) {
+            Object startOfLowerBoundaryDay = converter.convertToDayRange(lowerBoundaryStr, typeOnPath).getLeft();
+            Object startOfDayAfterUpperBoundary = converter.convertToDayRange(upperBoundaryStr, typeOnPath).getRight();
+            return DayRanges.within(criteriaBuilder, targetExpression, startOfLowerBoundaryDay, startOfDayAfterUpperBoundary);
+        }
+
         Comparable<Object> lowerBoundary = (Comparable<Object>) converter.convert(lowerBoundaryStr, typeOnPath);
         Comparable<Object> upperBoundary = (Comparable<Object>) converter.convert(upperBoundaryStr, typeOnPath);
 
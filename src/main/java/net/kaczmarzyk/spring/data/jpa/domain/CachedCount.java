@@ -0,0 +1,81 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import net.kaczmarzyk.spring.data.jpa.utils.CountCache;
+import net.kaczmarzyk.spring.data.jpa.utils.SpecificationFingerprint;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Objects;
+
+/**
+ * <p>Makes the total count of the specification cached (by {@code SpecificationRepository}) in the given cache,
+ * under the fingerprint of the rest of the specification. It does not affect the query.</p>
+ */
+public class CachedCount<T> implements Specification<T>, Fake {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient CountCache cache;
+    private final SpecificationFingerprint fingerprint;
+
+    public CachedCount(CountCache cache, SpecificationFingerprint fingerprint) {
+        this.cache = cache;
+        this.fingerprint = fingerprint;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        return null;
+    }
+
+    public CountCache getCache() {
+        return cache;
+    }
+
+    public SpecificationFingerprint getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CachedCount<?> that = (CachedCount<?>) o;
+        return cache == that.cache
+                && Objects.equals(fingerprint, that.fingerprint);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(cache), fingerprint);
+    }
+
+    @Override
+    public String toString() {
+        return "CachedCount["
+                + "fingerprint=" + fingerprint
+                + ']';
+    }
+}
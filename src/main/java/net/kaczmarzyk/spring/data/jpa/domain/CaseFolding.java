@@ -0,0 +1,253 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.util.ClassUtils;
+
+import java.io.Serializable;
+import java.util.Locale;
+
+/**
+ * <p>Strategy of case-insensitive comparison of strings used by the {@code *IgnoreCase} specifications.</p>
+ *
+ * <p>It can be chosen with one of the following values in the {@code config} of the {@code @Spec}
+ * (or in the default config of the spec type, see {@code SpecificationArgumentResolver.setDefaultSpecConfig}):</p>
+ * <ul>
+ *     <li>{@link #UPPER} -- {@code upper(path) = 'HOMER'} (the default),</li>
+ *     <li>{@link #LOWER} -- {@code lower(path) = 'homer'}, to match existing {@code lower(...)} indexes,</li>
+ *     <li>{@link #ILIKE} -- {@code path ilike 'homer'}, if supported by the JPA provider (e.g. Hibernate 6),
+ *     otherwise it falls back to {@link #LOWER},</li>
+ *     <li>{@link #SHADOW_ATTRIBUTE} followed by an attribute name suffix -- compares the pre-normalized (lower-cased)
+ *     shadow attribute, e.g. {@code config = CaseFolding.SHADOW_ATTRIBUTE + "Normalized"} makes {@code path = "name"}
+ *     filter with {@code nameNormalized = 'homer'}.</li>
+ * </ul>
+ *
+ * <p>The expected value is folded once, when the specification is created.</p>
+ */
+public abstract class CaseFolding implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final boolean HIBERNATE_PRESENT = ClassUtils.isPresent(
+            "org.hibernate.query.criteria.HibernateCriteriaBuilder", CaseFolding.class.getClassLoader());
+
+    public static final String CONFIG_PREFIX = "caseFolding:";
+
+    public static final String UPPER = CONFIG_PREFIX + "upper";
+    public static final String LOWER = CONFIG_PREFIX + "lower";
+    public static final String ILIKE = CONFIG_PREFIX + "ilike";
+    public static final String SHADOW_ATTRIBUTE = CONFIG_PREFIX + "shadowAttribute:";
+
+    public static CaseFolding upper() {
+        return new Upper();
+    }
+
+    public static CaseFolding lower() {
+        return new Lower();
+    }
+
+    public static CaseFolding ilike() {
+        return new ILike();
+    }
+
+    public static CaseFolding shadowAttribute(String attributeNameSuffix) {
+        return new ShadowAttribute(attributeNameSuffix);
+    }
+
+    /**
+     * @return the strategy defined in the config or {@link #upper()} if there is none
+     */
+    public static CaseFolding fromConfig(String[] config) {
+        if (config != null) {
+            for (String configValue : config) {
+                if (isCaseFoldingConfig(configValue)) {
+                    return fromConfig(configValue);
+                }
+            }
+        }
+        return upper();
+    }
+
+    public static boolean isCaseFoldingConfig(String configValue) {
+        return configValue != null && configValue.startsWith(CONFIG_PREFIX);
+    }
+
+    private static CaseFolding fromConfig(String configValue) {
+        if (UPPER.equals(configValue)) {
+            return upper();
+        } else if (LOWER.equals(configValue)) {
+            return lower();
+        } else if (ILIKE.equals(configValue)) {
+            return ilike();
+        } else if (configValue.startsWith(SHADOW_ATTRIBUTE) && configValue.length() > SHADOW_ATTRIBUTE.length()) {
+            return shadowAttribute(configValue.substring(SHADOW_ATTRIBUTE.length()));
+        }
+        throw new IllegalArgumentException("Unsupported case folding config: " + configValue);
+    }
+
+    /**
+     * @return path of the attribute to compare (the path of the specification by default)
+     */
+    public String attributePath(String path) {
+        return path;
+    }
+
+    public abstract String foldValue(String value);
+
+    public abstract Expression<String> fold(CriteriaBuilder builder, Expression<String> attribute);
+
+    public Predicate equal(CriteriaBuilder builder, Expression<String> attribute, String foldedValue) {
+        return builder.equal(fold(builder, attribute), foldedValue);
+    }
+
+    /**
+     * @param escapeChar escape character used in the pattern or {@code null} if the pattern is not escaped
+     */
+    public Predicate like(CriteriaBuilder builder, Expression<String> attribute, String foldedPattern, Character escapeChar) {
+        return escapeChar == null
+                ? builder.like(fold(builder, attribute), foldedPattern)
+                : builder.like(fold(builder, attribute), foldedPattern, escapeChar);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj != null && getClass() == obj.getClass();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+
+    private static class Upper extends CaseFolding {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String foldValue(String value) {
+            return value.toUpperCase(Locale.ROOT);
+        }
+
+        @Override
+        public Expression<String> fold(CriteriaBuilder builder, Expression<String> attribute) {
+            return builder.upper(attribute);
+        }
+    }
+
+    private static class Lower extends CaseFolding {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String foldValue(String value) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public Expression<String> fold(CriteriaBuilder builder, Expression<String> attribute) {
+            return builder.lower(attribute);
+        }
+    }
+
+    /**
+     * Uses {@code ilike} of {@link HibernateCriteriaBuilder} (as it is not a part of JPA), if Hibernate is the JPA provider.
+     * Comparisons which cannot be expressed with {@code ilike} (e.g. ranges) use {@code lower(...)}.
+     */
+    private static class ILike extends Lower {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Predicate equal(CriteriaBuilder builder, Expression<String> attribute, String foldedValue) {
+            return like(builder, attribute, Like.escapeWildcards(foldedValue), Like.ESCAPE_CHAR);
+        }
+
+        @Override
+        public Predicate like(CriteriaBuilder builder, Expression<String> attribute, String foldedPattern, Character escapeChar) {
+            if (HIBERNATE_PRESENT && HibernateILike.isSupported(builder)) {
+                return HibernateILike.ilike(builder, attribute, foldedPattern, escapeChar);
+            }
+            return super.like(builder, attribute, foldedPattern, escapeChar);
+        }
+    }
+
+    /**
+     * Must be used only if Hibernate is present, so that {@link HibernateCriteriaBuilder} is not loaded otherwise.
+     */
+    private static final class HibernateILike {
+
+        static boolean isSupported(CriteriaBuilder builder) {
+            return builder instanceof HibernateCriteriaBuilder;
+        }
+
+        static Predicate ilike(CriteriaBuilder builder, Expression<String> attribute, String foldedPattern, Character escapeChar) {
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) builder;
+            return escapeChar == null
+                    ? hcb.ilike(attribute, foldedPattern)
+                    : hcb.ilike(attribute, foldedPattern, escapeChar);
+        }
+    }
+
+    private static class ShadowAttribute extends CaseFolding {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String attributeNameSuffix;
+
+        ShadowAttribute(String attributeNameSuffix) {
+            this.attributeNameSuffix = attributeNameSuffix;
+        }
+
+        @Override
+        public String attributePath(String path) {
+            return path + attributeNameSuffix;
+        }
+
+        @Override
+        public String foldValue(String value) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public Expression<String> fold(CriteriaBuilder builder, Expression<String> attribute) {
+            return attribute;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * super.hashCode() + attributeNameSuffix.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return super.equals(obj) && attributeNameSuffix.equals(((ShadowAttribute) obj).attributeNameSuffix);
+        }
+
+        @Override
+        public String toString() {
+            return "ShadowAttribute [attributeNameSuffix=" + attributeNameSuffix + "]";
+        }
+    }
+}
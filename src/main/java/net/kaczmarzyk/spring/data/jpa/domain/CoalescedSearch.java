@@ -0,0 +1,81 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import net.kaczmarzyk.spring.data.jpa.utils.SingleFlight;
+import net.kaczmarzyk.spring.data.jpa.utils.SpecificationFingerprint;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Objects;
+
+/**
+ * <p>Makes the concurrent identical searches with the specification (i.e. with the same fingerprint of the rest of the specification,
+ * page and sort) coalesced (by {@code SpecificationRepository}) with the given {@link SingleFlight}. It does not affect the query.</p>
+ */
+public class CoalescedSearch<T> implements Specification<T>, Fake {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient SingleFlight singleFlight;
+    private final SpecificationFingerprint fingerprint;
+
+    public CoalescedSearch(SingleFlight singleFlight, SpecificationFingerprint fingerprint) {
+        this.singleFlight = singleFlight;
+        this.fingerprint = fingerprint;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        return null;
+    }
+
+    public SingleFlight getSingleFlight() {
+        return singleFlight;
+    }
+
+    public SpecificationFingerprint getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CoalescedSearch<?> that = (CoalescedSearch<?>) o;
+        return singleFlight == that.singleFlight
+                && Objects.equals(fingerprint, that.fingerprint);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(singleFlight), fingerprint);
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescedSearch["
+                + "fingerprint=" + fingerprint
+                + ']';
+    }
+}
@@ -21,13 +21,21 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 import static java.util.stream.Collectors.toList;
+import static net.kaczmarzyk.spring.data.jpa.domain.ExistsSubqueries.exists;
+import static net.kaczmarzyk.spring.data.jpa.domain.ExistsSubqueries.existsSubqueryAlias;
+import static net.kaczmarzyk.spring.data.jpa.domain.ExistsSubqueries.isNegation;
+import static net.kaczmarzyk.spring.data.jpa.domain.ExistsSubqueries.notExists;
 
 /**
  * Helper for easier joining lists of specs with {@code AND} operator
@@ -81,15 +89,37 @@ public class Conjunction<T> implements Specification<T>, FakeSpecWrapper<T> {
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
         initializeFakes(root, query, cb);
 
+        List<Predicate> predicates = new ArrayList<>();
+        Map<String, List<Specification<T>>> existsSubqueries = new LinkedHashMap<>();
+
+        for (Specification<T> spec : innerSpecs) {
+            if (spec instanceof Fake) {
+                continue;
+            }
+            String existsSubqueryAlias = existsSubqueryAlias(spec);
+            if (existsSubqueryAlias == null) {
+                predicates.add(spec.toPredicate(root, query, cb));
+            } else if (isNegation(spec)) {
+                predicates.add(notExists(root, query, cb, spec));
+            } else {
+                existsSubqueries.computeIfAbsent(existsSubqueryAlias, alias -> new ArrayList<>()).add(spec);
+            }
+        }
+        for (List<Specification<T>> specsOnAlias : existsSubqueries.values()) {
+            predicates.add(exists(root, query, cb, specsOnAlias));
+        }
+
         return cb.and(
-                innerSpecs.stream()
-                        .filter(spec -> !(spec instanceof Fake))
-                        .map(spec -> spec.toPredicate(root, query, cb))
+                predicates.stream()
                         .filter(Objects::nonNull)
                         .collect(toList()).toArray(new Predicate[]{})
         );
     }
 
+    public Collection<Specification<T>> getInnerSpecs() {
+        return innerSpecs;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -0,0 +1,55 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.List;
+
+/**
+ * Builds half-open range predicates for day-bucket filtering of timestamp columns
+ * (see {@link net.kaczmarzyk.spring.data.jpa.utils.Converter#isDayBucket(Class)}).
+ * The column is not wrapped in any function, so its index can be used.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+final class DayRanges {
+
+    private DayRanges() {
+    }
+
+    /**
+     * @return {@code expression >= start and expression < end}
+     */
+    static Predicate within(CriteriaBuilder cb, Expression<?> expression, Object start, Object end) {
+        Expression<Comparable> comparable = (Expression<Comparable>) expression;
+        return cb.and(
+                cb.greaterThanOrEqualTo(comparable, (Comparable) start),
+                cb.lessThan(comparable, (Comparable) end));
+    }
+
+    static Predicate within(CriteriaBuilder cb, Expression<?> expression, Pair<?, ?> range) {
+        return within(cb, expression, range.getLeft(), range.getRight());
+    }
+
+    static Predicate withinAny(CriteriaBuilder cb, Expression<?> expression, List<? extends Pair<?, ?>> ranges) {
+        return cb.or(ranges.stream()
+                .map(range -> within(cb, expression, range))
+                .toArray(Predicate[]::new));
+    }
+}
@@ -59,6 +59,10 @@ public class Disjunction<T> implements Specification<T> {
         return combinedSpecs.toPredicate(root, query, cb);
     }
 
+    public Collection<Specification<T>> getInnerSpecs() {
+        return innerSpecs;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
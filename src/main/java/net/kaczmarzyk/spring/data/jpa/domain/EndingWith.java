@@ -15,10 +15,11 @@
  */
 package net.kaczmarzyk.spring.data.jpa.domain;
 
+import net.kaczmarzyk.spring.data.jpa.utils.Converter;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 /**
- * parameter bound with appended %: {@code "%" + args[0]}
+ * parameter bound with appended %: {@code "%" + args[0]} (wildcards in {@code args[0]} are escaped unless {@link Like#RAW_PATTERN} is configured)
  *
  * @param <T>
  * @author Matt S.Y. Ho
@@ -28,7 +29,11 @@ public class EndingWith<T> extends Like<T> {
     private static final long serialVersionUID = 1L;
 
     public EndingWith(QueryContext queryContext, String path, String... args) {
-        super(queryContext, path, args);
-        this.pattern = "%" + args[0];
+        this(queryContext, path, args, null, null);
+    }
+
+    public EndingWith(QueryContext queryContext, String path, String[] args, Converter converter, String[] config) {
+        super(queryContext, path, args, converter, config);
+        this.pattern = "%" + fragment(args[0]);
     }
 }
@@ -0,0 +1,86 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Fetch plan of a query, to be applied as a JPA entity graph hint instead of fetch joins (see {@link JoinFetch}).
+ * It does not affect the query itself, the hint is applied by {@code SpecificationRepository} to the select query only
+ * (never to the count query). The JPA provider is free to choose how the attributes are loaded.</p>
+ *
+ * <p>Attribute paths are dot-separated, e.g. {@code orders.tags}.</p>
+ */
+public class EntityGraphFetch<T> implements Specification<T>, Fake {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> attributePaths;
+    private final EntityGraphType graphType;
+
+    public EntityGraphFetch(List<String> attributePaths, EntityGraphType graphType) {
+        this.attributePaths = Collections.unmodifiableList(attributePaths);
+        this.graphType = graphType;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        return null;
+    }
+
+    public List<String> getAttributePaths() {
+        return attributePaths;
+    }
+
+    public EntityGraphType getGraphType() {
+        return graphType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EntityGraphFetch<?> that = (EntityGraphFetch<?>) o;
+        return Objects.equals(attributePaths, that.attributePaths)
+                && graphType == that.graphType;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(attributePaths, graphType);
+    }
+
+    @Override
+    public String toString() {
+        return "EntityGraphFetch["
+                + "attributePaths=" + attributePaths
+                + ", graphType=" + graphType
+                + ']';
+    }
+}
@@ -27,6 +27,9 @@ import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
  *
  * <p>Supports multiple field types: strings, numbers, booleans, enums, dates.</p>
  *
+ * <p>If the configured date format has only day precision (e.g. {@code yyyy-MM-dd}) and the field is a timestamp,
+ * the whole day is matched, i.e. {@code where registrationDate >= '2015-03-01' and registrationDate < '2015-03-02'}.</p>
+ *
  * @author Tomasz Kaczmarzyk
  */
 public class Equal<T> extends PathSpecification<T> {
@@ -47,6 +50,9 @@ public class Equal<T> extends PathSpecification<T> {
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
         Class<?> typeOnPath = path(root).getJavaType();
+        if (converter.isDayBucket(typeOnPath)) {
+            return DayRanges.within(cb, path(root), converter.convertToDayRange(expectedValue, typeOnPath));
+        }
         return cb.equal(path(root), converter.convert(expectedValue, typeOnPath));
     }
 
@@ -31,28 +31,38 @@ import java.util.Objects;
  *
  * <p>If the field type is string or enum, the where-clause is case insensitive</p>
  *
+ * <p>Strings are compared according to the {@link CaseFolding} from the {@code config} ({@code upper(...)} by default).</p>
+ *
  * @author Ricardo Pardinho
  */
 public class EqualIgnoreCase<T> extends PathSpecification<T> {
 
     private static final long serialVersionUID = 2L;
     private final Converter converter;
+    private final CaseFolding caseFolding;
     protected String expectedValue;
+    private final String foldedExpectedValue;
 
     public EqualIgnoreCase(QueryContext queryContext, String path, String[] httpParamValues, Converter converter) {
+        this(queryContext, path, httpParamValues, converter, null);
+    }
+
+    public EqualIgnoreCase(QueryContext queryContext, String path, String[] httpParamValues, Converter converter, String[] config) {
         super(queryContext, path);
         if (httpParamValues == null || httpParamValues.length != 1) {
             throw new IllegalArgumentException();
         }
         this.expectedValue = httpParamValues[0];
         this.converter = converter;
+        this.caseFolding = CaseFolding.fromConfig(config);
+        this.foldedExpectedValue = caseFolding.foldValue(expectedValue);
     }
 
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
 
         if (path(root).getJavaType().equals(String.class)) {
-            return cb.equal(cb.upper(this.path(root)), expectedValue.toUpperCase());
+            return caseFolding.equal(cb, this.path(root, caseFolding.attributePath(path)), foldedExpectedValue);
         }
 
         Class<?> typeOnPath = path(root).getJavaType();
@@ -72,16 +82,17 @@ public class EqualIgnoreCase<T> extends PathSpecification<T> {
         }
         EqualIgnoreCase<?> that = (EqualIgnoreCase<?>) o;
         return Objects.equals(expectedValue, that.expectedValue)
-                && Objects.equals(converter, that.converter);
+                && Objects.equals(converter, that.converter)
+                && Objects.equals(caseFolding, that.caseFolding);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), expectedValue, converter);
+        return Objects.hash(super.hashCode(), expectedValue, converter, caseFolding);
     }
 
     @Override
     public String toString() {
-        return "EqualIgnoreCase [expectedValue=" + expectedValue + ", converter=" + converter + ", path=" + super.path + "]";
+        return "EqualIgnoreCase [expectedValue=" + expectedValue + ", converter=" + converter + ", caseFolding=" + caseFolding + ", path=" + super.path + "]";
     }
 }
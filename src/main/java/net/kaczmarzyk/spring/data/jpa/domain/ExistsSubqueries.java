@@ -0,0 +1,92 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import net.kaczmarzyk.spring.data.jpa.utils.Converter.ValueRejectedException;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+
+/**
+ * Builds correlated {@code exists} subqueries for specifications on aliases of joins with {@code EXISTS} strategy.
+ */
+class ExistsSubqueries {
+
+    private ExistsSubqueries() {
+    }
+
+    /**
+     * @return the alias of a join with {@code EXISTS} strategy the specification is defined on, {@code null} otherwise
+     */
+    static String existsSubqueryAlias(Specification<?> spec) {
+        Specification<?> unwrapped = unwrap(spec);
+        if (unwrapped instanceof PathSpecification) {
+            return ((PathSpecification<?>) unwrapped).existsSubqueryAlias();
+        }
+        return null;
+    }
+
+    static boolean isNegation(Specification<?> spec) {
+        return unwrap(spec) instanceof Negation;
+    }
+
+    /**
+     * @return {@code exists (select 1 from <correlated root and joins> where <all specs>)}
+     */
+    static <T> Predicate exists(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb, Collection<Specification<T>> specs) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<T> correlatedRoot = subquery.correlate(root);
+
+        subquery.select(cb.literal(1))
+                .where(specs.stream()
+                        .map(spec -> spec.toPredicate(correlatedRoot, query, cb))
+                        .filter(Objects::nonNull)
+                        .toArray(Predicate[]::new));
+
+        return cb.exists(subquery);
+    }
+
+    /**
+     * @return {@code not exists (select 1 from <correlated root and joins> where <negated spec>)}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Predicate notExists(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb, Specification<T> negation) {
+        Specification<T> negatedSpec = ((Negation<T>) unwrap(negation)).negatedSpec();
+        try {
+            return cb.not(exists(root, query, cb, Collections.singletonList(negatedSpec)));
+        } catch (ValueRejectedException e) {
+            // wrapping the negated spec would turn 'not exists (... where 0 = 1)' into a match-all predicate
+            if (negation instanceof EmptyResultOnTypeMismatch) {
+                return cb.equal(cb.literal(0), cb.literal(1));
+            }
+            throw e;
+        }
+    }
+
+    private static Specification<?> unwrap(Specification<?> spec) {
+        if (spec instanceof EmptyResultOnTypeMismatch) {
+            return ((EmptyResultOnTypeMismatch<?>) spec).getWrappedSpec();
+        }
+        return spec;
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * <p>Fields to be selected instead of the whole entity (see {@code SpecificationRepository.findAllFields}).
+ * It does not affect the query filters.</p>
+ *
+ * <p>The paths are resolved in the same way as the paths of the other specifications, i.e. they may start with aliases
+ * of joins defined with {@code @Join}, and the joins are shared with the filters.</p>
+ */
+public class Fields<T> implements Specification<T>, Fake {
+
+    private static final long serialVersionUID = 1L;
+
+    private final QueryContext queryContext;
+    private final List<String> paths;
+
+    public Fields(QueryContext queryContext, List<String> paths) {
+        this.queryContext = queryContext;
+        this.paths = Collections.unmodifiableList(paths);
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        return null;
+    }
+
+    /**
+     * Should be called after the specification (including the joins) has been applied to the query.
+     *
+     * @return selections of the fields, in the order of {@link #getPaths()}
+     */
+    public List<Selection<?>> selections(Root<T> root) {
+        return paths.stream()
+                .map(path -> new FieldPath<T>(queryContext, path).path(root))
+                .collect(toList());
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Fields<?> that = (Fields<?>) o;
+        return Objects.equals(queryContext, that.queryContext)
+                && Objects.equals(paths, that.paths);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(queryContext, paths);
+    }
+
+    @Override
+    public String toString() {
+        return "Fields["
+                + "paths=" + paths
+                + ']';
+    }
+
+    private static class FieldPath<T> extends PathSpecification<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        FieldPath(QueryContext queryContext, String path) {
+            super(queryContext, path);
+        }
+
+        @Override
+        public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+            return null;
+        }
+    }
+}
@@ -24,6 +24,8 @@ import net.kaczmarzyk.spring.data.jpa.utils.Converter;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 
 /**
@@ -34,6 +36,9 @@ import java.util.Arrays;
  *
  * <p>Supports multiple field types: strings, numbers, booleans, enums, dates.</p>
  *
+ * <p>If the configured date format has only day precision and the field is a timestamp,
+ * the whole days are matched (as in {@link Equal}).</p>
+ *
  * @author Tomasz Kaczmarzyk
  * @author Maciej Szewczyszyn
  */
@@ -57,9 +62,16 @@ public class In<T> extends PathSpecification<T> {
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
         Path<?> path = path(root);
         Class<?> typeOnPath = path.getJavaType();
+        if (converter.isDayBucket(typeOnPath)) {
+            return DayRanges.withinAny(cb, path, converter.convertToDayRanges(Arrays.asList(allowedValues), typeOnPath));
+        }
         return path.in(converter.convert(Arrays.asList(allowedValues), typeOnPath));
     }
 
+    public List<String> getAllowedValues() {
+        return Collections.unmodifiableList(Arrays.asList(allowedValues));
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -17,10 +17,12 @@ package net.kaczmarzyk.spring.data.jpa.domain;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.JoinStrategy;
 import org.springframework.data.jpa.domain.Specification;
 
 import static net.kaczmarzyk.spring.data.jpa.utils.JoinPathUtils.pathToJoinContainsAlias;
@@ -39,22 +41,38 @@ public class Join<T> implements Specification<T>, Fake {
     private final JoinType joinType;
     private final QueryContext queryContext;
     private final boolean distinctQuery;
+    private final JoinStrategy strategy;
 
 
     public Join(QueryContext queryContext, String pathToJoinOn, String alias, JoinType joinType, boolean distinctQuery) {
+        this(queryContext, pathToJoinOn, alias, joinType, distinctQuery, JoinStrategy.JOIN);
+    }
+
+    public Join(QueryContext queryContext, String pathToJoinOn, String alias, JoinType joinType, boolean distinctQuery, JoinStrategy strategy) {
+        if (strategy == JoinStrategy.EXISTS && pathToJoinContainsAlias(pathToJoinOn)) {
+            throw new IllegalArgumentException(
+                    "Join strategy " + JoinStrategy.EXISTS + " is supported only for paths on the root entity, but was used with: '" + pathToJoinOn + "'"
+            );
+        }
         this.pathToJoinOn = pathToJoinOn;
         this.alias = alias;
         this.joinType = joinType;
         this.queryContext = queryContext;
         this.distinctQuery = distinctQuery;
+        this.strategy = strategy;
     }
 
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
-        query.distinct(distinctQuery);
-
-        if (!pathToJoinContainsAlias(pathToJoinOn)) {
-            queryContext.putLazyVal(alias, (r) -> r.join(pathToJoinOn, joinType));
+        if (strategy == JoinStrategy.EXISTS) {
+            queryContext.putExistsSubqueryAlias(alias);
+            queryContext.putLazyVal(alias, (r) -> query.getRoots().contains(r)
+                    // the alias is used outside of a conjunction, so it falls back to a regular join
+                    ? distinctIfCollectionValued(query, join(r, pathToJoinOn, joinType))
+                    // the root is correlated within the exists subquery (see ExistsSubqueries)
+                    : join(r, pathToJoinOn, JoinType.INNER));
+        } else if (!pathToJoinContainsAlias(pathToJoinOn)) {
+            queryContext.putLazyVal(alias, (r) -> distinctIfCollectionValued(query, join(r, pathToJoinOn, joinType)));
         } else {
             String[] pathToJoinOnSplittedByDot = pathToJoinSplittedByDot(pathToJoinOn);
 
@@ -73,12 +91,58 @@ public class Join<T> implements Specification<T>, Fake {
 
             queryContext.putLazyVal(
                     alias,
-                    (r) -> evaluated.join(extractedPathToJoin, joinType)
+                    (r) -> distinctIfCollectionValued(query, join(evaluated, extractedPathToJoin, joinType))
             );
         }
         return null;
     }
 
+    /**
+     * Joins through the query context, so that the join is shared with other specs, if the context supports it.
+     */
+    private jakarta.persistence.criteria.Join<?, ?> join(From<?, ?> from, String attribute, JoinType type) {
+        jakarta.persistence.criteria.Join<?, ?> join = queryContext.join(from, attribute, type);
+        return join != null ? join : from.join(attribute, type);
+    }
+
+    /**
+     * The join is lazy, so the query is made distinct only when the join is actually used in the query
+     * and only if it can multiply the rows, i.e. it is a join to a collection.
+     */
+    private jakarta.persistence.criteria.Join<?, ?> distinctIfCollectionValued(CriteriaQuery<?> query, jakarta.persistence.criteria.Join<?, ?> join) {
+        if (distinctQuery && join.getAttribute().isCollection()) {
+            query.distinct(true);
+        }
+        return join;
+    }
+
+    /**
+     * @return the same join with a different join type
+     */
+    public Join<T> withJoinType(JoinType joinType) {
+        return new Join<>(queryContext, pathToJoinOn, alias, joinType, distinctQuery, strategy);
+    }
+
+    public String getPathToJoinOn() {
+        return pathToJoinOn;
+    }
+
+    public String getAlias() {
+        return alias;
+    }
+
+    public JoinType getJoinType() {
+        return joinType;
+    }
+
+    public boolean isDistinctQuery() {
+        return distinctQuery;
+    }
+
+    public JoinStrategy getStrategy() {
+        return strategy;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -88,6 +152,7 @@ public class Join<T> implements Specification<T>, Fake {
         result = prime * result + ((joinType == null) ? 0 : joinType.hashCode());
         result = prime * result + ((pathToJoinOn == null) ? 0 : pathToJoinOn.hashCode());
         result = prime * result + ((queryContext == null) ? 0 : queryContext.hashCode());
+        result = prime * result + ((strategy == null) ? 0 : strategy.hashCode());
         return result;
     }
 
@@ -116,6 +181,9 @@ public class Join<T> implements Specification<T>, Fake {
         if (joinType != other.joinType) {
             return false;
         }
+        if (strategy != other.strategy) {
+            return false;
+        }
         if (pathToJoinOn == null) {
             if (other.pathToJoinOn != null) {
                 return false;
@@ -133,6 +201,6 @@ public class Join<T> implements Specification<T>, Fake {
     @Override
     public String toString() {
         return "Join [pathToJoinOn=" + pathToJoinOn + ", alias=" + alias + ", joinType=" + joinType + ", queryContext=" + queryContext
-                + ", distinctQuery=" + distinctQuery + "]";
+                + ", distinctQuery=" + distinctQuery + ", strategy=" + strategy + "]";
     }
 }
@@ -73,8 +73,7 @@ public class JoinFetch<T> implements Specification<T> {
 
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
-        query.distinct(distinct);
-        if (!Number.class.isAssignableFrom(query.getResultType())) { // do not join in count queries
+        if (selectsRoot(root, query)) { // do not join in count queries or queries selecting only ids or other columns
             if (pathsToFetch.size() == 1) {
                 String pathToFetch = pathsToFetch.get(0);
                 if (pathToJoinContainsAlias(pathToFetch)) {
@@ -92,23 +91,57 @@ public class JoinFetch<T> implements Specification<T> {
                         );
                     }
 
-                    Fetch<?, ?> joinFetch = evaluatedJoinFetchForGivenAlias.fetch(path, joinType);
+                    Fetch<?, ?> joinFetch = distinctIfCollectionValued(query, evaluatedJoinFetchForGivenAlias.fetch(path, joinType));
                     if (StringUtils.isNotBlank(this.alias)) {
                         context.putEvaluatedJoinFetch(this.alias, joinFetch);
                     }
                 } else {
-                    Fetch<Object, Object> evaluated = root.fetch(pathToFetch, joinType);
+                    Fetch<?, ?> evaluated = distinctIfCollectionValued(query, root.fetch(pathToFetch, joinType));
                     context.putEvaluatedJoinFetch(alias, evaluated);
                 }
             } else {
                 for (String path : pathsToFetch) {
-                    root.fetch(path, joinType);
+                    distinctIfCollectionValued(query, root.fetch(path, joinType));
                 }
             }
         }
         return null;
     }
 
+    /**
+     * Fetching is possible only if the query returns the fetching entity (i.e. the root).
+     */
+    private static boolean selectsRoot(Root<?> root, CriteriaQuery<?> query) {
+        return query.getResultType().isAssignableFrom(root.getJavaType());
+    }
+
+    /**
+     * Count queries do not fetch anything, so they are never made distinct.
+     * Otherwise the query is made distinct only if the fetch can multiply the rows, i.e. it is a fetch of a collection.
+     */
+    private Fetch<?, ?> distinctIfCollectionValued(CriteriaQuery<?> query, Fetch<?, ?> fetch) {
+        if (distinct && fetch.getAttribute().isCollection()) {
+            query.distinct(true);
+        }
+        return fetch;
+    }
+
+    public List<String> getPathsToFetch() {
+        return pathsToFetch;
+    }
+
+    public String getAlias() {
+        return alias;
+    }
+
+    public JoinType getJoinType() {
+        return joinType;
+    }
+
+    public boolean isDistinct() {
+        return distinct;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
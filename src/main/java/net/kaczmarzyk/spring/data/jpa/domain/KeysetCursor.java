@@ -0,0 +1,234 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * <p>Position in the results of a keyset (seek) pagination, i.e. the sort of the results and the values
+ * of the sort keys of the last returned entity. The last sort key should be unique (e.g. the id), so that
+ * the position is unambiguous.</p>
+ *
+ * <p>The cursor is passed to the clients as a compact, URL-safe token (see {@link #encode()}). Enum values are
+ * encoded with their names and converted to the type of the attribute by {@link Seek}.</p>
+ */
+public final class KeysetCursor implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final byte VERSION = 1;
+
+    private final List<Sort.Order> orders;
+    private final List<Object> values;
+
+    public KeysetCursor(Sort sort, List<?> values) {
+        this.orders = Collections.unmodifiableList(sort.toList());
+        this.values = Collections.unmodifiableList(new ArrayList<>(values));
+        if (orders.isEmpty() || orders.size() != values.size()) {
+            throw new IllegalArgumentException("Keyset cursor requires a value for each of the sort keys, but was: sort=" + sort + ", values=" + values);
+        }
+        if (this.values.contains(null)) {
+            throw new IllegalArgumentException("Keyset pagination does not support null values of the sort keys, but was: sort=" + sort + ", values=" + values);
+        }
+    }
+
+    public Sort getSort() {
+        return Sort.by(orders);
+    }
+
+    public List<Sort.Order> getOrders() {
+        return orders;
+    }
+
+    public List<Object> getValues() {
+        return values;
+    }
+
+    public String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                out.writeUTF(orders.get(i).getProperty());
+                out.writeBoolean(orders.get(i).isAscending());
+                writeValue(out, values.get(i));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to encode keyset cursor: " + this, e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static KeysetCursor decode(String token) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            if (in.readByte() != VERSION) {
+                throw new IllegalArgumentException("Invalid keyset cursor: " + token);
+            }
+            int size = in.readByte();
+            List<Sort.Order> orders = new ArrayList<>();
+            List<Object> values = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                String property = in.readUTF();
+                orders.add(in.readBoolean() ? Sort.Order.asc(property) : Sort.Order.desc(property));
+                values.add(readValue(in));
+            }
+            if (in.available() > 0) {
+                throw new IllegalArgumentException("Invalid keyset cursor: " + token);
+            }
+            return new KeysetCursor(Sort.by(orders), values);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Invalid keyset cursor: " + token, e);
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof String) {
+            out.writeByte('S');
+            out.writeUTF((String) value);
+        } else if (value instanceof Long) {
+            out.writeByte('J');
+            out.writeLong((Long) value);
+        } else if (value instanceof Integer) {
+            out.writeByte('I');
+            out.writeInt((Integer) value);
+        } else if (value instanceof Short) {
+            out.writeByte('H');
+            out.writeShort((Short) value);
+        } else if (value instanceof Double) {
+            out.writeByte('D');
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte('F');
+            out.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte('Z');
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof BigDecimal) {
+            out.writeByte('B');
+            out.writeUTF(value.toString());
+        } else if (value instanceof UUID) {
+            out.writeByte('U');
+            out.writeLong(((UUID) value).getMostSignificantBits());
+            out.writeLong(((UUID) value).getLeastSignificantBits());
+        } else if (value instanceof LocalDate) {
+            out.writeByte('d');
+            out.writeUTF(value.toString());
+        } else if (value instanceof LocalDateTime) {
+            out.writeByte('t');
+            out.writeUTF(value.toString());
+        } else if (value instanceof OffsetDateTime) {
+            out.writeByte('o');
+            out.writeUTF(value.toString());
+        } else if (value instanceof Instant) {
+            out.writeByte('i');
+            out.writeUTF(value.toString());
+        } else if (value instanceof Date) {
+            out.writeByte('T');
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof Enum) {
+            out.writeByte('E');
+            out.writeUTF(((Enum<?>) value).name());
+        } else {
+            throw new IllegalArgumentException("Unsupported type of a keyset sort key: " + value.getClass());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case 'S':
+            case 'E':
+                return in.readUTF();
+            case 'J':
+                return in.readLong();
+            case 'I':
+                return in.readInt();
+            case 'H':
+                return in.readShort();
+            case 'D':
+                return in.readDouble();
+            case 'F':
+                return in.readFloat();
+            case 'Z':
+                return in.readBoolean();
+            case 'B':
+                return new BigDecimal(in.readUTF());
+            case 'U':
+                return new UUID(in.readLong(), in.readLong());
+            case 'd':
+                return LocalDate.parse(in.readUTF());
+            case 't':
+                return LocalDateTime.parse(in.readUTF());
+            case 'o':
+                return OffsetDateTime.parse(in.readUTF());
+            case 'i':
+                return Instant.parse(in.readUTF());
+            case 'T':
+                return new Date(in.readLong());
+            default:
+                throw new IllegalArgumentException("Unknown type of a keyset sort key: " + (char) type);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        KeysetCursor that = (KeysetCursor) o;
+        return Objects.equals(orders, that.orders)
+                && Objects.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(orders, values);
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetCursor["
+                + "orders=" + orders
+                + ", values=" + values
+                + ']';
+    }
+}
@@ -17,14 +17,19 @@ package net.kaczmarzyk.spring.data.jpa.domain;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import net.kaczmarzyk.spring.data.jpa.utils.Converter;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 import java.util.Arrays;
 
 /**
- * Filters with {@code path like %pattern%} where-clause.
+ * <p>Filters with {@code path like %pattern%} where-clause.</p>
+ *
+ * <p>Wildcard characters ({@code %} and {@code _}) provided in the argument are escaped, i.e. they are matched literally.
+ * To let the argument contain wildcards, set {@link #RAW_PATTERN} in the {@code config} of the {@code @Spec}.</p>
  *
  * @author Tomasz Kaczmarzyk
  */
@@ -32,20 +37,100 @@ public class Like<T> extends PathSpecification<T> implements WithoutTypeConversi
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Config value which disables escaping of wildcard characters in the argument.
+     */
+    public static final String RAW_PATTERN = "rawPattern";
+
+    static final char ESCAPE_CHAR = '\\';
+
     protected String pattern;
 
+    protected final boolean rawPattern;
+
     public Like(QueryContext queryContext, String path, String... args) {
+        this(queryContext, path, args, null, null);
+    }
+
+    public Like(QueryContext queryContext, String path, String[] args, Converter converter, String[] config) {
         super(queryContext, path);
         if (args == null || args.length != 1) {
             throw new IllegalArgumentException("Expected exactly one argument (the fragment to match against), but got: " + Arrays.toString(args));
         } else {
-            this.pattern = "%" + args[0] + "%";
+            this.rawPattern = isRawPattern(config);
+            this.pattern = "%" + fragment(args[0]) + "%";
         }
     }
 
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
-        return builder.like(this.path(root), pattern);
+        return like(builder, this.path(root), pattern);
+    }
+
+    /**
+     * @return the argument ready to be embedded into the pattern, i.e. with escaped wildcards unless in raw mode
+     */
+    protected String fragment(String arg) {
+        return rawPattern ? arg : escapeWildcards(arg);
+    }
+
+    protected Predicate like(CriteriaBuilder builder, Expression<String> expression, String pattern) {
+        return rawPattern ? builder.like(expression, pattern) : builder.like(expression, pattern, ESCAPE_CHAR);
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public boolean isRawPattern() {
+        return rawPattern;
+    }
+
+    /**
+     * Filters with {@code expression >= prefix and expression < upperBound}, which is equivalent to {@code expression like 'prefix%'}
+     * (under binary collation), but can be used as an index range scan by more databases.
+     */
+    protected Predicate prefixRange(CriteriaBuilder builder, Expression<String> expression, String prefix) {
+        Predicate lowerBound = builder.greaterThanOrEqualTo(expression, prefix);
+        String upperBound = prefixUpperBound(prefix);
+        return upperBound == null ? lowerBound : builder.and(lowerBound, builder.lessThan(expression, upperBound));
+    }
+
+    static boolean isRawPattern(String[] config) {
+        return hasOption(config, RAW_PATTERN);
+    }
+
+    static boolean hasOption(String[] config, String option) {
+        return config != null && Arrays.asList(config).contains(option);
+    }
+
+    /**
+     * @return the smallest string greater than all strings starting with the prefix (i.e. the prefix with its last code point incremented)
+     * or {@code null} if there is no such string
+     */
+    static String prefixUpperBound(String prefix) {
+        int end = prefix.length();
+        while (end > 0) {
+            int lastCodePoint = prefix.codePointBefore(end);
+            int start = end - Character.charCount(lastCodePoint);
+            if (lastCodePoint < Character.MAX_CODE_POINT) {
+                int next = lastCodePoint + 1 == Character.MIN_SURROGATE ? Character.MAX_SURROGATE + 1 : lastCodePoint + 1;
+                return prefix.substring(0, start) + new String(Character.toChars(next));
+            }
+            end = start;
+        }
+        return null;
+    }
+
+    static String escapeWildcards(String arg) {
+        StringBuilder escaped = new StringBuilder(arg.length() + 4);
+        for (char c : arg.toCharArray()) {
+            if (c == '%' || c == '_' || c == ESCAPE_CHAR) {
+                escaped.append(ESCAPE_CHAR);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
     }
 
     @Override
@@ -53,6 +138,7 @@ public class Like<T> extends PathSpecification<T> implements WithoutTypeConversi
         final int prime = 31;
         int result = super.hashCode();
         result = prime * result + ((pattern == null) ? 0 : pattern.hashCode());
+        result = prime * result + (rawPattern ? 1231 : 1237);
         return result;
     }
 
@@ -68,6 +154,9 @@ public class Like<T> extends PathSpecification<T> implements WithoutTypeConversi
             return false;
         }
         Like<?> other = (Like<?>) obj;
+        if (rawPattern != other.rawPattern) {
+            return false;
+        }
         if (pattern == null) {
             return other.pattern == null;
         } else {
@@ -77,6 +166,6 @@ public class Like<T> extends PathSpecification<T> implements WithoutTypeConversi
 
     @Override
     public String toString() {
-        return "Like [pattern=" + pattern + "]";
+        return "Like [pattern=" + pattern + ", rawPattern=" + rawPattern + "]";
     }
 }
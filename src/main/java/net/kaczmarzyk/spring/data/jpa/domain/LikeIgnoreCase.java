@@ -17,12 +17,15 @@ package net.kaczmarzyk.spring.data.jpa.domain;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import net.kaczmarzyk.spring.data.jpa.utils.Converter;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 /**
  * Filters with {@code path like %pattern%} where-clause and ignores pattern case
+ * (according to the {@link CaseFolding} from the {@code config}, {@code upper(...)} by default)
  *
  * @author Michal Jankowski, Hazecod
  */
@@ -30,13 +33,61 @@ public class LikeIgnoreCase<T> extends Like<T> {
 
     private static final long serialVersionUID = 1L;
 
+    protected final CaseFolding caseFolding;
+
+    protected String foldedPattern;
+
     public LikeIgnoreCase(QueryContext queryCtx, String path, String... args) {
-        super(queryCtx, path, args);
+        this(queryCtx, path, args, null, null);
+    }
+
+    public LikeIgnoreCase(QueryContext queryCtx, String path, String[] args, Converter converter, String[] config) {
+        super(queryCtx, path, args, converter, config);
+        this.caseFolding = CaseFolding.fromConfig(config);
+        this.foldedPattern = caseFolding.foldValue(pattern);
     }
 
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
-        return builder.like(builder.upper(this.path(root)), pattern.toUpperCase());
+        return caseFolding.like(builder, comparedAttribute(root), foldedPattern, rawPattern ? null : ESCAPE_CHAR);
+    }
+
+    /**
+     * @return the (not yet folded) attribute to compare, i.e. the path of the spec or its shadow attribute
+     */
+    protected Expression<String> comparedAttribute(Root<T> root) {
+        return this.path(root, caseFolding.attributePath(path));
+    }
+
+    protected void setPattern(String pattern) {
+        this.pattern = pattern;
+        this.foldedPattern = caseFolding.foldValue(pattern);
+    }
+
+    public CaseFolding getCaseFolding() {
+        return caseFolding;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = super.hashCode();
+        result = prime * result + caseFolding.hashCode();
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!super.equals(obj)) {
+            return false;
+        }
+        LikeIgnoreCase<?> other = (LikeIgnoreCase<?>) obj;
+        return caseFolding.equals(other.caseFolding);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [pattern=" + pattern + ", rawPattern=" + rawPattern + ", caseFolding=" + caseFolding + "]";
     }
 
 }
@@ -0,0 +1,31 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specification which is a negation of another one (e.g. {@code NotEqual} of {@code Equal}).
+ * Used to build {@code not exists} subqueries for joins with {@code EXISTS} strategy
+ * and to estimate the cost of the negated specification.
+ */
+public interface Negation<T> {
+
+    /**
+     * @return the specification negated by this one
+     */
+    Specification<T> negatedSpec();
+}
@@ -21,6 +21,7 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import net.kaczmarzyk.spring.data.jpa.utils.Converter;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Objects;
 
@@ -31,7 +32,7 @@ import java.util.Objects;
  *
  * @author Mateusz Fedkowicz
  **/
-public class NotEqual<T> extends PathSpecification<T> {
+public class NotEqual<T> extends PathSpecification<T> implements Negation<T> {
 
     private static final long serialVersionUID = 1L;
     private final Converter converter;
@@ -52,6 +53,11 @@ public class NotEqual<T> extends PathSpecification<T> {
         return cb.notEqual(path(root), converter.convert(expectedValue, typeOnPath));
     }
 
+    @Override
+    public Specification<T> negatedSpec() {
+        return new Equal<>(queryContext(), path, new String[]{expectedValue}, converter);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -31,27 +31,37 @@ import java.util.Objects;
  *
  * <p>If the field type is string or enum, the where-clause is case insensitive</p>
  *
+ * <p>Strings are compared according to the {@link CaseFolding} from the {@code config} ({@code upper(...)} by default).</p>
+ *
  * @author Mateusz Fedkowicz
  **/
 public class NotEqualIgnoreCase<T> extends PathSpecification<T> {
 
     private static final long serialVersionUID = 2L;
     private final Converter converter;
+    private final CaseFolding caseFolding;
     protected String expectedValue;
+    private final String foldedExpectedValue;
 
     public NotEqualIgnoreCase(QueryContext queryContext, String path, String[] httpParamValues, Converter converter) {
+        this(queryContext, path, httpParamValues, converter, null);
+    }
+
+    public NotEqualIgnoreCase(QueryContext queryContext, String path, String[] httpParamValues, Converter converter, String[] config) {
         super(queryContext, path);
         if (httpParamValues == null || httpParamValues.length != 1) {
             throw new IllegalArgumentException();
         }
         this.expectedValue = httpParamValues[0];
         this.converter = converter;
+        this.caseFolding = CaseFolding.fromConfig(config);
+        this.foldedExpectedValue = caseFolding.foldValue(expectedValue);
     }
 
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
         if (path(root).getJavaType().equals(String.class)) {
-            return cb.notEqual(cb.upper(this.path(root)), expectedValue.toUpperCase());
+            return cb.not(caseFolding.equal(cb, this.path(root, caseFolding.attributePath(path)), foldedExpectedValue));
         }
 
         Class<?> typeOnPath = path(root).getJavaType();
@@ -71,12 +81,13 @@ public class NotEqualIgnoreCase<T> extends PathSpecification<T> {
         }
         NotEqualIgnoreCase<?> notEqual = (NotEqualIgnoreCase<?>) o;
         return Objects.equals(expectedValue, notEqual.expectedValue)
-                && Objects.equals(converter, notEqual.converter);
+                && Objects.equals(converter, notEqual.converter)
+                && Objects.equals(caseFolding, notEqual.caseFolding);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), expectedValue, converter);
+        return Objects.hash(super.hashCode(), expectedValue, converter, caseFolding);
     }
 
     @Override
@@ -84,6 +95,7 @@ public class NotEqualIgnoreCase<T> extends PathSpecification<T> {
         return "NotEqualIgnoreCase["
                 + "expectedValue='" + expectedValue + '\''
                 + ", converter=" + converter
+                + ", caseFolding=" + caseFolding
                 + ']';
     }
 
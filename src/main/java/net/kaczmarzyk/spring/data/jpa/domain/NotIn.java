@@ -22,8 +22,11 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import net.kaczmarzyk.spring.data.jpa.utils.Converter;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * <p>Negation of {@link net.kaczmarzyk.spring.data.jpa.domain.In In}.</p>
@@ -37,7 +40,7 @@ import java.util.Arrays;
  *
  * @author Tomasz Kaczmarzyk
  */
-public class NotIn<T> extends PathSpecification<T> {
+public class NotIn<T> extends PathSpecification<T> implements Negation<T> {
 
     private static final long serialVersionUID = 1L;
 
@@ -60,6 +63,15 @@ public class NotIn<T> extends PathSpecification<T> {
         return path.in(converter.convert(Arrays.asList(allowedValues), typeOnPath)).not();
     }
 
+    @Override
+    public Specification<T> negatedSpec() {
+        return new In<>(queryContext(), path, allowedValues, converter);
+    }
+
+    public List<String> getAllowedValues() {
+        return Collections.unmodifiableList(Arrays.asList(allowedValues));
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
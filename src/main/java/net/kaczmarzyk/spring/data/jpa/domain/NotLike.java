@@ -19,6 +19,7 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import net.kaczmarzyk.spring.data.jpa.utils.Converter;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 import java.util.Arrays;
@@ -28,6 +29,8 @@ import java.util.Arrays;
  *
  * <p>Filters with {@code path not like %pattern%} where-clause.</p>
  *
+ * <p>As in {@code Like}, wildcards in the argument are escaped unless {@link Like#RAW_PATTERN} is set in the {@code config}.</p>
+ *
  * @author Tomasz Kaczmarzyk
  */
 public class NotLike<T> extends PathSpecification<T> implements WithoutTypeConversion {
@@ -36,18 +39,35 @@ public class NotLike<T> extends PathSpecification<T> implements WithoutTypeConve
 
     protected String pattern;
 
+    protected final boolean rawPattern;
+
     public NotLike(QueryContext queryContext, String path, String... args) {
+        this(queryContext, path, args, null, null);
+    }
+
+    public NotLike(QueryContext queryContext, String path, String[] args, Converter converter, String[] config) {
         super(queryContext, path);
         if (args == null || args.length != 1) {
             throw new IllegalArgumentException("Expected exactly one argument (the fragment to match against), but got: " + Arrays.toString(args));
         } else {
-            this.pattern = "%" + args[0] + "%";
+            this.rawPattern = Like.isRawPattern(config);
+            this.pattern = "%" + (rawPattern ? args[0] : Like.escapeWildcards(args[0])) + "%";
         }
     }
 
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
-        return builder.not(builder.like(this.path(root), pattern));
+        return builder.not(rawPattern
+                ? builder.like(this.path(root), pattern)
+                : builder.like(this.path(root), pattern, Like.ESCAPE_CHAR));
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public boolean isRawPattern() {
+        return rawPattern;
     }
 
     @Override
@@ -55,6 +75,7 @@ public class NotLike<T> extends PathSpecification<T> implements WithoutTypeConve
         final int prime = 31;
         int result = super.hashCode();
         result = prime * result + ((pattern == null) ? 0 : pattern.hashCode());
+        result = prime * result + (rawPattern ? 1231 : 1237);
         return result;
     }
 
@@ -70,6 +91,9 @@ public class NotLike<T> extends PathSpecification<T> implements WithoutTypeConve
             return false;
         }
         NotLike other = (NotLike) obj;
+        if (rawPattern != other.rawPattern) {
+            return false;
+        }
         if (pattern == null) {
             return other.pattern == null;
         } else {
@@ -79,7 +103,7 @@ public class NotLike<T> extends PathSpecification<T> implements WithoutTypeConve
 
     @Override
     public String toString() {
-        return "NotLike [pattern=" + pattern + "]";
+        return "NotLike [pattern=" + pattern + ", rawPattern=" + rawPattern + "]";
     }
 
 }
@@ -15,11 +15,15 @@
  */
 package net.kaczmarzyk.spring.data.jpa.domain;
 
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Root;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 import org.springframework.data.jpa.domain.Specification;
 
+import static net.kaczmarzyk.spring.data.jpa.utils.JoinRegistry.isJoinableForNavigation;
+
 
 /**
  * @author Tomasz Kaczmarzyk
@@ -36,23 +40,64 @@ public abstract class PathSpecification<T> implements Specification<T> {
         this.path = path;
     }
 
-    @SuppressWarnings("unchecked")
+    public String getPath() {
+        return path;
+    }
+
+    QueryContext queryContext() {
+        return queryContext;
+    }
+
     protected <F> Path<F> path(Root<T> root) {
+        return path(root, this.path);
+    }
+
+    /**
+     * Resolves the given path in the same way as the path of this specification (i.e. including join aliases).
+     */
+    @SuppressWarnings("unchecked")
+    protected <F> Path<F> path(Root<T> root, String path) {
+        String[] fields = path.split("\\.");
         Path<?> expr = null;
-        for (String field : path.split("\\.")) {
-            if (expr == null) {
-                if (queryContext != null && queryContext.getEvaluated(field, root) != null) {
-                    expr = queryContext.getEvaluated(field, root);
-                } else {
-                    expr = root.get(field);
-                }
+        for (int i = 0; i < fields.length; i++) {
+            String field = fields[i];
+            if (expr == null && queryContext != null && queryContext.getEvaluated(field, root) != null) {
+                expr = queryContext.getEvaluated(field, root);
             } else {
-                expr = expr.get(field);
+                expr = navigate(expr == null ? root : expr, field, i + 1 < fields.length ? fields[i + 1] : null);
             }
         }
         return (Path<F>) expr;
     }
 
+    /**
+     * Single-valued associations on the path (e.g. {@code customer} in {@code customer.address.city}) are joined
+     * through the query context, so that specs navigating through the same association share a single join
+     * instead of creating implicit joins of their own. Contexts without a join registry keep the implicit joins.
+     */
+    private Path<?> navigate(Path<?> expr, String field, String nextField) {
+        if (queryContext != null && nextField != null && expr instanceof From
+                && isJoinableForNavigation((From<?, ?>) expr, field, nextField)) {
+            Path<?> join = queryContext.join((From<?, ?>) expr, field, JoinType.INNER);
+            if (join != null) {
+                return join;
+            }
+        }
+        return expr.get(field);
+    }
+
+    /**
+     * @return the alias the path starts with, if it is an alias of a join with {@code EXISTS} strategy, {@code null} otherwise
+     */
+    String existsSubqueryAlias() {
+        int dotIndex = path.indexOf('.');
+        if (queryContext == null || dotIndex < 0) {
+            return null;
+        }
+        String alias = path.substring(0, dotIndex);
+        return queryContext.isExistsSubqueryAlias(alias) ? alias : null;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
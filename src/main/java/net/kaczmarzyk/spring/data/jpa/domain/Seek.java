@@ -0,0 +1,126 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Filters out the results up to (and including) the position of the cursor, in the order of its sort.
+ * I.e. {@code (key1, key2, id) > (:key1, :key2, :id)}, which is expanded to
+ * {@code key1 > :key1 or (key1 = :key1 and key2 > :key2) or (key1 = :key1 and key2 = :key2 and id > :id)},
+ * as JPA does not support row value comparisons ({@code <} is used for descending keys).</p>
+ *
+ * <p>The expanded predicate is preceded with {@code key1 >= :key1}, so that an index on the first key can be used
+ * for a range scan.</p>
+ *
+ * <p>The results must be ordered by the sort of the cursor (see {@code SpecificationRepository.findAllKeyset}).</p>
+ */
+public class Seek<T> implements Specification<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final KeysetCursor cursor;
+
+    public Seek(KeysetCursor cursor) {
+        this.cursor = cursor;
+    }
+
+    public KeysetCursor getCursor() {
+        return cursor;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        List<Sort.Order> orders = cursor.getOrders();
+        List<Expression<Comparable<Object>>> keys = new ArrayList<>();
+        List<Comparable<Object>> values = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            Path<Comparable<Object>> key = path(root, orders.get(i).getProperty());
+            keys.add(key);
+            values.add(value(key, cursor.getValues().get(i)));
+        }
+
+        List<Predicate> alternatives = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            List<Predicate> predicates = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                predicates.add(cb.equal(keys.get(j), values.get(j)));
+            }
+            predicates.add(orders.get(i).isAscending()
+                    ? cb.greaterThan(keys.get(i), values.get(i))
+                    : cb.lessThan(keys.get(i), values.get(i)));
+            alternatives.add(cb.and(predicates.toArray(new Predicate[0])));
+        }
+
+        Predicate range = orders.get(0).isAscending()
+                ? cb.greaterThanOrEqualTo(keys.get(0), values.get(0))
+                : cb.lessThanOrEqualTo(keys.get(0), values.get(0));
+        return cb.and(range, cb.or(alternatives.toArray(new Predicate[0])));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Path<Comparable<Object>> path(Root<T> root, String property) {
+        Path<?> path = root;
+        for (String field : property.split("\\.")) {
+            path = path.get(field);
+        }
+        return (Path<Comparable<Object>>) path;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Comparable<Object> value(Path<?> key, Object value) {
+        Class<?> keyType = key.getJavaType();
+        if (keyType != null && keyType.isEnum() && value instanceof String) {
+            return (Comparable<Object>) Enum.valueOf((Class<Enum>) keyType, (String) value);
+        }
+        return (Comparable<Object>) value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Seek<?> that = (Seek<?>) o;
+        return Objects.equals(cursor, that.cursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cursor);
+    }
+
+    @Override
+    public String toString() {
+        return "Seek["
+                + "cursor=" + cursor
+                + ']';
+    }
+}
@@ -15,10 +15,20 @@
  */
 package net.kaczmarzyk.spring.data.jpa.domain;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import net.kaczmarzyk.spring.data.jpa.utils.Converter;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 /**
- * parameter bound with appended %: {@code args[0] + "%"}
+ * parameter bound with appended %: {@code args[0] + "%"} (wildcards in {@code args[0]} are escaped unless {@link Like#RAW_PATTERN} is configured)
+ *
+ * <p>With {@link #PREFIX_RANGE} in the {@code config}, filters with {@code path >= 'abc' and path < 'abd'} instead,
+ * which many databases can serve with an index range scan regardless of collation or parameter binding.
+ * Please note that the range follows the ordering of the column collation, so it is equivalent to {@code like}
+ * only for collations which order strings by code points.</p>
  *
  * @param <T>
  * @author Matt S.Y. Ho
@@ -27,8 +37,57 @@ public class StartingWith<T> extends Like<T> {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Config value which makes the spec filter with a range of values instead of {@code like}.
+     */
+    public static final String PREFIX_RANGE = "prefixRange";
+
+    protected final String prefix;
+
+    protected final boolean prefixRange;
+
     public StartingWith(QueryContext queryCtx, String path, String... args) {
-        super(queryCtx, path, args);
-        this.pattern = args[0] + "%";
+        this(queryCtx, path, args, null, null);
+    }
+
+    public StartingWith(QueryContext queryCtx, String path, String[] args, Converter converter, String[] config) {
+        super(queryCtx, path, args, converter, config);
+        this.pattern = fragment(args[0]) + "%";
+        this.prefix = args[0];
+        this.prefixRange = hasOption(config, PREFIX_RANGE);
+        if (prefixRange && rawPattern) {
+            throw new IllegalArgumentException(PREFIX_RANGE + " cannot be combined with " + RAW_PATTERN);
+        }
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+        return prefixRange ? prefixRange(builder, this.path(root), prefix) : super.toPredicate(root, query, builder);
+    }
+
+    public boolean isPrefixRange() {
+        return prefixRange;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = super.hashCode();
+        result = prime * result + (prefixRange ? 1231 : 1237);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!super.equals(obj)) {
+            return false;
+        }
+        StartingWith<?> other = (StartingWith<?>) obj;
+        return prefixRange == other.prefixRange;
+    }
+
+    @Override
+    public String toString() {
+        return "StartingWith [pattern=" + pattern + ", rawPattern=" + rawPattern + ", prefixRange=" + prefixRange + "]";
     }
 }
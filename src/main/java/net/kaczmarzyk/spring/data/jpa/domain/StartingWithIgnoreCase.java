@@ -15,10 +15,18 @@
  */
 package net.kaczmarzyk.spring.data.jpa.domain;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import net.kaczmarzyk.spring.data.jpa.utils.Converter;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 /**
- * parameter bound with appended %: {@code args[0] + "%"}
+ * parameter bound with appended %: {@code args[0] + "%"} (wildcards in {@code args[0]} are escaped unless {@link Like#RAW_PATTERN} is configured)
+ *
+ * <p>Supports {@link StartingWith#PREFIX_RANGE} config as well. The range compares the case-folded column
+ * (e.g. {@code upper(path)}), so it can use only a functional index on the same expression.</p>
  *
  * @param <T>
  * @author Matt S.Y. Ho
@@ -27,8 +35,58 @@ public class StartingWithIgnoreCase<T> extends LikeIgnoreCase<T> {
 
     private static final long serialVersionUID = 1L;
 
+    protected final String prefix;
+
+    protected final String foldedPrefix;
+
+    protected final boolean prefixRange;
+
     public StartingWithIgnoreCase(QueryContext queryCtx, String path, String... args) {
-        super(queryCtx, path, args);
-        this.pattern = args[0] + "%";
+        this(queryCtx, path, args, null, null);
+    }
+
+    public StartingWithIgnoreCase(QueryContext queryCtx, String path, String[] args, Converter converter, String[] config) {
+        super(queryCtx, path, args, converter, config);
+        setPattern(fragment(args[0]) + "%");
+        this.prefix = args[0];
+        this.foldedPrefix = caseFolding.foldValue(prefix);
+        this.prefixRange = hasOption(config, StartingWith.PREFIX_RANGE);
+        if (prefixRange && rawPattern) {
+            throw new IllegalArgumentException(StartingWith.PREFIX_RANGE + " cannot be combined with " + RAW_PATTERN);
+        }
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+        return prefixRange
+                ? prefixRange(builder, caseFolding.fold(builder, comparedAttribute(root)), foldedPrefix)
+                : super.toPredicate(root, query, builder);
+    }
+
+    public boolean isPrefixRange() {
+        return prefixRange;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = super.hashCode();
+        result = prime * result + (prefixRange ? 1231 : 1237);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!super.equals(obj)) {
+            return false;
+        }
+        StartingWithIgnoreCase<?> other = (StartingWithIgnoreCase<?>) obj;
+        return prefixRange == other.prefixRange;
+    }
+
+    @Override
+    public String toString() {
+        return "StartingWithIgnoreCase [pattern=" + pattern + ", rawPattern=" + rawPattern + ", caseFolding=" + caseFolding
+                + ", prefixRange=" + prefixRange + "]";
     }
 }
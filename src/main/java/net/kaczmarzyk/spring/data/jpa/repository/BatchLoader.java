@@ -0,0 +1,184 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import net.kaczmarzyk.spring.data.jpa.domain.BatchLoad;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+import static net.kaczmarzyk.spring.data.jpa.utils.JoinPathUtils.pathToJoinContainsAlias;
+import static net.kaczmarzyk.spring.data.jpa.utils.JoinPathUtils.pathToJoinSplittedByDot;
+
+/**
+ * Initializes the associations defined with {@link BatchLoad} for the loaded entities, with a single query
+ * (e.g. {@code select c from Customer c left join fetch c.orders where c.id in (...)}) per association.
+ * The associated entities loaded this way can be used for the next level of loads, by the alias of the {@code BatchLoad}.
+ */
+class BatchLoader {
+
+    /**
+     * Limits the number of values in a single {@code in} clause, as some databases do not support long lists.
+     */
+    static final int MAX_IDS_PER_QUERY = 500;
+
+    private final EntityManager em;
+
+    BatchLoader(EntityManager em) {
+        this.em = em;
+    }
+
+    <T> void load(Class<T> rootType, Collection<T> roots, List<BatchLoad<T>> loads) {
+        if (roots.isEmpty() || loads.isEmpty()) {
+            return;
+        }
+        Map<String, LoadedEntities> loadedByAlias = new HashMap<>();
+        LoadedEntities rootEntities = new LoadedEntities(rootType, new ArrayList<>(roots));
+
+        for (BatchLoad<T> load : loads) {
+            for (String path : load.getPaths()) {
+                LoadedEntities owners = rootEntities;
+                String attribute = path;
+
+                if (pathToJoinContainsAlias(path)) {
+                    String[] pathSplittedByDot = pathToJoinSplittedByDot(path);
+                    owners = loadedByAlias.get(pathSplittedByDot[0]);
+                    attribute = pathSplittedByDot[1];
+
+                    if (owners == null) {
+                        throw new IllegalArgumentException(
+                                "Batch load definition with alias: '" + pathSplittedByDot[0] + "' not found! "
+                                        + "Make sure that batch load with the alias '" + pathSplittedByDot[0]
+                                        + "' is defined before the batch load with path: '" + path + "'"
+                        );
+                    }
+                }
+
+                LoadedEntities associated = load(owners, attribute);
+                if (!load.getAlias().isEmpty()) {
+                    loadedByAlias.put(load.getAlias(), associated);
+                }
+            }
+        }
+    }
+
+    private LoadedEntities load(LoadedEntities owners, String attributeName) {
+        EntityType<?> entityType = em.getMetamodel().entity(owners.type);
+        Attribute<?, ?> attribute = entityType.getAttribute(attributeName);
+        Class<?> associatedType = attribute instanceof PluralAttribute
+                ? ((PluralAttribute<?, ?, ?>) attribute).getElementType().getJavaType()
+                : attribute.getJavaType();
+
+        PersistenceUnitUtil persistenceUnitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
+        List<Object> idsToLoad = owners.entities.stream()
+                .filter(owner -> !persistenceUnitUtil.isLoaded(owner, attributeName))
+                .map(persistenceUnitUtil::getIdentifier)
+                .distinct()
+                .collect(toList());
+
+        for (int i = 0; i < idsToLoad.size(); i += MAX_IDS_PER_QUERY) {
+            fetch(owners.type, idAttributeName(entityType), attributeName,
+                    idsToLoad.subList(i, Math.min(i + MAX_IDS_PER_QUERY, idsToLoad.size())));
+        }
+
+        Set<Object> associated = new LinkedHashSet<>();
+        for (Object owner : owners.entities) {
+            Object value = valueOf(owner, attribute);
+            if (value instanceof Collection) {
+                associated.addAll((Collection<?>) value);
+            } else if (value instanceof Map) {
+                associated.addAll(((Map<?, ?>) value).values());
+            } else if (value != null) {
+                associated.add(value);
+            }
+        }
+        return new LoadedEntities(associatedType, new ArrayList<>(associated));
+    }
+
+    /**
+     * The owners are already in the persistence context, so the query initializes their associations.
+     */
+    private <O> void fetch(Class<O> ownerType, String idAttribute, String attribute, List<Object> ids) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<O> query = cb.createQuery(ownerType);
+        Root<O> root = query.from(ownerType);
+        root.fetch(attribute, JoinType.LEFT);
+        query.select(root).distinct(true).where(root.get(idAttribute).in(ids));
+
+        em.createQuery(query).getResultList();
+    }
+
+    private static String idAttributeName(EntityType<?> entityType) {
+        return entityType.getSingularAttributes().stream()
+                .filter(SingularAttribute::isId)
+                .map(Attribute::getName)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "Entities with composite ids defined with @IdClass are not supported: " + entityType.getJavaType()));
+    }
+
+    /**
+     * The getter is preferred over the field, as the owner may be an uninitialized proxy (e.g. loaded by a previous level).
+     */
+    private static Object valueOf(Object owner, Attribute<?, ?> attribute) {
+        PropertyDescriptor property = BeanUtils.getPropertyDescriptor(owner.getClass(), attribute.getName());
+        if (property != null && property.getReadMethod() != null) {
+            return ReflectionUtils.invokeMethod(property.getReadMethod(), owner);
+        }
+        Member member = attribute.getJavaMember();
+        if (member instanceof Field) {
+            ReflectionUtils.makeAccessible((Field) member);
+            return ReflectionUtils.getField((Field) member, owner);
+        } else if (member instanceof Method) {
+            ReflectionUtils.makeAccessible((Method) member);
+            return ReflectionUtils.invokeMethod((Method) member, owner);
+        }
+        return null;
+    }
+
+    private static class LoadedEntities {
+
+        private final Class<?> type;
+        private final List<?> entities;
+
+        LoadedEntities(Class<?> type, List<?> entities) {
+            this.type = type;
+            this.entities = entities;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Page with the total count bounded by a cap (see {@link SpecificationRepository#findAllWithCappedCount}).
+ * If the total was capped, {@link #getTotalElements()} is a lower bound of the actual total (e.g. "10,000+").
+ */
+public class CappedPage<T> extends PageImpl<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean totalCapped;
+
+    public CappedPage(List<T> content, Pageable pageable, long total, boolean totalCapped) {
+        super(content, pageable, total);
+        this.totalCapped = totalCapped;
+    }
+
+    /**
+     * @return {@code true} if there are more results than {@link #getTotalElements()}
+     */
+    public boolean isTotalCapped() {
+        return totalCapped;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CappedPage)) {
+            return false;
+        }
+        return super.equals(o) && totalCapped == ((CappedPage<?>) o).totalCapped;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + (totalCapped ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + (totalCapped ? " (total capped)" : "");
+    }
+}
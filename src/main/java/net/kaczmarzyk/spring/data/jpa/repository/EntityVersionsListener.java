@@ -0,0 +1,82 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import net.kaczmarzyk.spring.data.jpa.utils.EntityVersions;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * <p>Increments the {@link EntityVersions} of the entity types on the committed writes of the entities
+ * (so that a version is never observed before the data it represents). Requires Hibernate; register it
+ * with {@link #register(EntityManagerFactory, EntityVersions)}.</p>
+ *
+ * <p>Bulk updates and deletes (JPQL or native) do not trigger the listener, so the versions have to be incremented
+ * explicitly after them.</p>
+ */
+public class EntityVersionsListener
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient EntityVersions versions;
+
+    public EntityVersionsListener(EntityVersions versions) {
+        this.versions = versions;
+    }
+
+    public static void register(EntityManagerFactory entityManagerFactory, EntityVersions versions) {
+        PostCommitListeners.register(entityManagerFactory, new EntityVersionsListener(versions));
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        versions.increment(event.getPersister().getMappedClass());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        versions.increment(event.getPersister().getMappedClass());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        versions.increment(event.getPersister().getMappedClass());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return true;
+    }
+}
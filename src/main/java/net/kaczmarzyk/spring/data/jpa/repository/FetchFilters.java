@@ -0,0 +1,116 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinFetch;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static net.kaczmarzyk.spring.data.jpa.repository.SpecificationRepositoryImpl.partsOf;
+import static net.kaczmarzyk.spring.data.jpa.utils.JoinPathUtils.pathToJoinContainsAlias;
+import static net.kaczmarzyk.spring.data.jpa.utils.JoinPathUtils.pathToJoinSplittedByDot;
+
+/**
+ * <p>{@code INNER} fetches filter the results, but {@link JoinFetch} is applied only to the queries which select
+ * the root entity. This specification applies them as regular joins to the other queries of a search (e.g. the count query
+ * or the query selecting the ids of a page), so that these match the same entities. The fetches which an {@code INNER}
+ * fetch is made on (through an alias) are joined as well, with their own join types.</p>
+ *
+ * <p>The query is made distinct if a collection is joined, so that the entities are not counted multiple times.</p>
+ */
+final class FetchFilters<T> implements Specification<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<JoinFetch<?>> filteringFetches;
+
+    private FetchFilters(List<JoinFetch<?>> filteringFetches) {
+        this.filteringFetches = filteringFetches;
+    }
+
+    /**
+     * @return the filters of the fetches of the specification or {@code null} if no fetch filters the results
+     */
+    @SuppressWarnings("rawtypes")
+    static <T> Specification<T> of(Specification<T> spec) {
+        List<JoinFetch> fetches = partsOf(spec, JoinFetch.class);
+        List<JoinFetch<?>> filteringFetches = new ArrayList<>();
+        Set<String> requiredAliases = new HashSet<>();
+        for (int i = fetches.size() - 1; i >= 0; i--) {
+            JoinFetch<?> fetch = fetches.get(i);
+            if (fetch.getJoinType() == JoinType.INNER || (!fetch.getAlias().isEmpty() && requiredAliases.contains(fetch.getAlias()))) {
+                filteringFetches.add(0, fetch);
+                for (String path : fetch.getPathsToFetch()) {
+                    if (pathToJoinContainsAlias(path)) {
+                        requiredAliases.add(pathToJoinSplittedByDot(path)[0]);
+                    }
+                }
+            }
+        }
+        return filteringFetches.stream().anyMatch(fetch -> fetch.getJoinType() == JoinType.INNER)
+                ? new FetchFilters<>(filteringFetches)
+                : null;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if (query.getResultType().isAssignableFrom(root.getJavaType())) {
+            return null; // the fetches are applied by JoinFetch itself
+        }
+        Map<String, From<?, ?>> joinsByAlias = new HashMap<>();
+        for (JoinFetch<?> fetch : filteringFetches) {
+            for (String path : fetch.getPathsToFetch()) {
+                From<?, ?> from = root;
+                String attribute = path;
+                if (pathToJoinContainsAlias(path)) {
+                    String[] aliasAndAttribute = pathToJoinSplittedByDot(path);
+                    from = joinsByAlias.get(aliasAndAttribute[0]);
+                    attribute = aliasAndAttribute[1];
+                    if (from == null) {
+                        throw new IllegalArgumentException("Join fetch definition with alias: '" + aliasAndAttribute[0] + "' not found! "
+                                + "Make sure that join with the alias '" + aliasAndAttribute[0] + "' is defined before the join with path: '" + path + "'");
+                    }
+                }
+                Join<?, ?> join = from.join(attribute, fetch.getJoinType());
+                if (join.getAttribute().isCollection()) {
+                    query.distinct(true);
+                }
+                if (!fetch.getAlias().isEmpty()) {
+                    joinsByAlias.put(fetch.getAlias(), join);
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "FetchFilters[" + "filteringFetches=" + filteringFetches + ']';
+    }
+}
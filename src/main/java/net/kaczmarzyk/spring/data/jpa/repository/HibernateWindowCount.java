@@ -0,0 +1,59 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+/**
+ * Window functions are not supported by JPA Criteria API, so they are created with Hibernate's extension of it.
+ * This class must be used only if Hibernate is present (see {@link #isSupported(EntityManager)}).
+ */
+final class HibernateWindowCount {
+
+    private HibernateWindowCount() {
+    }
+
+    static boolean isSupported(EntityManager em) {
+        return em.getCriteriaBuilder() instanceof HibernateCriteriaBuilder
+                && em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                        .getJdbcServices().getDialect().supportsWindowFunctions();
+    }
+
+    /**
+     * <p>Returns {@code count(1) over ()}, i.e. the number of all the rows matching the query, in each of the returned rows.</p>
+     *
+     * <p>Window functions are evaluated before {@code DISTINCT}, so for a distinct query the ids are counted with
+     * {@code dense_rank() over (order by id) + dense_rank() over (order by id desc) - 1} instead
+     * ({@code count(distinct ...) over ()} is not supported by the databases).</p>
+     *
+     * <p>Must be called after the specification has been applied to the query, as it may make the query distinct.</p>
+     */
+    static Expression<Long> totalCount(CriteriaBuilder cb, CriteriaQuery<?> query, Path<?> id) {
+        HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+        if (!query.isDistinct()) {
+            return hcb.count(hcb.literal(1), hcb.createWindow());
+        }
+        Expression<Long> ascendingRank = hcb.denseRank(hcb.createWindow().orderBy(hcb.asc(id)));
+        Expression<Long> descendingRank = hcb.denseRank(hcb.createWindow().orderBy(hcb.desc(id)));
+        return hcb.diff(hcb.sum(ascendingRank, descendingRank), 1L);
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Results of a keyset (seek) pagination, see {@link SpecificationRepository#findAllKeyset}.
+ */
+public class KeysetSlice<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+
+    public KeysetSlice(List<T> content, String nextCursor) {
+        this.content = Collections.unmodifiableList(content);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * @return the token of the position after the last element (to be passed with the {@code @Seek} parameter
+     * to get the next slice), or {@code null} if there are no more results
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        KeysetSlice<?> that = (KeysetSlice<?>) o;
+        return Objects.equals(content, that.content)
+                && Objects.equals(nextCursor, that.nextCursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(content, nextCursor);
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetSlice["
+                + "content=" + content
+                + ", nextCursor=" + nextCursor
+                + ']';
+    }
+}
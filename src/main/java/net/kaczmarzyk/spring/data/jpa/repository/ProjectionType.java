@@ -0,0 +1,99 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Projection (a record or a closed interface projection) to which the selected properties of an entity are mapped.
+ */
+final class ProjectionType<P> {
+
+    private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
+    private final Class<P> type;
+    private final List<String> properties;
+    private final Constructor<P> recordConstructor;
+
+    private ProjectionType(Class<P> type, List<String> properties, Constructor<P> recordConstructor) {
+        this.type = type;
+        this.properties = properties;
+        this.recordConstructor = recordConstructor;
+    }
+
+    static <P> ProjectionType<P> of(Class<P> type) {
+        if (type.isRecord()) {
+            RecordComponent[] components = type.getRecordComponents();
+            Class<?>[] parameterTypes = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+            try {
+                Constructor<P> constructor = type.getDeclaredConstructor(parameterTypes);
+                ReflectionUtils.makeAccessible(constructor);
+                return new ProjectionType<>(type,
+                        Arrays.stream(components).map(RecordComponent::getName).collect(toList()),
+                        constructor);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("Canonical constructor of the record not found: " + type, e);
+            }
+        }
+        if (type.isInterface()) {
+            ProjectionInformation projectionInformation = PROJECTION_FACTORY.getProjectionInformation(type);
+            if (!projectionInformation.isClosed()) {
+                throw new IllegalArgumentException("Only closed interface projections are supported, but was: " + type);
+            }
+            return new ProjectionType<>(type,
+                    projectionInformation.getInputProperties().stream().map(PropertyDescriptor::getName).collect(toList()),
+                    null);
+        }
+        throw new IllegalArgumentException("Projection type must be a record or an interface, but was: " + type);
+    }
+
+    /**
+     * @return names of the properties to be selected (in the order expected by {@link #instantiate(Tuple)})
+     */
+    List<String> getProperties() {
+        return properties;
+    }
+
+    P instantiate(Tuple tuple) {
+        if (recordConstructor != null) {
+            try {
+                return recordConstructor.newInstance(tuple.toArray());
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException | IllegalArgumentException e) {
+                throw new IllegalStateException("Unable to create projection " + type + " from values: " + Arrays.toString(tuple.toArray()), e);
+            }
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < properties.size(); i++) {
+            values.put(properties.get(i), tuple.get(i));
+        }
+        return PROJECTION_FACTORY.createProjection(type, values);
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import net.kaczmarzyk.spring.data.jpa.utils.CountCache;
+import net.kaczmarzyk.spring.data.jpa.utils.ResultCache;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>Invalidates the results in {@link ResultCache} and the counts in {@link CountCache} which may be affected
+ * by the committed writes of the entities: inserts and deletes invalidate the results which depend on the entity type,
+ * updates - only the ones which depend on the updated attributes (or on the entity type, if Hibernate does not report
+ * the dirty attributes). Changes of collections (e.g. of {@code @ManyToMany} or {@code @ElementCollection}) invalidate
+ * the results which depend on the collection attribute of the owner, once the transaction is committed.
+ * Requires Hibernate; register it with {@link #register(EntityManagerFactory, ResultCache, CountCache)}.</p>
+ *
+ * <p>Bulk updates and deletes (JPQL or native) do not trigger the listener, so the results affected by them are invalidated
+ * only when they expire (or explicitly, with {@code ResultCache.invalidate(entityType)} and {@code CountCache.invalidate(entityType)}).</p>
+ */
+public class ResultCacheInvalidationListener
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener,
+        PostCollectionRecreateEventListener, PostCollectionUpdateEventListener, PostCollectionRemoveEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient ResultCache cache;
+    private final transient CountCache countCache;
+
+    public ResultCacheInvalidationListener(ResultCache cache) {
+        this(cache, null);
+    }
+
+    /**
+     * @param cache the cache of the results or {@code null} if only the counts are cached
+     * @param countCache the cache of the counts or {@code null} if only the results are cached
+     */
+    public ResultCacheInvalidationListener(ResultCache cache, CountCache countCache) {
+        this.cache = cache;
+        this.countCache = countCache;
+    }
+
+    public static void register(EntityManagerFactory entityManagerFactory, ResultCache cache) {
+        register(entityManagerFactory, cache, null);
+    }
+
+    /**
+     * @param cache the cache of the results or {@code null} if only the counts are cached
+     * @param countCache the cache of the counts or {@code null} if only the results are cached
+     */
+    public static void register(EntityManagerFactory entityManagerFactory, ResultCache cache, CountCache countCache) {
+        ResultCacheInvalidationListener listener = new ResultCacheInvalidationListener(cache, countCache);
+        PostCommitListeners.register(entityManagerFactory, listener);
+        PostCommitListeners.registerCollectionListener(entityManagerFactory, listener);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        invalidate(event.getPersister().getMappedClass());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        int[] dirtyProperties = event.getDirtyProperties();
+        if (dirtyProperties == null) {
+            invalidate(event.getPersister().getMappedClass());
+            return;
+        }
+        String[] propertyNames = event.getPersister().getPropertyNames();
+        List<String> updatedAttributes = new ArrayList<>();
+        for (int property : dirtyProperties) {
+            updatedAttributes.add(propertyNames[property]);
+        }
+        invalidate(event.getPersister().getMappedClass(), updatedAttributes);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalidate(event.getPersister().getMappedClass());
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        invalidateOnCommit(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        invalidateOnCommit(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        invalidateOnCommit(event);
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return true;
+    }
+
+    /**
+     * Collection events are fired on flush, so the results are invalidated only after the transaction is committed
+     * (otherwise the results of the uncommitted state could be cached again in the meantime). If the collection
+     * is no longer associated with its persister (e.g. as the owner has been deleted), all the results depending
+     * on the owner type are invalidated.
+     */
+    private void invalidateOnCommit(AbstractCollectionEvent event) {
+        Class<?> ownerType = event.getSession().getFactory().getMappingMetamodel()
+                .getEntityDescriptor(event.getAffectedOwnerEntityName())
+                .getMappedClass();
+        String attribute = collectionAttributeOf(event);
+        event.getSession().getActionQueue().registerProcess((success, session) -> {
+            if (success && attribute != null) {
+                invalidate(ownerType, Collections.singletonList(attribute));
+            } else if (success) {
+                invalidate(ownerType);
+            }
+        });
+    }
+
+    /**
+     * @return the attribute of the owner (i.e. the embedded one for collections in embeddables) or {@code null} if unknown
+     */
+    private static String collectionAttributeOf(AbstractCollectionEvent event) {
+        CollectionEntry entry = event.getSession().getPersistenceContextInternal().getCollectionEntry(event.getCollection());
+        CollectionPersister persister = entry == null ? null
+                : entry.getCurrentPersister() != null ? entry.getCurrentPersister() : entry.getLoadedPersister();
+        if (persister == null) {
+            return null;
+        }
+        return persister.getRole()
+                .substring(persister.getOwnerEntityPersister().getEntityName().length() + 1)
+                .split("\\.")[0];
+    }
+
+    private void invalidate(Class<?> entityType, List<String> updatedAttributes) {
+        if (cache != null) {
+            cache.invalidate(entityType, updatedAttributes);
+        }
+        if (countCache != null) {
+            countCache.invalidate(entityType, updatedAttributes);
+        }
+    }
+
+    private void invalidate(Class<?> entityType) {
+        if (cache != null) {
+            cache.invalidate(entityType);
+        }
+        if (countCache != null) {
+            countCache.invalidate(entityType);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import net.kaczmarzyk.spring.data.jpa.domain.BatchLoad;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedCount;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedResults;
+import net.kaczmarzyk.spring.data.jpa.domain.CoalescedSearch;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Disjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.EmptyResultOnTypeMismatch;
+import net.kaczmarzyk.spring.data.jpa.domain.EntityGraphFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.Fields;
+import net.kaczmarzyk.spring.data.jpa.domain.Join;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.PathSpecification;
+import net.kaczmarzyk.spring.data.jpa.domain.Seek;
+import net.kaczmarzyk.spring.data.jpa.utils.ResultCache;
+import net.kaczmarzyk.spring.data.jpa.web.SpecificationArgumentResolver;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static net.kaczmarzyk.spring.data.jpa.utils.JoinPathUtils.pathToJoinContainsAlias;
+
+/**
+ * <p>Works out statically which entity attributes the results of a specification depend on, i.e. the attributes referenced
+ * by the paths of the specs and joins (with the aliases resolved), sort and selections, together with the entity types
+ * they belong to (e.g. {@code o.itemName}, where {@code o} is the alias of the join on {@code orders}, depends on
+ * {@code Customer.orders} and {@code Order.itemName}, as well as on {@code Order.customer}, which {@code Customer.orders}
+ * is mapped by). The attributes of embeddables are represented by the attribute of the entity which embeds them.</p>
+ *
+ * <p>If the specification contains a spec of an unknown type (e.g. a custom one), the dependencies cannot be worked out
+ * and the result is {@code null}.</p>
+ */
+public final class ResultDependencies {
+
+    private final Metamodel metamodel;
+    private final Class<?> rootType;
+    private final Map<String, String> pathsByAlias = new HashMap<>();
+    private final List<String> paths = new ArrayList<>();
+
+    private ResultDependencies(Metamodel metamodel, Class<?> rootType) {
+        this.metamodel = metamodel;
+        this.rootType = rootType;
+    }
+
+    /**
+     * @param additionalPaths paths (relative to the root) used by the query besides the specification, e.g. sort or selections
+     * @return attributes by entity types or {@code null} if the dependencies cannot be worked out
+     */
+    static Map<Class<?>, Set<String>> of(Metamodel metamodel, Class<?> rootType, Specification<?> spec, Collection<String> additionalPaths) {
+        ResultDependencies dependencies = new ResultDependencies(metamodel, rootType);
+        if (!dependencies.collect(SpecificationArgumentResolver.unwrap(spec))) {
+            return null;
+        }
+        dependencies.paths.addAll(additionalPaths);
+        return dependencies.resolve();
+    }
+
+    /**
+     * @return the entity types the results of the specification depend on, including the joined ones,
+     * or {@code null} if the dependencies cannot be worked out
+     */
+    public static Set<Class<?>> entityTypesOf(Metamodel metamodel, Class<?> rootType, Specification<?> spec) {
+        Map<Class<?>, Set<String>> dependencies = of(metamodel, rootType, spec, Collections.emptyList());
+        return dependencies == null ? null : dependencies.keySet();
+    }
+
+    private boolean collect(Specification<?> spec) {
+        if (spec == null) {
+            return true;
+        } else if (spec instanceof Conjunction) {
+            return ((Conjunction<?>) spec).getInnerSpecs().stream().allMatch(this::collect);
+        } else if (spec instanceof Disjunction) {
+            return ((Disjunction<?>) spec).getInnerSpecs().stream().allMatch(this::collect);
+        } else if (spec instanceof EmptyResultOnTypeMismatch) {
+            return collect(((EmptyResultOnTypeMismatch<?>) spec).getWrappedSpec());
+        } else if (spec instanceof Join) {
+            Join<?> join = (Join<?>) spec;
+            pathsByAlias.put(join.getAlias(), join.getPathToJoinOn());
+            paths.add(join.getPathToJoinOn());
+        } else if (spec instanceof JoinFetch) {
+            JoinFetch<?> joinFetch = (JoinFetch<?>) spec;
+            if (joinFetch.getAlias() != null && !joinFetch.getAlias().isEmpty()) {
+                pathsByAlias.put(joinFetch.getAlias(), joinFetch.getPathsToFetch().get(0));
+            }
+            paths.addAll(joinFetch.getPathsToFetch());
+        } else if (spec instanceof Fields) {
+            paths.addAll(((Fields<?>) spec).getPaths());
+        } else if (spec instanceof PathSpecification) {
+            paths.add(((PathSpecification<?>) spec).getPath());
+        } else if (spec instanceof Seek) {
+            // the keys of the cursor are the sort properties
+        } else if (spec instanceof BatchLoad || spec instanceof EntityGraphFetch
+                || spec instanceof CachedCount || spec instanceof CachedResults || spec instanceof CoalescedSearch) {
+            // entities are loaded by ids when served from the cache, so the loads do not affect the cached results
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private Map<Class<?>, Set<String>> resolve() {
+        Map<Class<?>, Set<String>> dependencies = new LinkedHashMap<>();
+        dependencies.put(rootType, new HashSet<>());
+        for (String path : paths) {
+            ManagedType<?> type = metamodel.managedType(rootType);
+            for (String attributeName : withoutAliases(path).split("\\.")) {
+                if (type == null) {
+                    break;
+                }
+                Attribute<?, ?> attribute;
+                try {
+                    attribute = type.getAttribute(attributeName);
+                } catch (IllegalArgumentException e) {
+                    return null; // the query will fail anyway
+                }
+                if (type instanceof EntityType) {
+                    dependencies.computeIfAbsent(type.getJavaType(), entityType -> new HashSet<>()).add(attributeName);
+                }
+                type = managedTypeOf(attribute);
+                if (type instanceof EntityType) {
+                    dependencies.computeIfAbsent(type.getJavaType(), entityType -> new HashSet<>()).addAll(owningSideOf(attribute));
+                }
+            }
+        }
+        return dependencies;
+    }
+
+    /**
+     * Changes of a bidirectional association are written by its owning side, e.g. moving an {@code Order} to another
+     * customer updates {@code Order.customer}, not {@code Customer.orders}. If the mapping of the association is not known
+     * (e.g. it is defined in XML), the results depend on all the attributes of the associated entity.
+     *
+     * @return the attributes of the associated entity which the association is mapped by
+     */
+    private static Set<String> owningSideOf(Attribute<?, ?> attribute) {
+        if (!(attribute.getJavaMember() instanceof AnnotatedElement)) {
+            return Collections.singleton(ResultCache.ANY_ATTRIBUTE);
+        }
+        AnnotatedElement member = (AnnotatedElement) attribute.getJavaMember();
+        String mappedBy;
+        if (member.isAnnotationPresent(OneToMany.class)) {
+            mappedBy = member.getAnnotation(OneToMany.class).mappedBy();
+        } else if (member.isAnnotationPresent(ManyToMany.class)) {
+            mappedBy = member.getAnnotation(ManyToMany.class).mappedBy();
+        } else if (member.isAnnotationPresent(OneToOne.class)) {
+            mappedBy = member.getAnnotation(OneToOne.class).mappedBy();
+        } else if (member.isAnnotationPresent(ManyToOne.class)) {
+            mappedBy = ""; // always the owning side
+        } else {
+            return Collections.singleton(ResultCache.ANY_ATTRIBUTE);
+        }
+        // the owning side itself is recorded already
+        return mappedBy.isEmpty() ? Collections.emptySet() : Collections.singleton(mappedBy);
+    }
+
+    /**
+     * @return the type to navigate further or {@code null} for basic attributes. Attributes of embeddables are navigated,
+     * but not recorded (the attribute of the entity which embeds them already is)
+     */
+    private static ManagedType<?> managedTypeOf(Attribute<?, ?> attribute) {
+        Type<?> type = attribute instanceof PluralAttribute
+                ? ((PluralAttribute<?, ?, ?>) attribute).getElementType()
+                : ((SingularAttribute<?, ?>) attribute).getType();
+        return type instanceof ManagedType ? (ManagedType<?>) type : null;
+    }
+
+    private String withoutAliases(String path) {
+        String result = path;
+        Set<String> visitedAliases = new HashSet<>();
+        String alias = firstSegmentOf(result);
+        while (pathsByAlias.containsKey(alias) && visitedAliases.add(alias)) {
+            result = pathsByAlias.get(alias) + result.substring(alias.length());
+            alias = firstSegmentOf(result);
+        }
+        return result;
+    }
+
+    private static String firstSegmentOf(String path) {
+        return pathToJoinContainsAlias(path) ? path.substring(0, path.indexOf('.')) : path;
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.Map;
+
+/**
+ * <p>Repository with additional ways of executing the resolved specifications.</p>
+ *
+ * <p>To use it, extend it with your repository interfaces and register {@link SpecificationRepositoryImpl} as the base class
+ * of the repositories, i.e. {@code @EnableJpaRepositories(repositoryBaseClass = SpecificationRepositoryImpl.class)}.</p>
+ */
+@NoRepositoryBean
+public interface SpecificationRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecificationExecutor<T> {
+
+    /**
+     * <p>Executes the paged search in two phases, so that the fetches of the specification (see {@code @JoinFetch})
+     * do not prevent paging in the database:</p>
+     * <ol>
+     *     <li>the ids of the requested page are selected with the filters of the specification, but without fetches,</li>
+     *     <li>the entities with these ids are loaded with the fetches applied (and returned in the order of the first phase).</li>
+     * </ol>
+     *
+     * <p>With {@link #findAll(Specification, Pageable)}, fetching a collection makes the JPA provider load the whole result
+     * and apply paging in memory.</p>
+     */
+    Page<T> findAllPagingIdsFirst(Specification<T> spec, Pageable pageable);
+
+    /**
+     * <p>Returns the requested page of entities without the total count, i.e. without the count query (which, with the
+     * joins and filters of the specification, is often more expensive than the query of the page itself).
+     * Whether there is a next page is determined by fetching one more entity than the page size.</p>
+     */
+    Slice<T> findSlice(Specification<T> spec, Pageable pageable);
+
+    /**
+     * <p>Returns the requested page with the total count computed by the same query, with {@code count(*) over ()}
+     * window function, so the page is fetched in a single round trip (and the specification is applied only once).
+     * Fetches of the specification are not applied (as the entities are selected together with the count),
+     * batch loads are.</p>
+     *
+     * <p>Falls back to {@link #findAll(Specification, Pageable)} if the JPA provider is not Hibernate or the database
+     * does not support window functions. A separate count query is also executed if the requested page is beyond
+     * the last one (as there is no row to read the total from).</p>
+     */
+    Page<T> findAllWithWindowCount(Specification<T> spec, Pageable pageable);
+
+    /**
+     * <p>Returns the requested page with the total count bounded by {@code countCap}, i.e. the count query stops
+     * after {@code countCap + 1} matching entities, instead of counting all of them (e.g. for displaying "10,000+").</p>
+     *
+     * <p>The count query uses the same joins and filters (and the distinct flag) as the query of the page.
+     * It is not executed at all if the total is known from the page itself (as in {@link #findAll(Specification, Pageable)}).</p>
+     */
+    CappedPage<T> findAllWithCappedCount(Specification<T> spec, Pageable pageable, int countCap);
+
+    /**
+     * <p>Selects the fields defined with {@code @Fields} part of the specification (see
+     * {@link net.kaczmarzyk.spring.data.jpa.domain.Fields}) instead of loading the entities, so that they are neither
+     * hydrated nor tracked by the persistence context.</p>
+     *
+     * <p>Each element of the result maps the paths of the fields to their values.</p>
+     *
+     * @throws IllegalArgumentException if the specification does not define the fields
+     */
+    Page<Map<String, Object>> findAllFields(Specification<T> spec, Pageable pageable);
+
+    /**
+     * <p>Selects only the properties of the given projection type instead of loading the entities.
+     * The projection type must be a record or a closed interface projection, with the names of its properties
+     * matching the attributes of the entity.</p>
+     */
+    <P> Page<P> findAllProjected(Specification<T> spec, Class<P> projectionType, Pageable pageable);
+
+    /**
+     * <p>Keyset (seek) pagination: returns up to {@code limit} entities after the position of the cursor
+     * (defined with {@code @Seek} part of the specification, if any), without a count query. Unlike offset paging,
+     * the cost of the query does not depend on how far the client has scrolled.</p>
+     *
+     * <p>The results are ordered by the given sort, followed by the id (unless the sort already contains it),
+     * so that the position is unambiguous. The sort keys must not be null.</p>
+     *
+     * @throws IllegalArgumentException if the cursor was created for a different sort
+     */
+    KeysetSlice<T> findAllKeyset(Specification<T> spec, Sort sort, int limit);
+}
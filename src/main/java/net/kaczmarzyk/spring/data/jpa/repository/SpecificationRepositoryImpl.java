@@ -0,0 +1,658 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Subgraph;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.SingularAttribute;
+import net.kaczmarzyk.spring.data.jpa.domain.BatchLoad;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedCount;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedResults;
+import net.kaczmarzyk.spring.data.jpa.domain.CoalescedSearch;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.EntityGraphFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.Fields;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.KeysetCursor;
+import net.kaczmarzyk.spring.data.jpa.domain.Seek;
+import net.kaczmarzyk.spring.data.jpa.utils.SpecificationFingerprint;
+import net.kaczmarzyk.spring.data.jpa.web.SpecificationArgumentResolver;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Implementation of {@link SpecificationRepository}, to be registered as the base class of the repositories.
+ */
+public class SpecificationRepositoryImpl<T, ID> extends SimpleJpaRepository<T, ID> implements SpecificationRepository<T, ID> {
+
+    private static final boolean HIBERNATE_PRESENT = ClassUtils.isPresent(
+            "org.hibernate.query.criteria.HibernateCriteriaBuilder", SpecificationRepositoryImpl.class.getClassLoader());
+
+    private final JpaEntityInformation<T, ?> entityInformation;
+    private final EntityManager em;
+    private final BatchLoader batchLoader;
+    private final Map<EntityGraphFetch<?>, EntityGraph<T>> entityGraphs = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ProjectionType<?>> projectionTypes = new ConcurrentHashMap<>();
+    private final boolean windowFunctionsSupported;
+
+    public SpecificationRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityInformation = entityInformation;
+        this.em = entityManager;
+        this.batchLoader = new BatchLoader(entityManager);
+        this.windowFunctionsSupported = HIBERNATE_PRESENT && HibernateWindowCount.isSupported(entityManager);
+    }
+
+    @Override
+    public Optional<T> findOne(Specification<T> spec) {
+        Optional<T> result = super.findOne(spec);
+        result.ifPresent(entity -> batchLoad(spec, Collections.singletonList(entity)));
+        return result;
+    }
+
+    @Override
+    public List<T> findAll(Specification<T> spec) {
+        return findAll(spec, Sort.unsorted());
+    }
+
+    @Override
+    public List<T> findAll(Specification<T> spec, Sort sort) {
+        List<T> result = search(spec, "list", Pageable.unpaged(), sort, Collections.emptyList(),
+                () -> super.findAll(spec, sort),
+                entities -> new CachedPage<>(idsOf(entities), entities.size()),
+                shared -> findAllByIdsWithFetches(spec, shared.content));
+        return batchLoad(spec, result);
+    }
+
+    @Override
+    public Page<T> findAll(Specification<T> spec, Pageable pageable) {
+        Page<T> page = search(spec, "page", pageable, pageable.getSort(), Collections.emptyList(),
+                () -> {
+                    TypedQuery<T> query = getQuery(spec, pageable);
+                    if (pageable.isUnpaged()) {
+                        return new PageImpl<>(query.getResultList());
+                    }
+                    query.setFirstResult((int) pageable.getOffset());
+                    query.setMaxResults(pageable.getPageSize());
+                    return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+                },
+                entities -> new CachedPage<>(idsOf(entities.getContent()), entities.getTotalElements()),
+                shared -> new PageImpl<>(findAllByIdsWithFetches(spec, shared.content), pageable, shared.total));
+        batchLoad(spec, page.getContent());
+        return page;
+    }
+
+    @Override
+    public long count(Specification<T> spec) {
+        CachedCount<?> cachedCount = partOf(spec, CachedCount.class);
+        CoalescedSearch<?> coalescedSearch = partOf(spec, CoalescedSearch.class);
+        Specification<T> filter = withFetchFilters(spec);
+        LongSupplier count = coalescedSearch == null
+                ? () -> super.count(filter)
+                : () -> coalescedSearch.getSingleFlight().execute(countKey(coalescedSearch.getFingerprint()), () -> super.count(filter));
+        if (cachedCount == null) {
+            return count.getAsLong();
+        }
+        return cachedCount.getCache().get(countKey(cachedCount.getFingerprint()),
+                resultDependencies(spec, Sort.unsorted(), Collections.emptyList()), count);
+    }
+
+    @Override
+    public Page<T> findAllPagingIdsFirst(Specification<T> spec, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAll(spec, pageable.getSort()));
+        }
+        List<Object> ids = findPageOfIds(spec, pageable);
+        List<T> content = batchLoad(spec, findAllByIdsWithFetches(spec, ids));
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Slice<T> findSlice(Specification<T> spec, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(findAll(spec, pageable.getSort()));
+        }
+        TypedQuery<T> query = getQuery(spec, pageable.getSort());
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<T> results = query.getResultList();
+
+        boolean hasNext = results.size() > pageable.getPageSize();
+        List<T> content = hasNext ? new ArrayList<>(results.subList(0, pageable.getPageSize())) : results;
+        return new SliceImpl<>(batchLoad(spec, content), pageable, hasNext);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<T> findAllWithWindowCount(Specification<T> spec, Pageable pageable) {
+        if (!windowFunctionsSupported || pageable.isUnpaged() || hasFetches(spec)) {
+            // fetches are not applied to a tuple query (and INNER ones would no longer filter the results)
+            return findAll(spec, pageable);
+        }
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(getDomainClass());
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.multiselect(root, HibernateWindowCount.totalCount(cb, query, idPath(root)));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = em.createQuery(query);
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize());
+        List<Tuple> rows = typedQuery.getResultList();
+
+        if (rows.isEmpty()) {
+            return PageableExecutionUtils.getPage(Collections.emptyList(), pageable, () -> count(spec));
+        }
+        List<T> content = rows.stream()
+                .map(row -> (T) row.get(0))
+                .collect(toList());
+        long total = ((Number) rows.get(0).get(1)).longValue();
+        return new PageImpl<>(batchLoad(spec, content), pageable, total);
+    }
+
+    @Override
+    public CappedPage<T> findAllWithCappedCount(Specification<T> spec, Pageable pageable, int countCap) {
+        if (countCap < 1) {
+            throw new IllegalArgumentException("Count cap must be positive, but was: " + countCap);
+        }
+        if (pageable.isUnpaged()) {
+            List<T> content = findAll(spec, pageable.getSort());
+            return new CappedPage<>(content, pageable, content.size(), false);
+        }
+        TypedQuery<T> query = getQuery(spec, pageable);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        List<T> content = batchLoad(spec, query.getResultList());
+
+        if (content.size() < pageable.getPageSize() && (pageable.getOffset() == 0 || !content.isEmpty())) {
+            return new CappedPage<>(content, pageable, pageable.getOffset() + content.size(), false);
+        }
+        long count = countUpTo(spec, entityInformation.getIdType(), countCap + 1);
+        return count > countCap
+                ? new CappedPage<>(content, pageable, countCap, true)
+                : new CappedPage<>(content, pageable, count, false);
+    }
+
+    /**
+     * Selects the ids (rather than {@code count(*)}), so that the number of the scanned rows can be limited
+     * in a portable way. The distinct flag set by the specification (e.g. by {@code @Join}) is preserved,
+     * so the entities are not counted multiple times because of joined collections.
+     */
+    private <I> long countUpTo(Specification<T> spec, Class<I> idType, int limit) {
+        Specification<T> filter = withFetchFilters(spec);
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<I> query = cb.createQuery(idType);
+        Root<T> root = query.from(getDomainClass());
+
+        Predicate predicate = filter == null ? null : filter.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root.get(idAttributeName()));
+
+        return em.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList()
+                .size();
+    }
+
+    @Override
+    public KeysetSlice<T> findAllKeyset(Specification<T> spec, Sort sort, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive, but was: " + limit);
+        }
+        Sort keysetSort = keysetSort(sort);
+        for (Seek<?> seek : partsOf(spec, Seek.class)) {
+            if (!seek.getCursor().getSort().equals(keysetSort)) {
+                throw new IllegalArgumentException("Keyset cursor does not match the requested sort: " + keysetSort + ", cursor: " + seek.getCursor());
+            }
+        }
+
+        Slice<T> slice = findSlice(spec, PageRequest.of(0, limit, keysetSort));
+        if (!slice.hasNext()) {
+            return new KeysetSlice<>(slice.getContent(), null);
+        }
+        return new KeysetSlice<>(slice.getContent(), cursorAfter(slice.getContent().get(limit - 1), keysetSort).encode());
+    }
+
+    private Sort keysetSort(Sort sort) {
+        String idName = idAttributeName();
+        return sort.getOrderFor(idName) != null ? sort : sort.and(Sort.by(idName));
+    }
+
+    private KeysetCursor cursorAfter(T entity, Sort keysetSort) {
+        BeanWrapper entityWrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+        return new KeysetCursor(keysetSort, keysetSort.stream()
+                .map(order -> entityWrapper.getPropertyValue(order.getProperty()))
+                .collect(toList()));
+    }
+
+    @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public Page<Map<String, Object>> findAllFields(Specification<T> spec, Pageable pageable) {
+        List<Fields> fields = partsOf(spec, Fields.class);
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("Specification does not define the fields to select (see @Fields): " + spec);
+        }
+        List<String> paths = new ArrayList<>();
+        fields.forEach(part -> paths.addAll(part.getPaths()));
+
+        return findSelected(spec, pageable, "fields", Collections.emptyList(),
+                root -> fields.stream()
+                        .flatMap(part -> ((Fields<T>) part).selections(root).stream())
+                        .collect(toList()),
+                tuple -> {
+                    Map<String, Object> values = new LinkedHashMap<>();
+                    for (int i = 0; i < paths.size(); i++) {
+                        values.put(paths.get(i), tuple.get(i));
+                    }
+                    return Collections.unmodifiableMap(values); // the rows may be cached and shared between callers
+                });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <P> Page<P> findAllProjected(Specification<T> spec, Class<P> projectionType, Pageable pageable) {
+        ProjectionType<P> projection = (ProjectionType<P>) projectionTypes.computeIfAbsent(projectionType, ProjectionType::of);
+
+        return findSelected(spec, pageable, "projection:" + projectionType.getName(), projection.getProperties(),
+                root -> projection.getProperties().stream()
+                        .<Selection<?>>map(root::get)
+                        .collect(toList()),
+                projection::instantiate);
+    }
+
+    /**
+     * Executes a tuple query with the given selections, which are created after the specification has been applied
+     * (so that they can refer to its joins). Fetches of the specification are not applied, as the root is not selected.
+     */
+    private <P> Page<P> findSelected(Specification<T> spec, Pageable pageable, String resultType, Collection<String> selectedPaths,
+                                     Function<Root<T>, List<Selection<?>>> selections, Function<Tuple, P> mapper) {
+        return search(spec, resultType, pageable, pageable.getSort(), selectedPaths,
+                () -> findSelected(spec, pageable, selections, mapper),
+                page -> new CachedPage<>(page.getContent(), page.getTotalElements()),
+                shared -> new PageImpl<>(shared.content, pageable, shared.total));
+    }
+
+    private <P> Page<P> findSelected(Specification<T> spec, Pageable pageable,
+                                     Function<Root<T>, List<Selection<?>>> selections, Function<Tuple, P> mapper) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(getDomainClass());
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.multiselect(selections.apply(root));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = em.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<P> content = typedQuery.getResultList().stream()
+                .map(mapper)
+                .collect(toList());
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(content);
+        }
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    /**
+     * Select queries of the inherited methods are created here, so this is where the entity graph hint is applied
+     * (the count queries are created separately, so they are never affected).
+     */
+    @Override
+    protected <S extends T> TypedQuery<S> getQuery(Specification<S> spec, Class<S> domainClass, Sort sort) {
+        return withEntityGraph(super.getQuery(spec, domainClass, sort), spec);
+    }
+
+    /**
+     * Applies the fetch plan of the specification (see {@link EntityGraphFetch}), if any, as an entity graph hint.
+     * The entity graph is built once per fetch plan.
+     */
+    @SuppressWarnings("rawtypes")
+    protected <S> TypedQuery<S> withEntityGraph(TypedQuery<S> query, Specification<?> spec) {
+        for (EntityGraphFetch fetchPlan : partsOf(spec, EntityGraphFetch.class)) {
+            query.setHint(fetchPlan.getGraphType().getKey(), entityGraphs.computeIfAbsent(fetchPlan, this::toEntityGraph));
+        }
+        return query;
+    }
+
+    private EntityGraph<T> toEntityGraph(EntityGraphFetch<?> fetchPlan) {
+        Map<String, Object> attributeTree = new LinkedHashMap<>();
+        for (String attributePath : fetchPlan.getAttributePaths()) {
+            Map<String, Object> node = attributeTree;
+            for (String attribute : attributePath.split("\\.")) {
+                node = subtree(node, attribute);
+            }
+        }
+        EntityGraph<T> graph = em.createEntityGraph(getDomainClass());
+        for (Map.Entry<String, Object> attribute : attributeTree.entrySet()) {
+            if (asTree(attribute.getValue()).isEmpty()) {
+                graph.addAttributeNodes(attribute.getKey());
+            } else {
+                addSubgraph(graph.addSubgraph(attribute.getKey()), asTree(attribute.getValue()));
+            }
+        }
+        return graph;
+    }
+
+    private static void addSubgraph(Subgraph<?> subgraph, Map<String, Object> attributeTree) {
+        for (Map.Entry<String, Object> attribute : attributeTree.entrySet()) {
+            if (asTree(attribute.getValue()).isEmpty()) {
+                subgraph.addAttributeNodes(attribute.getKey());
+            } else {
+                addSubgraph(subgraph.addSubgraph(attribute.getKey()), asTree(attribute.getValue()));
+            }
+        }
+    }
+
+    private static Map<String, Object> subtree(Map<String, Object> tree, String attribute) {
+        return asTree(tree.computeIfAbsent(attribute, key -> new LinkedHashMap<String, Object>()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asTree(Object node) {
+        return (Map<String, Object>) node;
+    }
+
+    /**
+     * Initializes the associations defined with {@link BatchLoad} parts of the specification (if any).
+     */
+    @SuppressWarnings("unchecked")
+    protected List<T> batchLoad(Specification<T> spec, List<T> entities) {
+        List<BatchLoad<T>> loads = partsOf(spec, BatchLoad.class).stream()
+                .map(load -> (BatchLoad<T>) load)
+                .collect(toList());
+        batchLoader.load(getDomainClass(), entities, loads);
+        return entities;
+    }
+
+    /**
+     * The sort expressions are selected together with the ids, as the query may be distinct (e.g. because of {@code @Join})
+     * and some databases require the ordering of a distinct query to be based on the selected columns.
+     */
+    private List<Object> findPageOfIds(Specification<T> spec, Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(getDomainClass());
+
+        Specification<T> filter = withFetchFilters(spec);
+        Predicate predicate = filter == null ? null : filter.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        List<Order> orders = QueryUtils.toOrders(pageable.getSort(), root, cb);
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(idPath(root));
+        orders.forEach(order -> selections.add(order.getExpression()));
+        query.multiselect(selections).orderBy(orders);
+
+        TypedQuery<Tuple> typedQuery = em.createQuery(query);
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize());
+
+        // the ids may repeat if the page is sorted by an attribute of a joined collection
+        return new ArrayList<>(typedQuery.getResultList().stream()
+                .map(tuple -> tuple.get(0))
+                .collect(LinkedHashSet::new, LinkedHashSet::add, LinkedHashSet::addAll));
+    }
+
+    /**
+     * The ids are loaded in chunks of {@link BatchLoader#MAX_IDS_PER_QUERY} (e.g. all the ids of a cached unpaged result),
+     * as some databases do not support long {@code in} lists.
+     */
+    @SuppressWarnings("rawtypes")
+    private List<T> findAllByIdsWithFetches(Specification<T> spec, List<Object> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(getDomainClass());
+        Root<T> root = query.from(getDomainClass());
+
+        Specification<T> fetches = fetchesOf(spec);
+        if (fetches != null) {
+            fetches.toPredicate(root, query, cb);
+        }
+        ParameterExpression<Collection> idsParam = cb.parameter(Collection.class);
+        query.select(root).where(idPath(root).in(idsParam));
+        TypedQuery<T> typedQuery = withEntityGraph(em.createQuery(query), spec);
+
+        Map<Object, T> entitiesById = new HashMap<>();
+        for (int i = 0; i < ids.size(); i += BatchLoader.MAX_IDS_PER_QUERY) {
+            typedQuery.setParameter(idsParam, ids.subList(i, Math.min(i + BatchLoader.MAX_IDS_PER_QUERY, ids.size())));
+            for (T entity : typedQuery.getResultList()) {
+                entitiesById.putIfAbsent(entityInformation.getId(entity), entity);
+            }
+        }
+        return ids.stream()
+                .map(entitiesById::get)
+                .filter(Objects::nonNull)
+                .collect(toList());
+    }
+
+    /**
+     * Executes the search, unless its results are cached (see {@link CachedResults}) or the identical search is in flight
+     * (see {@link CoalescedSearch}) - in such case the results are shared. The entities are cached and shared by ids
+     * (and loaded by the callers), as they must not be shared between persistence contexts.
+     *
+     * @param toShared converts the results to the form which can be cached and shared
+     * @param fromShared converts the shared form back to the results
+     */
+    private <R, E> R search(Specification<T> spec, String resultType, Pageable pageable, Sort sort, Collection<String> selectedPaths,
+                            Supplier<R> search, Function<R, CachedPage<E>> toShared, Function<CachedPage<E>, R> fromShared) {
+        CachedResults<?> cachedResults = partOf(spec, CachedResults.class);
+        CoalescedSearch<?> coalescedSearch = partOf(spec, CoalescedSearch.class);
+        if (cachedResults == null && coalescedSearch == null) {
+            return search.get();
+        }
+        SpecificationFingerprint fingerprint = cachedResults != null ? cachedResults.getFingerprint() : coalescedSearch.getFingerprint();
+        String key = resultKey(fingerprint, resultType, pageable, sort);
+        if (cachedResults != null) {
+            CachedPage<E> cached = cachedResults.getCache().getIfPresent(key);
+            if (cached != null) {
+                return fromShared.apply(cached);
+            }
+        }
+
+        AtomicReference<R> ownResult = new AtomicReference<>();
+        Supplier<CachedPage<E>> searchAndShare = () -> {
+            Map<Class<?>, Set<String>> dependencies = cachedResults != null ? resultDependencies(spec, sort, selectedPaths) : null;
+            long invalidationStamp = cachedResults != null ? cachedResults.getCache().invalidationStamp(dependencies) : 0;
+            R result = search.get();
+            ownResult.set(result);
+            CachedPage<E> shared = toShared.apply(result);
+            if (cachedResults != null) {
+                cachedResults.getCache().put(key, shared, cachedResults.getTimeToLive(), dependencies, invalidationStamp);
+            }
+            return shared;
+        };
+        CachedPage<E> shared = coalescedSearch == null
+                ? searchAndShare.get()
+                : coalescedSearch.getSingleFlight().execute(key, searchAndShare);
+
+        return ownResult.get() != null ? ownResult.get() : fromShared.apply(shared);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static <S extends Specification> S partOf(Specification<?> spec, Class<? super S> type) {
+        List<S> parts = partsOf(spec, (Class<S>) type);
+        return parts.isEmpty() ? null : parts.get(0);
+    }
+
+    /**
+     * The key consists of the entity type, the type of the result (e.g. a page of entities or of a projection),
+     * the fingerprint of the specification and the requested page and sort.
+     */
+    private String resultKey(SpecificationFingerprint fingerprint, String resultType, Pageable pageable, Sort sort) {
+        String page = pageable.isPaged() ? pageable.getOffset() + "+" + pageable.getPageSize() : "unpaged";
+        String orders = sort.stream()
+                .map(order -> order.getProperty() + " " + order.getDirection() + " " + order.getNullHandling()
+                        + (order.isIgnoreCase() ? " ignoreCase" : ""))
+                .collect(joining(","));
+        return getDomainClass().getName() + ":" + resultType + ":" + fingerprint.getDigest()
+                + ":" + page + ":" + orders;
+    }
+
+    private String countKey(SpecificationFingerprint fingerprint) {
+        return getDomainClass().getName() + ":" + fingerprint.getDigest();
+    }
+
+    /**
+     * The results depend on the attributes used by the specification, the sort and the selections
+     * (the fields selected with {@code @Fields} are part of the specification)
+     */
+    private Map<Class<?>, Set<String>> resultDependencies(Specification<T> spec, Sort sort, Collection<String> selectedPaths) {
+        List<String> paths = new ArrayList<>(selectedPaths);
+        sort.forEach(order -> paths.add(order.getProperty()));
+        return ResultDependencies.of(em.getMetamodel(), getDomainClass(), spec, paths);
+    }
+
+    private List<Object> idsOf(List<T> entities) {
+        return entities.stream()
+                .map(entity -> (Object) entityInformation.getId(entity))
+                .collect(toList());
+    }
+
+    private Path<Object> idPath(Root<T> root) {
+        return root.get(idAttributeName());
+    }
+
+    private String idAttributeName() {
+        SingularAttribute<? super T, ?> idAttribute = entityInformation.getIdAttribute();
+        if (idAttribute == null) {
+            throw new IllegalStateException("Entities with composite ids defined with @IdClass are not supported: " + getDomainClass());
+        }
+        return idAttribute.getName();
+    }
+
+    /**
+     * @return the specification with its filtering fetches applied as joins to the queries which do not select the root
+     * (see {@link FetchFilters})
+     */
+    static <T> Specification<T> withFetchFilters(Specification<T> spec) {
+        Specification<T> fetchFilters = FetchFilters.of(spec);
+        return fetchFilters == null ? spec : new Conjunction<>(SpecificationArgumentResolver.unwrap(spec), fetchFilters);
+    }
+
+    private static boolean hasFetches(Specification<?> spec) {
+        return !partsOf(spec, JoinFetch.class).isEmpty() || !partsOf(spec, EntityGraphFetch.class).isEmpty();
+    }
+
+    /**
+     * @return the fetches of the specification (in the original order, as multi-level fetches depend on it)
+     * or {@code null} if there are none
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static <T> Specification<T> fetchesOf(Specification<T> spec) {
+        List<JoinFetch> fetches = partsOf(spec, JoinFetch.class);
+        return fetches.isEmpty() ? null : new Conjunction<>(fetches.stream().map(fetch -> (Specification<T>) fetch).collect(toList()));
+    }
+
+    /**
+     * @return the specs of the given type from the (conjunctive part of) the specification tree, in the original order
+     */
+    @SuppressWarnings("rawtypes")
+    static <S extends Specification> List<S> partsOf(Specification<?> spec, Class<S> type) {
+        List<S> parts = new ArrayList<>();
+        collectParts(SpecificationArgumentResolver.unwrap(spec), type, parts);
+        return parts;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static <S extends Specification> void collectParts(Specification<?> spec, Class<S> type, List<S> parts) {
+        if (spec instanceof Conjunction) {
+            for (Specification<?> inner : ((Conjunction<?>) spec).getInnerSpecs()) {
+                collectParts(inner, type, parts);
+            }
+        } else if (type.isInstance(spec)) {
+            parts.add(type.cast(spec));
+        }
+    }
+
+    /**
+     * Cached content of a page (ids of the entities or projections) with the total count.
+     */
+    private static final class CachedPage<E> {
+
+        private final List<E> content;
+        private final long total;
+
+        private CachedPage(List<E> content, long total) {
+            this.content = Collections.unmodifiableList(new ArrayList<>(content));
+            this.total = total;
+        }
+    }
+}
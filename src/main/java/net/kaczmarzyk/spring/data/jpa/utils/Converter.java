@@ -16,18 +16,26 @@
 package net.kaczmarzyk.spring.data.jpa.utils;
 
 import net.kaczmarzyk.spring.data.jpa.web.annotation.OnTypeMismatch;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.core.convert.ConversionService;
 
 import java.math.BigDecimal;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
@@ -50,6 +58,10 @@ public final class Converter {
     private static final BiFunction<Enum<?>, String, Boolean> ENUM_MATCHER_CASE_INSENSITIVE =
             (enumVal, rawValue) -> enumVal.name().equalsIgnoreCase(rawValue);
 
+    private static final Collection<Class<?>> TIMESTAMP_TYPES = Arrays.asList(Date.class, LocalDateTime.class, OffsetDateTime.class, Instant.class);
+    private static final String TIME_OF_DAY_PATTERN_LETTERS = "HhkKmsSAnNaB";
+    private static final String DAY_PATTERN_LETTERS = "dD";
+
     static {
         DEFAULT_DATE_FORMATS.put(Date.class, "yyyy-MM-dd");
         DEFAULT_DATE_FORMATS.put(LocalDate.class, "yyyy-MM-dd");
@@ -59,11 +71,13 @@ public final class Converter {
     }
 
     private final String dateFormat;
+    private final boolean dayPrecisionDateFormat;
     private final OnTypeMismatch onTypeMismatch;
     private final ConversionService conversionService;
 
     private Converter(String dateFormat, OnTypeMismatch onTypeMismatch, ConversionService conversionService) {
         this.dateFormat = dateFormat;
+        this.dayPrecisionDateFormat = dateFormat != null && isDayPrecision(dateFormat);
         this.onTypeMismatch = onTypeMismatch;
         this.conversionService = conversionService;
     }
@@ -132,6 +146,81 @@ public final class Converter {
         return (T) value;
     }
 
+    /**
+     * @return {@code true} if the configured date format has only day precision (e.g. {@code yyyy-MM-dd}),
+     * but the given type is a timestamp, i.e. a value should be matched as a whole day rather than midnight
+     */
+    public boolean isDayBucket(Class<?> expectedClass) {
+        return dayPrecisionDateFormat && TIMESTAMP_TYPES.contains(expectedClass);
+    }
+
+    /**
+     * Converts a day (in the configured date format) into the half-open range of timestamps: {@code [start of the day, start of the next day)}.
+     * The time zone from the date format is used if there is one, the default one otherwise.
+     */
+    public <T> Pair<T, T> convertToDayRange(String value, Class<T> expectedClass) {
+        if (expectedClass == Date.class) {
+            Date startOfDay = convertToDate(value);
+            Calendar nextDay = Calendar.getInstance();
+            nextDay.setTime(startOfDay);
+            nextDay.add(Calendar.DAY_OF_MONTH, 1);
+            return (Pair<T, T>) Pair.of(startOfDay, nextDay.getTime());
+        }
+        ZonedDateTime startOfDay = parseStartOfDay(value, expectedClass);
+        ZonedDateTime startOfNextDay = startOfDay.toLocalDate().plusDays(1).atStartOfDay(startOfDay.getZone());
+        if (expectedClass == LocalDateTime.class) {
+            return (Pair<T, T>) Pair.of(startOfDay.toLocalDateTime(), startOfNextDay.toLocalDateTime());
+        } else if (expectedClass == OffsetDateTime.class) {
+            return (Pair<T, T>) Pair.of(startOfDay.toOffsetDateTime(), startOfNextDay.toOffsetDateTime());
+        } else if (expectedClass == Instant.class) {
+            return (Pair<T, T>) Pair.of(startOfDay.toInstant(), startOfNextDay.toInstant());
+        }
+        throw new IllegalArgumentException("Day ranges are not supported for " + expectedClass);
+    }
+
+    public <T> List<Pair<T, T>> convertToDayRanges(List<String> values, Class<T> expectedClass) {
+        List<String> rejected = null;
+        List<Pair<T, T>> result = new ArrayList<>();
+        for (String value : values) {
+            try {
+                result.add(convertToDayRange(value, expectedClass));
+            } catch (ValueRejectedException e) {
+                if (rejected == null) {
+                    rejected = new ArrayList<>();
+                }
+                rejected.add(e.getRejectedValue());
+            }
+        }
+        onTypeMismatch.handleRejectedValues(rejected);
+        return result;
+    }
+
+    private ZonedDateTime parseStartOfDay(String value, Class<?> expectedClass) {
+        String dateFormat = getDateFormat(expectedClass);
+        try {
+            TemporalAccessor parsed = DateTimeFormatter.ofPattern(dateFormat).parse(value);
+            ZoneId zone = parsed.query(TemporalQueries.zone());
+            return LocalDate.from(parsed).atStartOfDay(zone != null ? zone : ZoneId.systemDefault());
+        } catch (DateTimeException | IllegalArgumentException e) {
+            throw new ValueRejectedException(value, expectedClass.getSimpleName() + " format exception, expected format: " + dateFormat);
+        }
+    }
+
+    private static boolean isDayPrecision(String dateFormat) {
+        boolean hasDay = false;
+        boolean quoted = false;
+        for (char c : dateFormat.toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && TIME_OF_DAY_PATTERN_LETTERS.indexOf(c) >= 0) {
+                return false;
+            } else if (!quoted && DAY_PATTERN_LETTERS.indexOf(c) >= 0) {
+                hasDay = true;
+            }
+        }
+        return hasDay;
+    }
+
     private boolean isAssignableFromAnyOf(Class<?> expectedClass, Class<?>... candidates) {
         for (Class<?> candidate : candidates) {
             if (expectedClass.isAssignableFrom(candidate)) {
@@ -0,0 +1,180 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>Cache of total counts of specification searches, keyed by the fingerprint of the specification
+ * (see {@link SpecificationFingerprint}), so that paging through the results executes the count query only once
+ * per combination of filters.</p>
+ *
+ * <p>The entries expire after the given time and the least recently used entries are evicted when the size limit is reached.
+ * As in {@link ResultCache}, the counts can be registered with the entity types and attributes they depend on, so that
+ * they are invalidated as soon as the entities are written (see {@link #invalidate(Class)} and {@link #invalidate(Class, Collection)}),
+ * and a count computed while such write was committed is not cached. Otherwise, the counts may be stale up to the time to live.</p>
+ */
+public class CountCache {
+
+    private final Map<String, Entry> entries;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final InvalidationIndex invalidationIndex = new InvalidationIndex();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CountCache(int maxSize, Duration timeToLive) {
+        this(maxSize, timeToLive, Clock.systemUTC());
+    }
+
+    CountCache(int maxSize, Duration timeToLive, Clock clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max size must be positive, but was: " + maxSize);
+        }
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxSize) {
+                    invalidationIndex.unregister(eldest.getKey(), eldest.getValue().dependencies);
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached count or executes the count (outside of the lock, so a slow count query does not block
+     * the other keys) and caches it. The count is invalidated only when it expires or by {@link #invalidate(String)}
+     * (or {@link #invalidateAll()}).
+     */
+    public long get(String key, LongSupplier count) {
+        return get(key, Map.of(), count);
+    }
+
+    /**
+     * Returns the cached count as {@link #get(String, LongSupplier)}, and registers the executed count to be invalidated
+     * by the writes of the entities it depends on (see {@link ResultCache#put(String, Object, Duration, Map)}).
+     * The count is not cached if such write is reported while the count is executed.
+     */
+    public long get(String key, Map<Class<?>, Set<String>> dependencies, LongSupplier count) {
+        long now = clock.millis();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                hits.increment();
+                return entry.count;
+            }
+        }
+        misses.increment();
+        long invalidationStamp = invalidationIndex.stampOf(dependencies);
+        long result = count.getAsLong();
+        synchronized (entries) {
+            Entry replaced = entries.put(key, new Entry(result, now + timeToLive.toMillis(), dependencies));
+            if (replaced != null) {
+                invalidationIndex.unregister(key, replaced.dependencies);
+            }
+            invalidationIndex.register(key, dependencies);
+            // checked after the key has been registered, so that a concurrent write either changes the stamp or finds the key
+            if (invalidationIndex.stampOf(dependencies) != invalidationStamp) {
+                entries.remove(key);
+                invalidationIndex.unregister(key, dependencies);
+            }
+        }
+        return result;
+    }
+
+    public void invalidate(String key) {
+        synchronized (entries) {
+            Entry removed = entries.remove(key);
+            if (removed != null) {
+                invalidationIndex.unregister(key, removed.dependencies);
+            }
+        }
+    }
+
+    /**
+     * Invalidates the counts which may be affected by an insert or delete of an entity of the given type.
+     */
+    public void invalidate(Class<?> entityType) {
+        invalidationIndex.recordWrite(entityType);
+        invalidationIndex.keysAffectedBy(entityType).forEach(this::invalidate);
+    }
+
+    /**
+     * Invalidates the counts which may be affected by an update of the given attributes of an entity of the given type.
+     */
+    public void invalidate(Class<?> entityType, Collection<String> updatedAttributes) {
+        invalidationIndex.recordWrite(entityType);
+        invalidationIndex.keysAffectedBy(entityType, updatedAttributes).forEach(this::invalidate);
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            invalidationIndex.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "CountCache[size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+                + ", evictions=" + getEvictionCount() + ']';
+    }
+
+    private static final class Entry {
+
+        private final long count;
+        private final long expiresAt;
+        private final Map<Class<?>, Set<String>> dependencies;
+
+        private Entry(long count, long expiresAt, Map<Class<?>, Set<String>> dependencies) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+            this.dependencies = dependencies;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+/**
+ * <p>Version counters of the entity types, incremented on every committed write of an entity of the type
+ * (see {@code EntityVersionsListener}). Used for the ETags of the search endpoints annotated with {@code @ConditionalSearch}:
+ * the results of a search can change only if the version of one of the entity types it depends on has changed.</p>
+ *
+ * <p>{@link InMemoryEntityVersions} reflects only the writes made through the same instance of the application.
+ * An implementation backed by a store shared by the instances (e.g. a table or a distributed cache) makes the ETags
+ * valid across all of them.</p>
+ */
+public interface EntityVersions {
+
+    void increment(Class<?> entityType);
+
+    /**
+     * @return the version of the entity type, which includes the writes of its subtypes
+     */
+    long getVersion(Class<?> entityType);
+}
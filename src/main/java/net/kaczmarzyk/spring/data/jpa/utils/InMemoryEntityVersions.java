@@ -0,0 +1,51 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link EntityVersions} kept in memory, so they reflect only the writes made through the same instance of the application
+ * (a write made by another instance does not change them).
+ */
+public class InMemoryEntityVersions implements EntityVersions {
+
+    private final ConcurrentMap<Class<?>, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public void increment(Class<?> entityType) {
+        versions.computeIfAbsent(entityType, type -> new AtomicLong()).incrementAndGet();
+    }
+
+    @Override
+    public long getVersion(Class<?> entityType) {
+        long version = 0;
+        for (Map.Entry<Class<?>, AtomicLong> entry : versions.entrySet()) {
+            if (entityType.isAssignableFrom(entry.getKey())) {
+                version += entry.getValue().get();
+            }
+        }
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryEntityVersions[versions=" + versions + ']';
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * <p>Index of the keys of {@link ResultCache} (and {@link CountCache}) by the entity types and attributes the cached results depend on.</p>
+ *
+ * <p>It also counts the writes by entity types, so that a result computed while an entity it depends on was written
+ * is not cached: the cache takes a stamp of the dependencies before the search (see {@link #stampOf(Map)}),
+ * registers the result and then discards it if the stamp has changed. As a write is recorded before the affected keys
+ * are looked up, the result is either discarded by the cache or found by the invalidation.</p>
+ */
+class InvalidationIndex {
+
+    /**
+     * Keys of the results which depend on the existence of the entities (i.e. on inserts and deletes) are registered under this attribute.
+     */
+    private static final String EXISTENCE = "";
+
+    private final Map<Class<?>, Map<String, Set<String>>> keysByEntityAttribute = new ConcurrentHashMap<>();
+    private final Set<String> keysDependingOnAnything = ConcurrentHashMap.newKeySet();
+
+    private final Map<Class<?>, AtomicLong> writesByEntityType = new ConcurrentHashMap<>();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong clears = new AtomicLong();
+
+    /**
+     * @param dependencies attributes by entity types, or {@code null} if the result may depend on anything
+     */
+    void register(String key, Map<Class<?>, Set<String>> dependencies) {
+        if (dependencies == null) {
+            keysDependingOnAnything.add(key);
+            return;
+        }
+        dependencies.forEach((entityType, attributes) -> {
+            Map<String, Set<String>> keysByAttribute = keysByEntityAttribute.computeIfAbsent(entityType, type -> new ConcurrentHashMap<>());
+            add(keysByAttribute, EXISTENCE, key);
+            for (String attribute : attributes) {
+                add(keysByAttribute, attribute, key);
+            }
+        });
+    }
+
+    void unregister(String key, Map<Class<?>, Set<String>> dependencies) {
+        if (dependencies == null) {
+            keysDependingOnAnything.remove(key);
+            return;
+        }
+        dependencies.forEach((entityType, attributes) -> {
+            Map<String, Set<String>> keysByAttribute = keysByEntityAttribute.get(entityType);
+            if (keysByAttribute == null) {
+                return;
+            }
+            remove(keysByAttribute, EXISTENCE, key);
+            for (String attribute : attributes) {
+                remove(keysByAttribute, attribute, key);
+            }
+        });
+    }
+
+    /**
+     * @return keys of the results which may be affected by the insert or delete of an entity of the given type
+     */
+    Set<String> keysAffectedBy(Class<?> entityType) {
+        Set<String> keys = new HashSet<>(keysDependingOnAnything);
+        forEntityType(entityType, keysByAttribute -> keysByAttribute.values().forEach(keys::addAll));
+        return keys;
+    }
+
+    /**
+     * @return keys of the results which may be affected by the update of the given attributes of an entity of the given type
+     */
+    Set<String> keysAffectedBy(Class<?> entityType, Collection<String> attributes) {
+        Set<String> keys = new HashSet<>(keysDependingOnAnything);
+        forEntityType(entityType, keysByAttribute -> {
+            addAll(keys, keysByAttribute.get(ResultCache.ANY_ATTRIBUTE));
+            for (String attribute : attributes) {
+                addAll(keys, keysByAttribute.get(attribute));
+            }
+        });
+        return keys;
+    }
+
+    void clear() {
+        clears.incrementAndGet();
+        writes.incrementAndGet();
+        keysByEntityAttribute.clear();
+        keysDependingOnAnything.clear();
+    }
+
+    /**
+     * Records a write of an entity of the given type. It has to be called before the affected keys are looked up.
+     * The write counts for the supertypes as well, as the results registered for them are affected by it.
+     */
+    void recordWrite(Class<?> entityType) {
+        writes.incrementAndGet();
+        for (Class<?> type = entityType; type != null && type != Object.class; type = type.getSuperclass()) {
+            writesByEntityType.computeIfAbsent(type, key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * @param dependencies attributes by entity types, or {@code null} if the result may depend on anything
+     * @return the stamp which changes whenever an entity of one of the given types is written (or the index is cleared).
+     * The write counters only grow, so their sum changes if any of them does.
+     */
+    long stampOf(Map<Class<?>, Set<String>> dependencies) {
+        if (dependencies == null) {
+            return writes.get();
+        }
+        long stamp = clears.get();
+        for (Class<?> entityType : dependencies.keySet()) {
+            AtomicLong entityTypeWrites = writesByEntityType.get(entityType);
+            if (entityTypeWrites != null) {
+                stamp += entityTypeWrites.get();
+            }
+        }
+        return stamp;
+    }
+
+    /**
+     * The results registered for a supertype (e.g. a query on the base entity) are affected by writes of the subtypes as well
+     */
+    private void forEntityType(Class<?> entityType, Consumer<Map<String, Set<String>>> action) {
+        keysByEntityAttribute.forEach((registeredType, keysByAttribute) -> {
+            if (registeredType.isAssignableFrom(entityType)) {
+                action.accept(keysByAttribute);
+            }
+        });
+    }
+
+    private static void addAll(Set<String> keys, Set<String> keysToAdd) {
+        if (keysToAdd != null) {
+            keys.addAll(keysToAdd);
+        }
+    }
+
+    private static void add(Map<String, Set<String>> keysByAttribute, String attribute, String key) {
+        keysByAttribute.compute(attribute, (name, keys) -> {
+            Set<String> result = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+            result.add(key);
+            return result;
+        });
+    }
+
+    private static void remove(Map<String, Set<String>> keysByAttribute, String attribute, String key) {
+        keysByAttribute.computeIfPresent(attribute, (name, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+}
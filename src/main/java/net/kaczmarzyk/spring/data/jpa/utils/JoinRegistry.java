@@ -0,0 +1,107 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.IdentifiableType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * <p>Keeps track of the joins made on each {@code From} (root or join) of a query, so that a single-valued association
+ * (e.g. {@code @ManyToOne}) is joined only once per join type -- regardless of whether it is joined explicitly
+ * with {@code @Join} (possibly with different aliases) or implicitly by a dotted path (e.g. {@code customer.address.city}).</p>
+ *
+ * <p>Joins to collections are never reused, as each join to a collection can match a different element
+ * (e.g. {@code o1.itemName = 'Beer' and o2.itemName = 'Donuts'}).</p>
+ */
+public class JoinRegistry {
+
+    private final Map<From<?, ?>, Map<Pair<String, JoinType>, Join<?, ?>>> joins = new IdentityHashMap<>();
+
+    /**
+     * Joins the attribute or returns the join made before on the same {@code From} with the same join type.
+     */
+    public Join<?, ?> join(From<?, ?> from, String attribute, JoinType joinType) {
+        if (!isSingularAssociation(from, attribute)) {
+            return from.join(attribute, joinType);
+        }
+        return joins.computeIfAbsent(from, key -> new HashMap<>())
+                .computeIfAbsent(Pair.of(attribute, joinType), key -> from.join(attribute, joinType));
+    }
+
+    /**
+     * Whether the attribute of the {@code From} is a single-valued association, which can be navigated to through a reusable join
+     * instead of an implicit one. Navigation to the identifier of the associated entity (e.g. {@code customer.id})
+     * is better left implicit, as it does not require a join at all.
+     */
+    public static boolean isJoinableForNavigation(From<?, ?> from, String attribute, String nextAttribute) {
+        if (!isSingularAssociation(from, attribute)) {
+            return false;
+        }
+        Type<?> target = ((SingularAttribute<?, ?>) managedType(from).getAttribute(attribute)).getType();
+        return !(target instanceof IdentifiableType && isIdAttribute((IdentifiableType<?>) target, nextAttribute));
+    }
+
+    static boolean isSingularAssociation(From<?, ?> from, String attribute) {
+        ManagedType<?> managedType = managedType(from);
+        if (managedType == null) {
+            return false;
+        }
+        Attribute<?, ?> attr;
+        try {
+            attr = managedType.getAttribute(attribute);
+        } catch (IllegalArgumentException e) {
+            return false; // unknown attribute, let the provider report it
+        }
+        return attr.isAssociation() && !attr.isCollection();
+    }
+
+    private static ManagedType<?> managedType(From<?, ?> from) {
+        Type<?> type;
+        if (from instanceof Root) {
+            return ((Root<?>) from).getModel();
+        } else if (from instanceof Join) {
+            Attribute<?, ?> attribute = ((Join<?, ?>) from).getAttribute();
+            if (attribute instanceof PluralAttribute) {
+                type = ((PluralAttribute<?, ?, ?>) attribute).getElementType();
+            } else if (attribute instanceof SingularAttribute) {
+                type = ((SingularAttribute<?, ?>) attribute).getType();
+            } else {
+                return null;
+            }
+        } else {
+            return null;
+        }
+        return type instanceof ManagedType ? (ManagedType<?>) type : null;
+    }
+
+    private static boolean isIdAttribute(IdentifiableType<?> type, String attribute) {
+        return type.getSingularAttributes().stream()
+                .anyMatch(attr -> attr.isId() && attr.getName().equals(attribute));
+    }
+}
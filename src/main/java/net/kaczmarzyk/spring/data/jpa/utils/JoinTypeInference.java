@@ -0,0 +1,161 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import jakarta.persistence.criteria.JoinType;
+import net.kaczmarzyk.spring.data.jpa.domain.Between;
+import net.kaczmarzyk.spring.data.jpa.domain.ComparableSpecification;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Disjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.EmptyResultOnTypeMismatch;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.EqualIgnoreCase;
+import net.kaczmarzyk.spring.data.jpa.domain.In;
+import net.kaczmarzyk.spring.data.jpa.domain.Join;
+import net.kaczmarzyk.spring.data.jpa.domain.Like;
+import net.kaczmarzyk.spring.data.jpa.domain.NotEqual;
+import net.kaczmarzyk.spring.data.jpa.domain.NotEqualIgnoreCase;
+import net.kaczmarzyk.spring.data.jpa.domain.NotLike;
+import net.kaczmarzyk.spring.data.jpa.domain.PathSpecification;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.JoinStrategy;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static net.kaczmarzyk.spring.data.jpa.utils.JoinPathUtils.pathToJoinContainsAlias;
+
+/**
+ * <p>Rewrites {@code LEFT} joins of a resolved specification tree into {@code INNER} ones, if the specs ANDed with the join
+ * reject {@code null} values of the joined entity anyway (e.g. {@code Equal} on {@code o.itemName} can never match a customer without orders).
+ * In such case both join types return the same results, but the inner join leaves the database more freedom in reordering the joins.</p>
+ *
+ * <p>Only the specs known to reject nulls are taken into account ({@code Equal}, {@code In}, {@code Like}, comparisons etc.).
+ * {@code Null}, {@code NotNull}, {@code NotIn} and custom specs never cause the rewrite.
+ * A disjunction rejects nulls only on the aliases on which all of its branches reject them.</p>
+ */
+public final class JoinTypeInference {
+
+    private JoinTypeInference() {
+    }
+
+    public static <T> Specification<T> inferJoinTypes(Specification<T> spec) {
+        Map<String, Join<T>> joinsByAlias = new HashMap<>();
+        collectJoins(spec, joinsByAlias);
+
+        if (joinsByAlias.values().stream().noneMatch(join -> join.getJoinType() == JoinType.LEFT)) {
+            return spec;
+        }
+
+        Set<String> innerAliases = withParentAliases(nullRejectedAliases(spec), joinsByAlias);
+        return rewrite(spec, innerAliases);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void collectJoins(Specification<T> spec, Map<String, Join<T>> joinsByAlias) {
+        if (spec instanceof Conjunction) {
+            for (Specification<T> inner : ((Conjunction<T>) spec).getInnerSpecs()) {
+                collectJoins(inner, joinsByAlias);
+            }
+        } else if (spec instanceof Join && ((Join<T>) spec).getStrategy() == JoinStrategy.JOIN) {
+            joinsByAlias.put(((Join<T>) spec).getAlias(), (Join<T>) spec);
+        }
+    }
+
+    /**
+     * @return aliases which must not be null for the spec to match
+     */
+    private static Set<String> nullRejectedAliases(Specification<?> spec) {
+        if (spec instanceof Conjunction) {
+            Set<String> aliases = new HashSet<>();
+            for (Specification<?> inner : ((Conjunction<?>) spec).getInnerSpecs()) {
+                aliases.addAll(nullRejectedAliases(inner));
+            }
+            return aliases;
+        } else if (spec instanceof Disjunction) {
+            Iterator<? extends Specification<?>> branches = ((Disjunction<?>) spec).getInnerSpecs().iterator();
+            if (!branches.hasNext()) {
+                return Collections.emptySet();
+            }
+            Set<String> aliases = new HashSet<>(nullRejectedAliases(branches.next()));
+            while (branches.hasNext()) {
+                aliases.retainAll(nullRejectedAliases(branches.next()));
+            }
+            return aliases;
+        } else if (spec instanceof EmptyResultOnTypeMismatch) {
+            return nullRejectedAliases(((EmptyResultOnTypeMismatch<?>) spec).getWrappedSpec());
+        } else if (rejectsNulls(spec)) {
+            String path = ((PathSpecification<?>) spec).getPath();
+            return pathToJoinContainsAlias(path)
+                    ? Collections.singleton(path.substring(0, path.indexOf('.')))
+                    : Collections.emptySet();
+        }
+        return Collections.emptySet();
+    }
+
+    private static boolean rejectsNulls(Specification<?> spec) {
+        return spec instanceof Equal
+                || spec instanceof EqualIgnoreCase
+                || spec instanceof NotEqual
+                || spec instanceof NotEqualIgnoreCase
+                || spec instanceof In
+                || spec instanceof Like
+                || spec instanceof NotLike
+                || spec instanceof ComparableSpecification
+                || spec instanceof Between;
+    }
+
+    /**
+     * An inner join on a nested alias (e.g. {@code o.tags}) requires its parent alias ({@code o}) not to be null as well
+     */
+    private static <T> Set<String> withParentAliases(Set<String> aliases, Map<String, Join<T>> joinsByAlias) {
+        Set<String> result = new HashSet<>();
+        for (String alias : aliases) {
+            String current = alias;
+            while (current != null && joinsByAlias.containsKey(current) && result.add(current)) {
+                String pathToJoinOn = joinsByAlias.get(current).getPathToJoinOn();
+                current = pathToJoinContainsAlias(pathToJoinOn) ? pathToJoinOn.substring(0, pathToJoinOn.indexOf('.')) : null;
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Specification<T> rewrite(Specification<T> spec, Set<String> innerAliases) {
+        if (spec instanceof Conjunction) {
+            List<Specification<T>> rewritten = new ArrayList<>();
+            boolean changed = false;
+            for (Specification<T> inner : ((Conjunction<T>) spec).getInnerSpecs()) {
+                Specification<T> rewrittenInner = rewrite(inner, innerAliases);
+                changed |= rewrittenInner != inner;
+                rewritten.add(rewrittenInner);
+            }
+            return changed ? new Conjunction<>(rewritten) : spec;
+        } else if (spec instanceof Join) {
+            Join<T> join = (Join<T>) spec;
+            if (join.getJoinType() == JoinType.LEFT && join.getStrategy() == JoinStrategy.JOIN && innerAliases.contains(join.getAlias())) {
+                return join.withJoinType(JoinType.INNER);
+            }
+        }
+        return spec;
+    }
+}
@@ -15,8 +15,9 @@
  */
 package net.kaczmarzyk.spring.data.jpa.utils;
 
-import org.springframework.util.AntPathMatcher;
-import org.springframework.util.PathMatcher;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.util.Map;
 
@@ -32,10 +33,17 @@ public final class PathVariableResolver {
     }
 
     public static Map<String, String> resolvePathVariables(String pathPattern, String actualPath) {
-        PathMatcher pathMatcher = new AntPathMatcher();
+        return resolvePathVariables(PathPatternParser.defaultInstance.parse(pathPattern), actualPath);
+    }
+
+    /**
+     * Variant for already parsed patterns, so that callers can parse the pattern once and reuse it across requests.
+     */
+    public static Map<String, String> resolvePathVariables(PathPattern pathPattern, String actualPath) {
+        PathPattern.PathMatchInfo matchInfo = pathPattern.matchAndExtract(PathContainer.parsePath(actualPath));
 
-        if (pathMatcher.match(pathPattern, actualPath)) {
-            return pathMatcher.extractUriTemplateVariables(pathPattern, actualPath);
+        if (matchInfo != null) {
+            return matchInfo.getUriVariables();
         } else {
             return emptyMap();
         }
@@ -16,7 +16,9 @@
 package net.kaczmarzyk.spring.data.jpa.utils;
 
 import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Root;
 
 import java.util.function.Function;
@@ -36,4 +38,25 @@ public interface QueryContext {
 
     void putEvaluatedJoinFetch(String key, Fetch<?, ?> fetch);
 
+    /**
+     * Marks the alias as one which filters should be applied with a correlated {@code exists} subquery.
+     * Contexts which do not support it ignore the mark, so the filters are applied to a regular join.
+     */
+    default void putExistsSubqueryAlias(String key) {
+    }
+
+    default boolean isExistsSubqueryAlias(String key) {
+        return false;
+    }
+
+    /**
+     * Joins the attribute of the given root or join, reusing a join made before on the same association.
+     *
+     * @return the join or {@code null} if the context does not keep a {@link JoinRegistry} for the query
+     * (the default), in which case the caller joins (or navigates) the attribute on its own
+     */
+    default Join<?, ?> join(From<?, ?> from, String attribute, JoinType joinType) {
+        return null;
+    }
+
 }
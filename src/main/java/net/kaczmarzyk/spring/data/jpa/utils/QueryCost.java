@@ -0,0 +1,110 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+/**
+ * <p>Static cost estimation of a resolved specification tree (see {@link QueryCostAnalyzer}).</p>
+ *
+ * <p>The score is a rough, database-agnostic heuristic: each join, fetch, predicate, OR-branch, {@code IN} value
+ * and leading-wildcard pattern adds a fixed weight. It is meant to rank requests against each other, not to predict
+ * the actual execution time.</p>
+ */
+public final class QueryCost {
+
+    static final int JOIN_WEIGHT = 10;
+    static final int FETCH_WEIGHT = 20;
+    static final int PREDICATE_WEIGHT = 1;
+    static final int OR_BRANCH_WEIGHT = 5;
+    static final int IN_VALUE_WEIGHT = 1;
+    static final int LEADING_WILDCARD_WEIGHT = 50;
+
+    private final int joins;
+    private final int fetches;
+    private final int predicates;
+    private final int maxOrBreadth;
+    private final int totalOrBranches;
+    private final int totalInValues;
+    private final int maxInValues;
+    private final int leadingWildcardPatterns;
+
+    QueryCost(int joins, int fetches, int predicates, int maxOrBreadth, int totalOrBranches,
+              int totalInValues, int maxInValues, int leadingWildcardPatterns) {
+        this.joins = joins;
+        this.fetches = fetches;
+        this.predicates = predicates;
+        this.maxOrBreadth = maxOrBreadth;
+        this.totalOrBranches = totalOrBranches;
+        this.totalInValues = totalInValues;
+        this.maxInValues = maxInValues;
+        this.leadingWildcardPatterns = leadingWildcardPatterns;
+    }
+
+    public int getJoins() {
+        return joins;
+    }
+
+    /**
+     * The number of fetched collections (see {@link QueryCostAnalyzer} for when every fetched path is counted)
+     */
+    public int getFetches() {
+        return fetches;
+    }
+
+    public int getPredicates() {
+        return predicates;
+    }
+
+    /**
+     * The number of branches of the widest disjunction in the tree
+     */
+    public int getMaxOrBreadth() {
+        return maxOrBreadth;
+    }
+
+    public int getTotalInValues() {
+        return totalInValues;
+    }
+
+    /**
+     * The size of the longest single {@code IN}/{@code NOT IN} list in the tree
+     */
+    public int getMaxInValues() {
+        return maxInValues;
+    }
+
+    /**
+     * The number of {@code LIKE} patterns starting with a wildcard, i.e. the ones which cannot use a b-tree index
+     */
+    public int getLeadingWildcardPatterns() {
+        return leadingWildcardPatterns;
+    }
+
+    public int getScore() {
+        return joins * JOIN_WEIGHT
+                + fetches * FETCH_WEIGHT
+                + predicates * PREDICATE_WEIGHT
+                + totalOrBranches * OR_BRANCH_WEIGHT
+                + totalInValues * IN_VALUE_WEIGHT
+                + leadingWildcardPatterns * LEADING_WILDCARD_WEIGHT;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCost [joins=" + joins + ", fetches=" + fetches + ", predicates=" + predicates
+                + ", maxOrBreadth=" + maxOrBreadth + ", totalOrBranches=" + totalOrBranches + ", totalInValues=" + totalInValues + ", maxInValues=" + maxInValues
+                + ", leadingWildcardPatterns=" + leadingWildcardPatterns + ", score=" + getScore() + "]";
+    }
+}
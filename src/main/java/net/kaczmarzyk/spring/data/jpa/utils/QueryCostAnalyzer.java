@@ -0,0 +1,205 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import net.kaczmarzyk.spring.data.jpa.domain.BatchLoad;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Disjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.EmptyResultOnTypeMismatch;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedCount;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedResults;
+import net.kaczmarzyk.spring.data.jpa.domain.CoalescedSearch;
+import net.kaczmarzyk.spring.data.jpa.domain.EntityGraphFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.Fields;
+import net.kaczmarzyk.spring.data.jpa.domain.In;
+import net.kaczmarzyk.spring.data.jpa.domain.Join;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.Like;
+import net.kaczmarzyk.spring.data.jpa.domain.Negation;
+import net.kaczmarzyk.spring.data.jpa.domain.NotLike;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static net.kaczmarzyk.spring.data.jpa.utils.JoinPathUtils.pathToJoinContainsAlias;
+import static net.kaczmarzyk.spring.data.jpa.utils.JoinPathUtils.pathToJoinSplittedByDot;
+
+/**
+ * Computes {@link QueryCost} of a resolved specification tree without touching the database.
+ * Specifications which are not known to the analyzer (e.g. custom ones) are counted as a single predicate.
+ * Only fetches of collections are counted, which requires the metamodel and the type of the root entity
+ * (without them, or if an attribute cannot be resolved, every fetched path is counted).
+ */
+public final class QueryCostAnalyzer {
+
+    private int joins;
+    private int fetches;
+    private int predicates;
+    private int maxOrBreadth;
+    private int totalOrBranches;
+    private int totalInValues;
+    private int maxInValues;
+    private int leadingWildcardPatterns;
+
+    private final ManagedType<?> rootType;
+    private final Map<String, ManagedType<?>> fetchAliases = new HashMap<>();
+
+    private QueryCostAnalyzer(ManagedType<?> rootType) {
+        this.rootType = rootType;
+    }
+
+    public static QueryCost analyze(Specification<?> spec) {
+        return analyze(spec, null, null);
+    }
+
+    public static QueryCost analyze(Specification<?> spec, Metamodel metamodel, Class<?> rootType) {
+        QueryCostAnalyzer analyzer = new QueryCostAnalyzer(managedTypeOrNull(metamodel, rootType));
+        if (spec != null) {
+            analyzer.visit(spec);
+        }
+        return new QueryCost(analyzer.joins, analyzer.fetches, analyzer.predicates, analyzer.maxOrBreadth,
+                analyzer.totalOrBranches, analyzer.totalInValues, analyzer.maxInValues, analyzer.leadingWildcardPatterns);
+    }
+
+    public static boolean isLeadingWildcardPattern(String pattern) {
+        return pattern != null && (pattern.startsWith("%") || pattern.startsWith("_"));
+    }
+
+    private void visit(Specification<?> spec) {
+        if (spec instanceof Conjunction) {
+            for (Specification<?> inner : ((Conjunction<?>) spec).getInnerSpecs()) {
+                visit(inner);
+            }
+        } else if (spec instanceof Disjunction) {
+            int breadth = ((Disjunction<?>) spec).getInnerSpecs().size();
+            maxOrBreadth = Math.max(maxOrBreadth, breadth);
+            totalOrBranches += breadth;
+            for (Specification<?> inner : ((Disjunction<?>) spec).getInnerSpecs()) {
+                visit(inner);
+            }
+        } else if (spec instanceof EmptyResultOnTypeMismatch) {
+            visit(((EmptyResultOnTypeMismatch<?>) spec).getWrappedSpec());
+        } else if (spec instanceof Negation) {
+            // negating does not make the query cheaper (e.g. a negated IN list or disjunction is as expensive as the original one)
+            visit(((Negation<?>) spec).negatedSpec());
+        } else if (spec instanceof Join) {
+            joins++;
+        } else if (spec instanceof BatchLoad) {
+            // executed after the query, does not affect its cost
+        } else if (spec instanceof CachedCount || spec instanceof CachedResults || spec instanceof CoalescedSearch) {
+            // does not affect the query
+        } else if (spec instanceof Fields) {
+            // selected columns, the joins they use are counted separately
+        } else if (spec instanceof JoinFetch) {
+            visitFetch((JoinFetch<?>) spec);
+        } else if (spec instanceof EntityGraphFetch) {
+            for (String attributePath : ((EntityGraphFetch<?>) spec).getAttributePaths()) {
+                visitGraphPath(attributePath);
+            }
+        } else if (spec instanceof In) {
+            visitInValues(((In<?>) spec).getAllowedValues().size());
+        } else if (spec instanceof Like) {
+            visitPattern(((Like<?>) spec).getPattern());
+        } else if (spec instanceof NotLike) {
+            visitPattern(((NotLike<?>) spec).getPattern());
+        } else {
+            predicates++;
+        }
+    }
+
+    private void visitFetch(JoinFetch<?> fetch) {
+        for (String path : fetch.getPathsToFetch()) {
+            ManagedType<?> from = rootType;
+            String attributeName = path;
+            if (pathToJoinContainsAlias(path)) {
+                String[] aliasAndAttribute = pathToJoinSplittedByDot(path);
+                from = fetchAliases.get(aliasAndAttribute[0]);
+                attributeName = aliasAndAttribute[1];
+            }
+            Attribute<?, ?> attribute = attributeOrNull(from, attributeName);
+            if (attribute == null || attribute.isCollection()) {
+                fetches++;
+            }
+            if (!fetch.getAlias().isEmpty()) {
+                fetchAliases.put(fetch.getAlias(), targetTypeOrNull(attribute));
+            }
+        }
+    }
+
+    private void visitGraphPath(String attributePath) {
+        ManagedType<?> from = rootType;
+        Attribute<?, ?> attribute = null;
+        for (String attributeName : attributePath.split("\\.")) {
+            attribute = attributeOrNull(from, attributeName);
+            from = targetTypeOrNull(attribute);
+        }
+        if (attribute == null || attribute.isCollection()) {
+            fetches++;
+        }
+    }
+
+    private static Attribute<?, ?> attributeOrNull(ManagedType<?> type, String attributeName) {
+        if (type == null) {
+            return null;
+        }
+        try {
+            return type.getAttribute(attributeName);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static ManagedType<?> targetTypeOrNull(Attribute<?, ?> attribute) {
+        Type<?> type = null;
+        if (attribute instanceof PluralAttribute) {
+            type = ((PluralAttribute<?, ?, ?>) attribute).getElementType();
+        } else if (attribute instanceof SingularAttribute) {
+            type = ((SingularAttribute<?, ?>) attribute).getType();
+        }
+        return type instanceof ManagedType ? (ManagedType<?>) type : null;
+    }
+
+    private static ManagedType<?> managedTypeOrNull(Metamodel metamodel, Class<?> type) {
+        if (metamodel == null || type == null) {
+            return null;
+        }
+        try {
+            return metamodel.managedType(type);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void visitInValues(int size) {
+        predicates++;
+        totalInValues += size;
+        maxInValues = Math.max(maxInValues, size);
+    }
+
+    private void visitPattern(String pattern) {
+        predicates++;
+        if (isLeadingWildcardPattern(pattern)) {
+            leadingWildcardPatterns++;
+        }
+    }
+}
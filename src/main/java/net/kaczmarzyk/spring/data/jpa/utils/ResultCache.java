@@ -0,0 +1,328 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Cache of the results of specification searches (ids of the entities or projections), used by {@code SpecificationRepository}
+ * for the specifications resolved from parameters annotated with {@code @CacheResults}.</p>
+ *
+ * <p>The cache is bounded by the number of entries and split into segments with separate locks, so that the concurrent
+ * requests do not contend on a single lock. Each segment evicts the least recently used entry, but only if the new entry
+ * has been requested more often recently than the evicted one (the frequencies are estimated with a small sketch
+ * which is halved periodically, as in TinyLFU). This keeps the frequently repeated searches in the cache
+ * even if there are many one-off ones.</p>
+ *
+ * <p>The time to live is set per entry (i.e. per endpoint). Additionally, the entries can be registered with the entity types
+ * and attributes the results depend on, so that they are invalidated as soon as the entities are written
+ * (see {@link #invalidate(Class)} and {@link #invalidate(Class, Collection)}) instead of serving stale data until they expire.
+ * A result of the search during which such write has been committed is not cached, if the stamp of its dependencies
+ * has been taken before the search (see {@link #invalidationStamp(Map)}).</p>
+ */
+public class ResultCache {
+
+    /**
+     * Registering a result with this attribute makes it depend on all the attributes of the entity type.
+     */
+    public static final String ANY_ATTRIBUTE = "*";
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final Clock clock;
+    private final InvalidationIndex invalidationIndex = new InvalidationIndex();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public ResultCache(int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    ResultCache(int maxSize, Clock clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max size must be positive, but was: " + maxSize);
+        }
+        this.clock = clock;
+        int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maxSize));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0));
+        }
+    }
+
+    /**
+     * @return the cached value or {@code null} if there is no (unexpired) value for the key
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V getIfPresent(String key) {
+        Segment segment = segmentOf(key);
+        long now = clock.millis();
+        synchronized (segment) {
+            segment.sketch.increment(key);
+            Entry entry = segment.entries.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                hits.increment();
+                return (V) entry.value;
+            }
+            if (entry != null) {
+                segment.entries.remove(key);
+                invalidationIndex.unregister(key, entry.dependencies);
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches the value, unless the segment is full and the key is requested less often than the one which would be evicted.
+     * The value is invalidated only when it expires or by {@link #invalidate(String)} (or {@link #invalidateAll()}).
+     */
+    public void put(String key, Object value, Duration timeToLive) {
+        put(key, value, timeToLive, Collections.emptyMap());
+    }
+
+    /**
+     * Caches the value as {@link #put(String, Object, Duration)}, and registers it to be invalidated by the writes
+     * of the entities it depends on.
+     *
+     * @param dependencies the attributes the value depends on, by entity types. Every entity type listed makes the value depend
+     *                     on the inserts and deletes of the entities of that type, and every attribute - on its updates
+     *                     ({@link #ANY_ATTRIBUTE} - on all updates). {@code null} makes the value invalidated by all writes.
+     */
+    public void put(String key, Object value, Duration timeToLive, Map<Class<?>, Set<String>> dependencies) {
+        put(key, value, timeToLive, dependencies, null);
+    }
+
+    /**
+     * Caches the value as {@link #put(String, Object, Duration, Map)}, unless an entity it depends on has been written
+     * since the stamp was taken (in such case, the value may be stale already, even though the invalidation has not found it).
+     *
+     * @param invalidationStamp the stamp of the dependencies taken before the value was computed
+     */
+    public void put(String key, Object value, Duration timeToLive, Map<Class<?>, Set<String>> dependencies, long invalidationStamp) {
+        put(key, value, timeToLive, dependencies, Long.valueOf(invalidationStamp));
+    }
+
+    /**
+     * @return the stamp to be taken before computing the value with the given dependencies
+     * and passed to {@link #put(String, Object, Duration, Map, long)}
+     */
+    public long invalidationStamp(Map<Class<?>, Set<String>> dependencies) {
+        return invalidationIndex.stampOf(dependencies);
+    }
+
+    private void put(String key, Object value, Duration timeToLive, Map<Class<?>, Set<String>> dependencies, Long invalidationStamp) {
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("Time to live must be positive, but was: " + timeToLive);
+        }
+        Segment segment = segmentOf(key);
+        long now = clock.millis();
+        Entry entry = new Entry(value, now + timeToLive.toMillis(), dependencies);
+        synchronized (segment) {
+            if (segment.entries.containsKey(key) || segment.entries.size() < segment.capacity) {
+                store(segment, key, entry, invalidationStamp);
+                return;
+            }
+            Iterator<Map.Entry<String, Entry>> eldest = segment.entries.entrySet().iterator();
+            Map.Entry<String, Entry> victim = eldest.next();
+            if (victim.getValue().expiresAt > now && segment.sketch.frequency(key) <= segment.sketch.frequency(victim.getKey())) {
+                rejections.increment();
+                return;
+            }
+            eldest.remove();
+            invalidationIndex.unregister(victim.getKey(), victim.getValue().dependencies);
+            evictions.increment();
+            store(segment, key, entry, invalidationStamp);
+        }
+    }
+
+    public void invalidate(String key) {
+        Segment segment = segmentOf(key);
+        synchronized (segment) {
+            Entry removed = segment.entries.remove(key);
+            if (removed != null) {
+                invalidationIndex.unregister(key, removed.dependencies);
+            }
+        }
+    }
+
+    /**
+     * Invalidates the values which may be affected by an insert or delete of an entity of the given type.
+     */
+    public void invalidate(Class<?> entityType) {
+        invalidationIndex.recordWrite(entityType);
+        invalidationIndex.keysAffectedBy(entityType).forEach(this::invalidate);
+    }
+
+    /**
+     * Invalidates the values which may be affected by an update of the given attributes of an entity of the given type.
+     */
+    public void invalidate(Class<?> entityType, Collection<String> updatedAttributes) {
+        invalidationIndex.recordWrite(entityType);
+        invalidationIndex.keysAffectedBy(entityType, updatedAttributes).forEach(this::invalidate);
+    }
+
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+            }
+        }
+        invalidationIndex.clear();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of values which have not been cached, because their keys were requested less often than the cached ones
+     */
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ResultCache[size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+                + ", evictions=" + getEvictionCount() + ", rejections=" + getRejectionCount() + ']';
+    }
+
+    /**
+     * The stamp is checked after the key has been registered, so that a concurrent write either changes the stamp
+     * or finds the key (see {@link InvalidationIndex})
+     */
+    private void store(Segment segment, String key, Entry entry, Long invalidationStamp) {
+        Entry replaced = segment.entries.put(key, entry);
+        if (replaced != null) {
+            invalidationIndex.unregister(key, replaced.dependencies);
+        }
+        invalidationIndex.register(key, entry.dependencies);
+        if (invalidationStamp != null && invalidationIndex.stampOf(entry.dependencies) != invalidationStamp) {
+            segment.entries.remove(key);
+            invalidationIndex.unregister(key, entry.dependencies);
+        }
+    }
+
+    private Segment segmentOf(String key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private static final class Segment {
+
+        private final int capacity;
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final FrequencySketch sketch;
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+            this.sketch = new FrequencySketch(capacity);
+        }
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+        private final long expiresAt;
+        private final Map<Class<?>, Set<String>> dependencies;
+
+        private Entry(Object value, long expiresAt, Map<Class<?>, Set<String>> dependencies) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.dependencies = dependencies;
+        }
+    }
+
+    /**
+     * Count-min sketch of the recent access frequencies (saturating at 15). All the counters are halved
+     * after every {@code 10 * capacity} accesses, so that the keys which were popular in the past do not stay forever.
+     */
+    private static final class FrequencySketch {
+
+        private static final int MAX_FREQUENCY = 15;
+        private static final int[] SEEDS = { 0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F };
+
+        private final int[] counters;
+        private final int sampleSize;
+        private int accesses;
+
+        private FrequencySketch(int capacity) {
+            this.counters = new int[Math.max(16, Integer.highestOneBit(capacity * 4 - 1) << 1)];
+            this.sampleSize = 10 * capacity;
+        }
+
+        private void increment(String key) {
+            int hash = key.hashCode();
+            for (int seed : SEEDS) {
+                int index = indexOf(hash, seed);
+                if (counters[index] < MAX_FREQUENCY) {
+                    counters[index]++;
+                }
+            }
+            if (++accesses >= sampleSize) {
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] >>>= 1;
+                }
+                accesses = 0;
+            }
+        }
+
+        private int frequency(String key) {
+            int hash = key.hashCode();
+            int frequency = MAX_FREQUENCY;
+            for (int seed : SEEDS) {
+                frequency = Math.min(frequency, counters[indexOf(hash, seed)]);
+            }
+            return frequency;
+        }
+
+        private int indexOf(int hash, int seed) {
+            int mixed = (hash ^ seed) * 0x9E3779B1;
+            return (mixed ^ (mixed >>> 15)) & (counters.length - 1);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <p>Coalesces concurrent identical searches: the first call for a key executes the search, and the calls for the same key
+ * made while it is in flight wait for it and share its result (or exception) instead of executing the same query.
+ * Used by {@code SpecificationRepository} for the specifications resolved by {@code SpecificationArgumentResolver}
+ * with {@code setSingleFlight}.</p>
+ *
+ * <p>The calls are registered in a concurrent map without locking. The waiting is bounded: if the search in flight
+ * does not complete in the given time, the waiting call executes the search on its own.</p>
+ */
+public class SingleFlight {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+    private final Duration maxWait;
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder sharedResults = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public SingleFlight(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String key, Supplier<V> search) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight == null) {
+            return executeAndComplete(key, call, search);
+        }
+        try {
+            return (V) await(inFlight);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            executions.increment();
+            return search.get();
+        }
+    }
+
+    private Object await(CompletableFuture<Object> inFlight) throws TimeoutException {
+        waiting.incrementAndGet();
+        try {
+            Object result = inFlight.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            sharedResults.increment();
+            return result;
+        } catch (ExecutionException e) {
+            sharedResults.increment();
+            throw rethrown(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the identical search in flight", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private <V> V executeAndComplete(String key, CompletableFuture<Object> call, Supplier<V> search) {
+        executions.increment();
+        try {
+            V result = search.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    private static RuntimeException rethrown(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    /**
+     * @return the number of searches in flight
+     */
+    public int getInFlightCount() {
+        return calls.size();
+    }
+
+    /**
+     * @return the number of calls waiting for the identical searches in flight
+     */
+    public int getWaitingCount() {
+        return waiting.get();
+    }
+
+    /**
+     * @return the number of searches executed (including the ones executed after a timeout)
+     */
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    /**
+     * @return the number of calls which got the result of the identical search in flight
+     */
+    public long getSharedResultCount() {
+        return sharedResults.sum();
+    }
+
+    /**
+     * @return the number of calls which timed out waiting for the search in flight (and executed it on their own)
+     */
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "SingleFlight[inFlight=" + getInFlightCount() + ", executions=" + getExecutionCount()
+                + ", sharedResults=" + getSharedResultCount() + ", timeouts=" + getTimeoutCount() + ']';
+    }
+}
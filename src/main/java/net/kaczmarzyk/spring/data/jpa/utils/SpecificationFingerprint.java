@@ -0,0 +1,269 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import net.kaczmarzyk.spring.data.jpa.domain.CachedCount;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedResults;
+import net.kaczmarzyk.spring.data.jpa.domain.CoalescedSearch;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Disjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.In;
+import net.kaczmarzyk.spring.data.jpa.domain.NotIn;
+import net.kaczmarzyk.spring.data.jpa.web.SpecificationArgumentResolver;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * <p>Canonical, structural representation of a resolved specification tree, to be used as a key of caches, request coalescing,
+ * metrics etc.: logically identical specifications (e.g. the same filters resolved in different requests) have equal fingerprints.</p>
+ *
+ * <p>The fingerprint consists of the classes of the specs and the values of their fields (paths, arguments, join definitions,
+ * converter config etc.). It is normalized as follows:</p>
+ * <ul>
+ *     <li>the query context is ignored (it is different in each request, and so are the {@code equals}/{@code hashCode} of the specs),</li>
+ *     <li>the members of conjunctions and disjunctions are sorted and the nested ones of the same kind are flattened,</li>
+ *     <li>the values of {@link In} and {@link NotIn} are sorted and deduplicated,</li>
+ *     <li>{@link CachedCount}, {@link CachedResults} and {@link CoalescedSearch} markers are skipped.</li>
+ * </ul>
+ *
+ * <p>A specification which cannot be fingerprinted reliably (e.g. a lambda or a spec with a field of a type without
+ * {@code toString()}) has no fingerprint.</p>
+ *
+ * <p>The hash code is computed once (and the digest on the first use), so the fingerprint is a cheap key.</p>
+ */
+public final class SpecificationFingerprint implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String canonicalForm;
+    private final int hashCode;
+    private transient volatile String digest;
+
+    private SpecificationFingerprint(String canonicalForm) {
+        this.canonicalForm = canonicalForm;
+        this.hashCode = canonicalForm.hashCode();
+    }
+
+    /**
+     * @return the fingerprint or {@code null} if the specification cannot be fingerprinted
+     */
+    public static SpecificationFingerprint of(Specification<?> spec) {
+        StringBuilder canonicalForm = new StringBuilder();
+        return append(canonicalForm, SpecificationArgumentResolver.unwrap(spec))
+                ? new SpecificationFingerprint(canonicalForm.toString())
+                : null;
+    }
+
+    /**
+     * @return human-readable canonical form of the specification tree
+     */
+    public String getCanonicalForm() {
+        return canonicalForm;
+    }
+
+    /**
+     * @return SHA-256 (hex) of the canonical form, i.e. a fixed-length equivalent of the fingerprint
+     */
+    public String getDigest() {
+        String result = digest;
+        if (result == null) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonicalForm.getBytes(StandardCharsets.UTF_8));
+                result = HexFormat.of().formatHex(hash);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            digest = result;
+        }
+        return result;
+    }
+
+    private static boolean append(StringBuilder fingerprint, Object value) {
+        if (value == null) {
+            fingerprint.append("null");
+        } else if (value instanceof Conjunction || value instanceof Disjunction) {
+            return appendCommutative(fingerprint, (Specification<?>) value);
+        } else if (value instanceof String) {
+            fingerprint.append('"').append(((String) value).replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+        } else if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            fingerprint.append(value);
+        } else if (value instanceof Enum) {
+            fingerprint.append(((Enum<?>) value).name());
+        } else if (value.getClass().isArray()) {
+            return appendSequence(fingerprint, arrayElements(value));
+        } else if (value instanceof Collection) {
+            return appendSequence(fingerprint, (Collection<?>) value);
+        } else if (value instanceof Specification || value instanceof Converter) {
+            return appendFields(fingerprint, value);
+        } else if (overridesToString(value.getClass())) {
+            fingerprint.append(value);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean appendCommutative(StringBuilder fingerprint, Specification<?> spec) {
+        List<Specification<?>> members = new ArrayList<>();
+        collectMembers(spec.getClass(), spec, members);
+        if (members.size() == 1) {
+            return append(fingerprint, members.get(0));
+        }
+        List<String> memberFingerprints = new ArrayList<>();
+        for (Specification<?> member : members) {
+            StringBuilder memberFingerprint = new StringBuilder();
+            if (!append(memberFingerprint, member)) {
+                return false;
+            }
+            memberFingerprints.add(memberFingerprint.toString());
+        }
+        memberFingerprints.sort(null);
+        fingerprint.append(spec instanceof Conjunction ? "and" : "or")
+                .append('(').append(String.join(",", memberFingerprints)).append(')');
+        return true;
+    }
+
+    private static void collectMembers(Class<?> operator, Specification<?> spec, List<Specification<?>> members) {
+        if (spec instanceof CachedCount || spec instanceof CachedResults || spec instanceof CoalescedSearch) {
+            return;
+        }
+        if (operator.isInstance(spec)) {
+            Collection<? extends Specification<?>> innerSpecs = spec instanceof Conjunction
+                    ? ((Conjunction<?>) spec).getInnerSpecs()
+                    : ((Disjunction<?>) spec).getInnerSpecs();
+            for (Specification<?> inner : innerSpecs) {
+                collectMembers(operator, inner, members);
+            }
+        } else {
+            members.add(spec);
+        }
+    }
+
+    private static boolean appendSequence(StringBuilder fingerprint, Collection<?> elements) {
+        fingerprint.append('[');
+        boolean first = true;
+        for (Object element : elements) {
+            if (!first) {
+                fingerprint.append(',');
+            }
+            first = false;
+            if (!append(fingerprint, element)) {
+                return false;
+            }
+        }
+        fingerprint.append(']');
+        return true;
+    }
+
+    private static boolean appendFields(StringBuilder fingerprint, Object value) {
+        Class<?> type = value.getClass();
+        if (type.isSynthetic() || type.isAnonymousClass() || type.getName().contains("$$Lambda")) {
+            return false;
+        }
+        boolean valueSet = value instanceof In || value instanceof NotIn;
+        fingerprint.append(type.getName()).append('{');
+        boolean first = true;
+        for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (isIgnored(field)) {
+                    continue;
+                }
+                if (!first) {
+                    fingerprint.append(',');
+                }
+                first = false;
+                fingerprint.append(field.getName()).append('=');
+                field.setAccessible(true);
+                try {
+                    Object fieldValue = field.get(value);
+                    if (valueSet && fieldValue instanceof String[]) {
+                        fieldValue = new TreeSet<>(arrayElements(fieldValue));
+                    }
+                    if (!append(fingerprint, fieldValue)) {
+                        return false;
+                    }
+                } catch (IllegalAccessException e) {
+                    return false;
+                }
+            }
+        }
+        fingerprint.append('}');
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> List<E> arrayElements(Object array) {
+        List<E> elements = new ArrayList<>();
+        for (int i = 0; i < Array.getLength(array); i++) {
+            elements.add((E) Array.get(array, i));
+        }
+        return elements;
+    }
+
+    private static boolean isIgnored(Field field) {
+        return Modifier.isStatic(field.getModifiers())
+                || Modifier.isTransient(field.getModifiers())
+                || field.isSynthetic()
+                || QueryContext.class.isAssignableFrom(field.getType())
+                || ConversionService.class.isAssignableFrom(field.getType());
+    }
+
+    private static boolean overridesToString(Class<?> type) {
+        try {
+            return type.getMethod("toString").getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SpecificationFingerprint that = (SpecificationFingerprint) o;
+        return hashCode == that.hashCode
+                && canonicalForm.equals(that.canonicalForm);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "SpecificationFingerprint["
+                + "canonicalForm=" + canonicalForm
+                + ']';
+    }
+}
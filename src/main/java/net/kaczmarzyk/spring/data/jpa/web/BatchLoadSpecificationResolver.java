@@ -0,0 +1,36 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import net.kaczmarzyk.spring.data.jpa.web.annotation.BatchLoad;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.annotation.Annotation;
+
+
+class BatchLoadSpecificationResolver implements SpecificationResolver<BatchLoad> {
+
+    @Override
+    public Class<? extends Annotation> getSupportedSpecificationDefinition() {
+        return BatchLoad.class;
+    }
+
+    @Override
+    public Specification<Object> buildSpecification(WebRequestProcessingContext context, BatchLoad def) {
+        return new net.kaczmarzyk.spring.data.jpa.domain.BatchLoad<>(def.paths(), def.alias());
+    }
+
+}
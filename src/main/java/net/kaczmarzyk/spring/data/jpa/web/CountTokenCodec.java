@@ -0,0 +1,256 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>Issues and verifies count tokens, which allow to defer the count query of a paged search: the page is returned
+ * without the total (e.g. with {@code SpecificationRepository.findSlice}), together with a token, and the total is fetched
+ * from a separate endpoint (with {@link net.kaczmarzyk.spring.data.jpa.web.annotation.CountToken}), only if it is needed.</p>
+ *
+ * <p>The token contains the path of the search, its path variables and its HTTP parameters (in the canonical order,
+ * i.e. sorted by name), so that the count endpoint resolves the same specification. The path is the path pattern
+ * of the handler (e.g. {@code /users/{userId}/orders}) if the request has been dispatched by Spring MVC, or the path
+ * of the request within the application otherwise (path variables are not captured then). The count endpoint accepts
+ * only the tokens issued for the search path it declares, so a token of one search cannot be used to count
+ * the results of another one. The token is signed with HMAC-SHA256, so that it cannot be used to bypass
+ * the validation of the search parameters, and expires after the given time.</p>
+ */
+public class CountTokenCodec {
+
+    /**
+     * Value of {@code HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE} (spring-webmvc is not a compile dependency of this library).
+     */
+    static final String BEST_MATCHING_PATTERN_ATTRIBUTE = "org.springframework.web.servlet.HandlerMapping.bestMatchingPattern";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+
+    private final SecretKeySpec key;
+    private final Duration validity;
+    private final Clock clock;
+
+    public CountTokenCodec(byte[] secret, Duration validity) {
+        this(secret, validity, Clock.systemUTC());
+    }
+
+    CountTokenCodec(byte[] secret, Duration validity, Clock clock) {
+        if (secret == null || secret.length < 32) {
+            throw new IllegalArgumentException("Secret of count tokens must have at least 32 bytes");
+        }
+        this.key = new SecretKeySpec(secret.clone(), HMAC_ALGORITHM);
+        this.validity = validity;
+        this.clock = clock;
+    }
+
+    @SuppressWarnings("unchecked")
+    public String issue(NativeWebRequest request) {
+        String pathPattern = (String) request.getAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (pathPattern != null) {
+            Map<String, String> pathVariables = (Map<String, String>) request.getAttribute(
+                    WebRequestProcessingContext.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            return issue(pathPattern, pathVariables != null ? pathVariables : Collections.emptyMap(), request.getParameterMap());
+        }
+        HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        if (servletRequest == null) {
+            throw new IllegalStateException("Count tokens are supported only for servlet requests");
+        }
+        String path = servletRequest.getRequestURI().substring(servletRequest.getContextPath().length());
+        return issue(path, Collections.emptyMap(), request.getParameterMap());
+    }
+
+    public String issue(String searchPath, Map<String, String[]> params) {
+        return issue(searchPath, Collections.emptyMap(), params);
+    }
+
+    public String issue(String searchPath, Map<String, String> pathVariables, Map<String, String[]> params) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(clock.instant().plus(validity).getEpochSecond());
+            out.writeUTF(searchPath);
+            Map<String, String> canonicalPathVariables = new TreeMap<>(pathVariables);
+            out.writeInt(canonicalPathVariables.size());
+            for (Map.Entry<String, String> pathVariable : canonicalPathVariables.entrySet()) {
+                out.writeUTF(pathVariable.getKey());
+                out.writeUTF(pathVariable.getValue());
+            }
+            Map<String, String[]> canonicalParams = new TreeMap<>(params);
+            out.writeInt(canonicalParams.size());
+            for (Map.Entry<String, String[]> param : canonicalParams.entrySet()) {
+                out.writeUTF(param.getKey());
+                out.writeInt(param.getValue().length);
+                for (String value : param.getValue()) {
+                    out.writeUTF(value);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to issue count token", e);
+        }
+        byte[] payload = bytes.toByteArray();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(sign(payload));
+    }
+
+    /**
+     * @return the HTTP parameters encoded in the token
+     * @throws InvalidCountTokenException if the token is malformed, has an invalid signature, has expired
+     * or has been issued for a different search path
+     */
+    public Map<String, String[]> verify(String token, String searchPath) {
+        return decode(token, searchPath).params;
+    }
+
+    private Search decode(String token, String searchPath) {
+        int separatorIndex = token == null ? -1 : token.indexOf('.');
+        if (separatorIndex < 0) {
+            throw new InvalidCountTokenException("Malformed count token: " + token);
+        }
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = Base64.getUrlDecoder().decode(token.substring(0, separatorIndex));
+            signature = Base64.getUrlDecoder().decode(token.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCountTokenException("Malformed count token: " + token, e);
+        }
+        if (!MessageDigest.isEqual(sign(payload), signature)) {
+            throw new InvalidCountTokenException("Invalid signature of count token: " + token);
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readByte() != VERSION) {
+                throw new InvalidCountTokenException("Unsupported version of count token: " + token);
+            }
+            if (clock.instant().getEpochSecond() > in.readLong()) {
+                throw new InvalidCountTokenException("Count token has expired: " + token);
+            }
+            if (!in.readUTF().equals(searchPath)) {
+                throw new InvalidCountTokenException("Count token has been issued for a different search: " + token);
+            }
+            Map<String, String> pathVariables = new LinkedHashMap<>();
+            int pathVariableCount = in.readInt();
+            for (int i = 0; i < pathVariableCount; i++) {
+                pathVariables.put(in.readUTF(), in.readUTF());
+            }
+            Map<String, String[]> params = new LinkedHashMap<>();
+            int paramCount = in.readInt();
+            for (int i = 0; i < paramCount; i++) {
+                String name = in.readUTF();
+                String[] values = new String[in.readInt()];
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = in.readUTF();
+                }
+                params.put(name, values);
+            }
+            return new Search(Collections.unmodifiableMap(pathVariables), Collections.unmodifiableMap(params));
+        } catch (IOException e) {
+            throw new InvalidCountTokenException("Malformed count token: " + token, e);
+        }
+    }
+
+    /**
+     * @return the request with the path variables and HTTP parameters replaced with the ones encoded in the token
+     * passed with the given parameter
+     */
+    NativeWebRequest withSearchOfToken(NativeWebRequest webRequest, String tokenParam, String searchPath) {
+        String token = webRequest.getParameter(tokenParam);
+        if (token == null) {
+            throw new InvalidCountTokenException("Missing count token parameter: " + tokenParam);
+        }
+        HttpServletRequest servletRequest = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (servletRequest == null) {
+            throw new IllegalStateException("Count tokens are supported only for servlet requests");
+        }
+        Search search = decode(token, searchPath);
+        Map<String, String[]> params = search.params;
+
+        return new ServletWebRequest(new HttpServletRequestWrapper(servletRequest) {
+
+            @Override
+            public Object getAttribute(String name) {
+                return WebRequestProcessingContext.URI_TEMPLATE_VARIABLES_ATTRIBUTE.equals(name)
+                        ? search.pathVariables
+                        : super.getAttribute(name);
+            }
+
+            @Override
+            public String getParameter(String name) {
+                String[] values = params.get(name);
+                return values == null || values.length == 0 ? null : values[0];
+            }
+
+            @Override
+            public String[] getParameterValues(String name) {
+                return params.get(name);
+            }
+
+            @Override
+            public Map<String, String[]> getParameterMap() {
+                return params;
+            }
+
+            @Override
+            public Enumeration<String> getParameterNames() {
+                return Collections.enumeration(params.keySet());
+            }
+        });
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to sign count token", e);
+        }
+    }
+
+    private static final class Search {
+
+        private final Map<String, String> pathVariables;
+        private final Map<String, String[]> params;
+
+        private Search(Map<String, String> pathVariables, Map<String, String[]> params) {
+            this.pathVariables = pathVariables;
+            this.params = params;
+        }
+    }
+}
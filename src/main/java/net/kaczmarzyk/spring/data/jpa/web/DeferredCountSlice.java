@@ -0,0 +1,57 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.Objects;
+
+/**
+ * Slice of results (without the total count) with a token which allows to fetch the total count later,
+ * see {@link CountTokenCodec}.
+ */
+public class DeferredCountSlice<T> extends SliceImpl<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String countToken;
+
+    public DeferredCountSlice(Slice<T> slice, String countToken) {
+        super(slice.getContent(), slice.getPageable(), slice.hasNext());
+        this.countToken = countToken;
+    }
+
+    public String getCountToken() {
+        return countToken;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DeferredCountSlice)) {
+            return false;
+        }
+        return super.equals(o) && Objects.equals(countToken, ((DeferredCountSlice<?>) o).countToken);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Objects.hashCode(countToken);
+    }
+}
@@ -36,6 +36,18 @@ class EnhancerUtil {
                 new ProxyInvocationHandler(targetSpec, targetInterface));
     }
 
+    /**
+     * @return the specification wrapped by {@link #wrapWithInterfaceImplementation(Class, Specification)} or the given one if it is not a proxy
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Specification<T> unwrap(Specification<T> spec) {
+        if (spec != null && Proxy.isProxyClass(spec.getClass())
+                && Proxy.getInvocationHandler(spec) instanceof ProxyInvocationHandler) {
+            return (Specification<T>) ((ProxyInvocationHandler) Proxy.getInvocationHandler(spec)).getTargetSpec();
+        }
+        return spec;
+    }
+
     @ToString
     @RequiredArgsConstructor
     public static class ProxyInvocationHandler implements InvocationHandler {
@@ -43,6 +55,10 @@ class EnhancerUtil {
         private final Specification<Object> targetSpec;
         private final Class<?> targetInterface;
 
+        Specification<Object> getTargetSpec() {
+            return targetSpec;
+        }
+
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
             if ("toString".equals(method.getName())) {
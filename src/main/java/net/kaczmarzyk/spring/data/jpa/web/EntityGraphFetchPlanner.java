@@ -0,0 +1,166 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import jakarta.persistence.criteria.JoinType;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.EntityGraphFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinFetch;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static net.kaczmarzyk.spring.data.jpa.utils.JoinPathUtils.pathToJoinContainsAlias;
+import static net.kaczmarzyk.spring.data.jpa.utils.JoinPathUtils.pathToJoinSplittedByDot;
+
+/**
+ * <p>Replaces {@code LEFT} join fetches of a resolved specification with a single {@link EntityGraphFetch}.</p>
+ *
+ * <p>Fetches with other join types are left intact, as they filter the results (e.g. {@code INNER} fetch
+ * excludes the entities without the fetched association), which cannot be expressed with an entity graph.
+ * So are the {@code LEFT} fetches whose aliases they are made on (e.g. {@code orders} aliased as {@code o}
+ * for an {@code INNER} fetch of {@code o.tags}).</p>
+ *
+ * <p>Fetch definitions are static (they do not depend on HTTP params), so the fetch plan of a handler
+ * is built once and cached.</p>
+ */
+class EntityGraphFetchPlanner {
+
+    private final EntityGraphType graphType;
+
+    private final Map<List<String>, EntityGraphFetch<Object>> fetchPlans = new ConcurrentHashMap<>();
+
+    EntityGraphFetchPlanner(EntityGraphType graphType) {
+        this.graphType = graphType;
+    }
+
+    Specification<Object> plan(Specification<Object> spec) {
+        List<JoinFetch<Object>> fetches = new ArrayList<>();
+        collectFetches(spec, fetches);
+        Set<JoinFetch<Object>> convertible = convertible(fetches);
+        if (convertible.isEmpty()) {
+            return spec;
+        }
+
+        EntityGraphFetch<Object> fetchPlan = fetchPlans.computeIfAbsent(attributePaths(fetches, convertible),
+                attributePaths -> new EntityGraphFetch<>(attributePaths, graphType));
+
+        Specification<Object> withoutFetches = withoutFetches(spec, convertible);
+        if (withoutFetches == null) {
+            return fetchPlan;
+        }
+        List<Specification<Object>> specs = new ArrayList<>();
+        if (withoutFetches instanceof Conjunction) {
+            specs.addAll(((Conjunction<Object>) withoutFetches).getInnerSpecs());
+        } else {
+            specs.add(withoutFetches);
+        }
+        specs.add(fetchPlan);
+        return new Conjunction<>(specs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void collectFetches(Specification<Object> spec, List<JoinFetch<Object>> fetches) {
+        if (spec instanceof Conjunction) {
+            for (Specification<Object> inner : ((Conjunction<Object>) spec).getInnerSpecs()) {
+                collectFetches(inner, fetches);
+            }
+        } else if (spec instanceof JoinFetch) {
+            fetches.add((JoinFetch<Object>) spec);
+        }
+    }
+
+    /**
+     * @return {@code LEFT} fetches which can be converted, i.e. the ones whose alias is not used by a fetch which remains a fetch join
+     */
+    private static Set<JoinFetch<Object>> convertible(List<JoinFetch<Object>> fetches) {
+        Set<JoinFetch<Object>> convertible = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> aliasesOfRemainingFetches = new HashSet<>();
+        for (int i = fetches.size() - 1; i >= 0; i--) {
+            JoinFetch<Object> fetch = fetches.get(i);
+            if (fetch.getJoinType() == JoinType.LEFT && !aliasesOfRemainingFetches.contains(fetch.getAlias())) {
+                convertible.add(fetch);
+                continue;
+            }
+            for (String path : fetch.getPathsToFetch()) {
+                if (pathToJoinContainsAlias(path)) {
+                    aliasesOfRemainingFetches.add(pathToJoinSplittedByDot(path)[0]);
+                }
+            }
+        }
+        return convertible;
+    }
+
+    /**
+     * @return full attribute paths of the converted fetches, i.e. with aliases replaced by the paths they refer to
+     */
+    private List<String> attributePaths(List<JoinFetch<Object>> fetches, Set<JoinFetch<Object>> convertible) {
+        Map<String, String> attributePathsByAlias = new HashMap<>();
+        Set<String> attributePaths = new LinkedHashSet<>();
+
+        for (JoinFetch<Object> fetch : fetches) {
+            for (String path : fetch.getPathsToFetch()) {
+                String attributePath = path;
+                if (pathToJoinContainsAlias(path)) {
+                    String[] pathSplittedByDot = pathToJoinSplittedByDot(path);
+                    String aliasPath = attributePathsByAlias.get(pathSplittedByDot[0]);
+                    if (aliasPath == null) {
+                        throw new IllegalArgumentException(
+                                "Join fetch definition with alias: '" + pathSplittedByDot[0] + "' not found! "
+                                        + "Make sure that join with the alias '" + pathSplittedByDot[0] + "' is defined before the join with path: '"
+                                        + path + "'"
+                        );
+                    }
+                    attributePath = aliasPath + "." + pathSplittedByDot[1];
+                }
+                if (convertible.contains(fetch)) {
+                    attributePaths.add(attributePath);
+                }
+                if (!fetch.getAlias().isEmpty()) {
+                    attributePathsByAlias.put(fetch.getAlias(), attributePath);
+                }
+            }
+        }
+        return new ArrayList<>(attributePaths);
+    }
+
+    /**
+     * @return the spec without the converted fetches or {@code null} if nothing remains
+     */
+    private Specification<Object> withoutFetches(Specification<Object> spec, Set<JoinFetch<Object>> convertible) {
+        if (spec instanceof Conjunction) {
+            List<Specification<Object>> remaining = new ArrayList<>();
+            for (Specification<Object> inner : ((Conjunction<Object>) spec).getInnerSpecs()) {
+                Specification<Object> stripped = withoutFetches(inner, convertible);
+                if (stripped != null) {
+                    remaining.add(stripped);
+                }
+            }
+            return remaining.isEmpty() ? null : new Conjunction<>(remaining);
+        }
+        return convertible.contains(spec) ? null : spec;
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import net.kaczmarzyk.spring.data.jpa.web.annotation.Fields;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+
+class FieldsSpecificationResolver implements SpecificationResolver<Fields> {
+
+    @Override
+    public Class<? extends Annotation> getSupportedSpecificationDefinition() {
+        return Fields.class;
+    }
+
+    @Override
+    public Specification<Object> buildSpecification(WebRequestProcessingContext context, Fields def) {
+        List<String> allowedFields = Arrays.asList(def.paths());
+        Set<String> requestedFields = requestedFields(context.getParameterValues(def.param()));
+        if (requestedFields.isEmpty()) {
+            return new net.kaczmarzyk.spring.data.jpa.domain.Fields<>(context.queryContext(), allowedFields);
+        }
+        for (String field : requestedFields) {
+            if (!allowedFields.contains(field)) {
+                throw new InvalidFieldsRequestedException(field, allowedFields);
+            }
+        }
+        return new net.kaczmarzyk.spring.data.jpa.domain.Fields<>(context.queryContext(), new ArrayList<>(requestedFields));
+    }
+
+    /**
+     * Fields can be passed as a comma-separated list and/or with repeated parameter.
+     */
+    private Set<String> requestedFields(String[] paramValues) {
+        Set<String> fields = new LinkedHashSet<>();
+        if (paramValues != null) {
+            for (String paramValue : paramValues) {
+                for (String field : paramValue.split(",")) {
+                    if (!field.isBlank()) {
+                        fields.add(field.trim());
+                    }
+                }
+            }
+        }
+        return fields;
+    }
+
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.List;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidFieldsRequestedException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String field;
+    private final List<String> allowedFields;
+
+    public InvalidFieldsRequestedException(String field, List<String> allowedFields) {
+        super("Field '" + field + "' cannot be selected, allowed fields: " + allowedFields);
+        this.field = field;
+        this.allowedFields = allowedFields;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public List<String> getAllowedFields() {
+        return allowedFields;
+    }
+}
@@ -33,7 +33,7 @@ class JoinSpecificationResolver implements SpecificationResolver<Join> {
     @Override
     public Specification<Object> buildSpecification(WebRequestProcessingContext context, Join joinDef) {
         return new net.kaczmarzyk.spring.data.jpa.domain.Join<>(context.queryContext(), joinDef.path(), joinDef.alias(),
-                joinDef.type(), joinDef.distinct());
+                joinDef.type(), joinDef.distinct(), joinDef.strategy());
     }
 
 }
@@ -0,0 +1,182 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import jakarta.persistence.metamodel.Metamodel;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Disjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.EmptyResultOnTypeMismatch;
+import net.kaczmarzyk.spring.data.jpa.domain.In;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.Like;
+import net.kaczmarzyk.spring.data.jpa.domain.NotIn;
+import net.kaczmarzyk.spring.data.jpa.domain.NotLike;
+import net.kaczmarzyk.spring.data.jpa.utils.QueryCost;
+import net.kaczmarzyk.spring.data.jpa.utils.QueryCostAnalyzer;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.OnQueryCostExceeded;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.QueryCostLimit;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.kaczmarzyk.spring.data.jpa.utils.QueryCostAnalyzer.isLeadingWildcardPattern;
+import static net.kaczmarzyk.spring.data.jpa.web.QueryCostPolicy.exceeds;
+
+/**
+ * <p>Checks resolved specifications against a {@link QueryCostPolicy} before they are passed to the controller (and then to the repository).</p>
+ *
+ * <p>The policy is taken from {@link QueryCostLimit} on the parameter or the handler method. If none is present,
+ * the default policy (if any) is used. The guard can be extended and plugged into
+ * {@link SpecificationArgumentResolver#setQueryCostGuard(QueryCostGuard)} to customize the behaviour.</p>
+ *
+ * <p>Only fetches of collections count against {@link QueryCostPolicy#getMaxFetches()}. Telling them apart requires
+ * the JPA metamodel, e.g. {@code new QueryCostGuard(policy, entityManagerFactory.getMetamodel())}; without it
+ * every fetched path is counted.</p>
+ *
+ * <p>Stripping only ever removes filters (a disjunction is removed as a whole if any of its branches is too expensive),
+ * so the stripped query returns a superset of the original results.</p>
+ */
+public class QueryCostGuard {
+
+    private static final Log LOG = LogFactory.getLog(QueryCostGuard.class);
+
+    private final QueryCostPolicy defaultPolicy;
+
+    private final Metamodel metamodel;
+
+    public QueryCostGuard() {
+        this(null);
+    }
+
+    public QueryCostGuard(QueryCostPolicy defaultPolicy) {
+        this(defaultPolicy, null);
+    }
+
+    public QueryCostGuard(QueryCostPolicy defaultPolicy, Metamodel metamodel) {
+        this.defaultPolicy = defaultPolicy;
+        this.metamodel = metamodel;
+    }
+
+    public Specification<Object> guard(WebRequestProcessingContext context, Specification<Object> spec) {
+        QueryCostPolicy policy = resolvePolicy(context);
+        if (policy == null || spec == null) {
+            return spec;
+        }
+        return guard(spec, policy, context.getDomainType(), context.getHandlerName());
+    }
+
+    public Specification<Object> guard(Specification<Object> spec, QueryCostPolicy policy) {
+        return guard(spec, policy, null, null);
+    }
+
+    /**
+     * @param domainType the type of the filtered entities, used to tell apart fetches of collections
+     * @param handlerName the name of the handler included in the logs
+     */
+    public Specification<Object> guard(Specification<Object> spec, QueryCostPolicy policy, Class<?> domainType, String handlerName) {
+        QueryCost cost = QueryCostAnalyzer.analyze(spec, metamodel, domainType);
+        List<String> violations = policy.violationsOf(cost);
+        if (violations.isEmpty()) {
+            return spec;
+        }
+
+        // the spec itself is not logged, as it contains raw values sent by the client
+        if (policy.getOnExceeded() == OnQueryCostExceeded.LOG) {
+            LOG.warn("Query cost limits exceeded (" + String.join(", ", violations) + ") for " + cost + " in handler: " + handlerName);
+            return spec;
+        } else if (policy.getOnExceeded() == OnQueryCostExceeded.STRIP) {
+            Specification<Object> stripped = strip(spec, policy, exceeds(cost.getFetches(), policy.getMaxFetches()));
+            QueryCost strippedCost = QueryCostAnalyzer.analyze(stripped, metamodel, domainType);
+            List<String> remainingViolations = policy.violationsOf(strippedCost);
+            if (remainingViolations.isEmpty()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Stripped expensive parts (" + String.join(", ", violations) + ") of " + cost + " in handler: " + handlerName);
+                }
+                return stripped;
+            }
+            throw new QueryCostExceededException(strippedCost, remainingViolations);
+        } else {
+            throw new QueryCostExceededException(cost, violations);
+        }
+    }
+
+    protected QueryCostPolicy resolvePolicy(WebRequestProcessingContext context) {
+        for (Annotation annotation : context.getParameterAnnotations()) {
+            if (annotation instanceof QueryCostLimit) {
+                return QueryCostPolicy.of((QueryCostLimit) annotation);
+            }
+        }
+        QueryCostLimit methodLimit = context.getMethodAnnotation(QueryCostLimit.class);
+        if (methodLimit != null) {
+            return QueryCostPolicy.of(methodLimit);
+        }
+        return defaultPolicy;
+    }
+
+    /**
+     * @return the spec without its expensive parts or {@code null} if the whole spec has been removed
+     */
+    protected Specification<Object> strip(Specification<Object> spec, QueryCostPolicy policy, boolean stripFetches) {
+        if (spec instanceof Conjunction) {
+            List<Specification<Object>> remaining = new ArrayList<>();
+            boolean changed = false;
+            for (Specification<Object> inner : ((Conjunction<Object>) spec).getInnerSpecs()) {
+                Specification<Object> stripped = strip(inner, policy, stripFetches);
+                changed |= stripped != inner;
+                if (stripped != null) {
+                    remaining.add(stripped);
+                }
+            }
+            if (!changed) {
+                return spec;
+            }
+            return remaining.isEmpty() ? null : new Conjunction<>(remaining);
+        } else if (spec instanceof Disjunction) {
+            Disjunction<Object> disjunction = (Disjunction<Object>) spec;
+            if (exceeds(disjunction.getInnerSpecs().size(), policy.getMaxOrBreadth())) {
+                return null;
+            }
+            for (Specification<Object> inner : disjunction.getInnerSpecs()) {
+                if (strip(inner, policy, stripFetches) != inner) {
+                    return null; // removing a single branch would narrow the results
+                }
+            }
+            return spec;
+        } else if (spec instanceof EmptyResultOnTypeMismatch) {
+            Specification<Object> wrapped = ((EmptyResultOnTypeMismatch<Object>) spec).getWrappedSpec();
+            Specification<Object> stripped = strip(wrapped, policy, stripFetches);
+            if (stripped == wrapped) {
+                return spec;
+            }
+            return stripped == null ? null : new EmptyResultOnTypeMismatch<>(stripped);
+        } else if (spec instanceof JoinFetch) {
+            return stripFetches ? null : spec;
+        } else if (spec instanceof In) {
+            return exceeds(((In<Object>) spec).getAllowedValues().size(), policy.getMaxInValues()) ? null : spec;
+        } else if (spec instanceof NotIn) {
+            return exceeds(((NotIn<Object>) spec).getAllowedValues().size(), policy.getMaxInValues()) ? null : spec;
+        } else if (spec instanceof Like) {
+            return !policy.isLeadingWildcardAllowed() && isLeadingWildcardPattern(((Like<Object>) spec).getPattern()) ? null : spec;
+        } else if (spec instanceof NotLike) {
+            return !policy.isLeadingWildcardAllowed() && isLeadingWildcardPattern(((NotLike<Object>) spec).getPattern()) ? null : spec;
+        }
+        return spec;
+    }
+}
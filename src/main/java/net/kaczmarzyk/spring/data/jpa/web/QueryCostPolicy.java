@@ -0,0 +1,156 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import net.kaczmarzyk.spring.data.jpa.utils.QueryCost;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.OnQueryCostExceeded;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.QueryCostLimit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable set of limits applied by {@link QueryCostGuard}. Negative limits are disabled.
+ */
+public final class QueryCostPolicy {
+
+    public static final int UNLIMITED = -1;
+
+    private final int maxJoins;
+    private final int maxFetches;
+    private final int maxOrBreadth;
+    private final int maxInValues;
+    private final int maxTotalInValues;
+    private final boolean leadingWildcardAllowed;
+    private final int maxScore;
+    private final OnQueryCostExceeded onExceeded;
+
+    private QueryCostPolicy(int maxJoins, int maxFetches, int maxOrBreadth, int maxInValues, int maxTotalInValues,
+                            boolean leadingWildcardAllowed, int maxScore, OnQueryCostExceeded onExceeded) {
+        this.maxJoins = maxJoins;
+        this.maxFetches = maxFetches;
+        this.maxOrBreadth = maxOrBreadth;
+        this.maxInValues = maxInValues;
+        this.maxTotalInValues = maxTotalInValues;
+        this.leadingWildcardAllowed = leadingWildcardAllowed;
+        this.maxScore = maxScore;
+        this.onExceeded = onExceeded;
+    }
+
+    public static QueryCostPolicy unlimited() {
+        return new QueryCostPolicy(UNLIMITED, UNLIMITED, UNLIMITED, UNLIMITED, UNLIMITED, true, UNLIMITED, OnQueryCostExceeded.REJECT);
+    }
+
+    public static QueryCostPolicy of(QueryCostLimit def) {
+        return new QueryCostPolicy(def.maxJoins(), def.maxFetches(), def.maxOrBreadth(), def.maxInValues(), def.maxTotalInValues(),
+                def.allowLeadingWildcard(), def.maxScore(), def.onExceeded());
+    }
+
+    public QueryCostPolicy withMaxJoins(int maxJoins) {
+        return new QueryCostPolicy(maxJoins, maxFetches, maxOrBreadth, maxInValues, maxTotalInValues, leadingWildcardAllowed, maxScore, onExceeded);
+    }
+
+    public QueryCostPolicy withMaxFetches(int maxFetches) {
+        return new QueryCostPolicy(maxJoins, maxFetches, maxOrBreadth, maxInValues, maxTotalInValues, leadingWildcardAllowed, maxScore, onExceeded);
+    }
+
+    public QueryCostPolicy withMaxOrBreadth(int maxOrBreadth) {
+        return new QueryCostPolicy(maxJoins, maxFetches, maxOrBreadth, maxInValues, maxTotalInValues, leadingWildcardAllowed, maxScore, onExceeded);
+    }
+
+    public QueryCostPolicy withMaxInValues(int maxInValues) {
+        return new QueryCostPolicy(maxJoins, maxFetches, maxOrBreadth, maxInValues, maxTotalInValues, leadingWildcardAllowed, maxScore, onExceeded);
+    }
+
+    public QueryCostPolicy withMaxTotalInValues(int maxTotalInValues) {
+        return new QueryCostPolicy(maxJoins, maxFetches, maxOrBreadth, maxInValues, maxTotalInValues, leadingWildcardAllowed, maxScore, onExceeded);
+    }
+
+    public QueryCostPolicy withLeadingWildcardAllowed(boolean leadingWildcardAllowed) {
+        return new QueryCostPolicy(maxJoins, maxFetches, maxOrBreadth, maxInValues, maxTotalInValues, leadingWildcardAllowed, maxScore, onExceeded);
+    }
+
+    public QueryCostPolicy withMaxScore(int maxScore) {
+        return new QueryCostPolicy(maxJoins, maxFetches, maxOrBreadth, maxInValues, maxTotalInValues, leadingWildcardAllowed, maxScore, onExceeded);
+    }
+
+    public QueryCostPolicy onExceeded(OnQueryCostExceeded onExceeded) {
+        return new QueryCostPolicy(maxJoins, maxFetches, maxOrBreadth, maxInValues, maxTotalInValues, leadingWildcardAllowed, maxScore, onExceeded);
+    }
+
+    public List<String> violationsOf(QueryCost cost) {
+        List<String> violations = new ArrayList<>();
+        checkLimit(violations, "joins", cost.getJoins(), maxJoins);
+        checkLimit(violations, "fetches", cost.getFetches(), maxFetches);
+        checkLimit(violations, "or-breadth", cost.getMaxOrBreadth(), maxOrBreadth);
+        checkLimit(violations, "in-values", cost.getMaxInValues(), maxInValues);
+        checkLimit(violations, "total-in-values", cost.getTotalInValues(), maxTotalInValues);
+        checkLimit(violations, "score", cost.getScore(), maxScore);
+        if (!leadingWildcardAllowed && cost.getLeadingWildcardPatterns() > 0) {
+            violations.add("leading-wildcard patterns are not allowed");
+        }
+        return violations;
+    }
+
+    private static void checkLimit(List<String> violations, String name, int actual, int limit) {
+        if (exceeds(actual, limit)) {
+            violations.add(name + " " + actual + " > " + limit);
+        }
+    }
+
+    static boolean exceeds(int actual, int limit) {
+        return limit >= 0 && actual > limit;
+    }
+
+    public int getMaxJoins() {
+        return maxJoins;
+    }
+
+    public int getMaxFetches() {
+        return maxFetches;
+    }
+
+    public int getMaxOrBreadth() {
+        return maxOrBreadth;
+    }
+
+    public int getMaxInValues() {
+        return maxInValues;
+    }
+
+    public int getMaxTotalInValues() {
+        return maxTotalInValues;
+    }
+
+    public boolean isLeadingWildcardAllowed() {
+        return leadingWildcardAllowed;
+    }
+
+    public int getMaxScore() {
+        return maxScore;
+    }
+
+    public OnQueryCostExceeded getOnExceeded() {
+        return onExceeded;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCostPolicy [maxJoins=" + maxJoins + ", maxFetches=" + maxFetches + ", maxOrBreadth=" + maxOrBreadth
+                + ", maxInValues=" + maxInValues + ", maxTotalInValues=" + maxTotalInValues
+                + ", leadingWildcardAllowed=" + leadingWildcardAllowed + ", maxScore=" + maxScore + ", onExceeded=" + onExceeded + "]";
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import net.kaczmarzyk.spring.data.jpa.repository.ResultDependencies;
+import net.kaczmarzyk.spring.data.jpa.utils.EntityVersions;
+import net.kaczmarzyk.spring.data.jpa.utils.SpecificationFingerprint;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.ConditionalSearch;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * ETag of the results of a search endpoint annotated with {@link ConditionalSearch}: SHA-256 of the fingerprint
+ * of the specification, the values of the additional parameters (e.g. paging) and the versions of the entity types
+ * the results depend on.
+ */
+final class SearchETag {
+
+    private SearchETag() {
+    }
+
+    /**
+     * @param metamodel used to work out the entity types the results depend on, if they are not listed in the annotation
+     * @return the ETag or {@code null} if the specification cannot be fingerprinted
+     */
+    static String of(ConditionalSearch conditionalSearch, MethodParameter parameter, NativeWebRequest webRequest,
+                     Specification<?> spec, SpecificationFingerprint fingerprint, EntityVersions entityVersions, Metamodel metamodel) {
+        if (fingerprint == null) {
+            return null;
+        }
+        StringBuilder content = new StringBuilder(fingerprint.getDigest());
+        for (String param : conditionalSearch.params()) {
+            String[] values = webRequest.getParameterValues(param);
+            content.append('|').append(param).append('=').append(values == null ? "" : Arrays.toString(values));
+        }
+        for (Class<?> entityType : entityTypes(conditionalSearch, parameter, spec, metamodel)) {
+            content.append('|').append(entityType.getName()).append('@').append(entityVersions.getVersion(entityType));
+        }
+        return '"' + sha256(content.toString()) + '"';
+    }
+
+    /**
+     * @return the entity types listed in the annotation or the ones the specification depends on (including the joined ones),
+     * sorted by name. All the entity types if the dependencies of the specification are unknown (e.g. it contains a custom spec)
+     */
+    private static List<Class<?>> entityTypes(ConditionalSearch conditionalSearch, MethodParameter parameter,
+                                              Specification<?> spec, Metamodel metamodel) {
+        if (conditionalSearch.entities().length > 0) {
+            return Arrays.asList(conditionalSearch.entities());
+        }
+        if (metamodel == null) {
+            throw new IllegalStateException("Entity types of the search cannot be worked out without the metamodel, see SpecificationArgumentResolver.setEntityVersions, "
+                    + "or define them with @ConditionalSearch(entities = ...): " + parameter);
+        }
+        Class<?> rootType = ResolvableType.forMethodParameter(parameter).as(Specification.class).resolveGeneric(0);
+        if (rootType == null) {
+            throw new IllegalStateException("Entity type of the specification cannot be resolved, define it with @ConditionalSearch(entities = ...): "
+                    + parameter);
+        }
+        Collection<Class<?>> entityTypes = ResultDependencies.entityTypesOf(metamodel, rootType, spec);
+        if (entityTypes == null) {
+            entityTypes = metamodel.getEntities().stream()
+                    .map(EntityType::getJavaType)
+                    .collect(toList());
+        }
+        return entityTypes.stream()
+                .sorted(Comparator.comparing(Class::getName))
+                .collect(toList());
+    }
+
+    private static String sha256(String content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
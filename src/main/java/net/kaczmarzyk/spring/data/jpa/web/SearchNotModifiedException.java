@@ -0,0 +1,33 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown instead of resolving the specification annotated with {@code @ConditionalSearch} when the results have not been
+ * modified since the response with the ETag given in {@code If-None-Match}, so that the handler is not invoked.
+ */
+@ResponseStatus(HttpStatus.NOT_MODIFIED)
+public class SearchNotModifiedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SearchNotModifiedException(String etag) {
+        super("Search results not modified since: " + etag);
+    }
+}
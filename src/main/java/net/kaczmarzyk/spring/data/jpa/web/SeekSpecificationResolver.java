@@ -0,0 +1,45 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import net.kaczmarzyk.spring.data.jpa.domain.KeysetCursor;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.Seek;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.annotation.Annotation;
+
+
+class SeekSpecificationResolver implements SpecificationResolver<Seek> {
+
+    @Override
+    public Class<? extends Annotation> getSupportedSpecificationDefinition() {
+        return Seek.class;
+    }
+
+    @Override
+    public Specification<Object> buildSpecification(WebRequestProcessingContext context, Seek def) {
+        String[] paramValues = context.getParameterValues(def.param());
+        if (paramValues == null || paramValues.length == 0 || paramValues[0].isEmpty()) {
+            return null;
+        }
+        try {
+            return new net.kaczmarzyk.spring.data.jpa.domain.Seek<>(KeysetCursor.decode(paramValues[0]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid value of '" + def.param() + "' parameter: " + paramValues[0], e);
+        }
+    }
+
+}
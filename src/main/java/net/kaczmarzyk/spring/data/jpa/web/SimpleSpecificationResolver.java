@@ -15,6 +15,9 @@
  */
 package net.kaczmarzyk.spring.data.jpa.web;
 
+import net.kaczmarzyk.spring.data.jpa.domain.CaseFolding;
+import net.kaczmarzyk.spring.data.jpa.domain.Like;
+import net.kaczmarzyk.spring.data.jpa.domain.StartingWith;
 import net.kaczmarzyk.spring.data.jpa.domain.ZeroArgSpecification;
 import net.kaczmarzyk.spring.data.jpa.utils.Converter;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
@@ -30,7 +33,10 @@ import org.springframework.expression.ParseException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import static java.util.Arrays.asList;
@@ -44,6 +50,7 @@ class SimpleSpecificationResolver implements SpecificationResolver<Spec> {
 
     private final ConversionService conversionService;
     private final EmbeddedValueResolver embeddedValueResolver;
+    private final Map<Class<?>, String[]> defaultConfigBySpecType = new ConcurrentHashMap<>();
 
     SimpleSpecificationResolver(ConversionService conversionService, AbstractApplicationContext applicationContext) {
         this.conversionService = conversionService;
@@ -55,6 +62,14 @@ class SimpleSpecificationResolver implements SpecificationResolver<Spec> {
         this.embeddedValueResolver = null;
     }
 
+    /**
+     * Sets the config used for specs of the given type when {@code @Spec} does not define any.
+     */
+    @SuppressWarnings("rawtypes")
+    void setDefaultConfig(Class<? extends Specification> specType, String... config) {
+        defaultConfigBySpecType.put(specType, config.clone());
+    }
+
     @Override
     public Class<? extends Annotation> getSupportedSpecificationDefinition() {
         return Spec.class;
@@ -92,10 +107,11 @@ class SimpleSpecificationResolver implements SpecificationResolver<Spec> {
             throws InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 
         QueryContext queryCtx = context.queryContext();
-        Converter converter = resolveConverter(def);
+        String[] config = resolveConfig(def);
+        Converter converter = resolveConverter(def, config);
 
         Specification<Object> spec;
-        if (def.config().length == 0) {
+        if (config.length == 0) {
             try {
                 spec = def.spec().getConstructor(QueryContext.class, String.class, String[].class)
                         .newInstance(queryCtx, def.path(), argsArray);
@@ -106,7 +122,7 @@ class SimpleSpecificationResolver implements SpecificationResolver<Spec> {
         } else {
             try {
                 spec = def.spec().getConstructor(QueryContext.class, String.class, String[].class, Converter.class, String[].class)
-                        .newInstance(queryCtx, def.path(), argsArray, converter, def.config());
+                        .newInstance(queryCtx, def.path(), argsArray, converter, config);
             } catch (NoSuchMethodException e) {
                 try {
                     spec = def.spec().getConstructor(QueryContext.class, String.class, String[].class, Converter.class)
@@ -114,22 +130,42 @@ class SimpleSpecificationResolver implements SpecificationResolver<Spec> {
                 } catch (NoSuchMethodException e2) {
                     // legacy constructor support, to retain backward-compatibility
                     spec = def.spec().getConstructor(String.class, String[].class, String[].class)
-                            .newInstance(def.path(), argsArray, def.config());
+                            .newInstance(def.path(), argsArray, config);
                 }
             }
         }
         return spec;
     }
 
-    private Converter resolveConverter(Spec def) {
-        if (def.config().length == 0) {
+    private String[] resolveConfig(Spec def) {
+        if (def.config().length != 0) {
+            return def.config();
+        }
+        return defaultConfigBySpecType.getOrDefault(def.spec(), def.config());
+    }
+
+    private Converter resolveConverter(Spec def, String[] config) {
+        String[] dateFormats = Arrays.stream(config)
+                .filter(configValue -> !isSpecOption(configValue))
+                .toArray(String[]::new);
+        if (dateFormats.length == 0) {
             return Converter.withTypeMismatchBehaviour(def.onTypeMismatch(), conversionService);
         }
-        if (def.config().length == 1) {
-            String dateFormat = def.config()[0];
+        if (dateFormats.length == 1) {
+            String dateFormat = dateFormats[0];
             return Converter.withDateFormat(dateFormat, def.onTypeMismatch(), conversionService);
         }
-        throw new IllegalStateException("config should contain only one value -- a date format"); // TODO support other config values as well
+        throw new IllegalStateException("config may contain at most one date format besides spec options ("
+                + StartingWith.PREFIX_RANGE + ", " + Like.RAW_PATTERN + ", " + CaseFolding.CONFIG_PREFIX + "*), but was: " + Arrays.toString(config));
+    }
+
+    /**
+     * @return whether the config value is an option of a built-in spec (so it is not a date format)
+     */
+    private boolean isSpecOption(String configValue) {
+        return Like.RAW_PATTERN.equals(configValue)
+                || StartingWith.PREFIX_RANGE.equals(configValue)
+                || CaseFolding.isCaseFoldingConfig(configValue);
     }
 
     private Collection<String> resolveSpecArguments(WebRequestProcessingContext context, Spec specDef) {
@@ -15,17 +15,33 @@
  */
 package net.kaczmarzyk.spring.data.jpa.web;
 
+import jakarta.persistence.metamodel.Metamodel;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedCount;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedResults;
+import net.kaczmarzyk.spring.data.jpa.domain.CoalescedSearch;
+import net.kaczmarzyk.spring.data.jpa.domain.EntityGraphFetch;
+import net.kaczmarzyk.spring.data.jpa.utils.CountCache;
+import net.kaczmarzyk.spring.data.jpa.utils.EntityVersions;
+import net.kaczmarzyk.spring.data.jpa.utils.JoinTypeInference;
+import net.kaczmarzyk.spring.data.jpa.utils.ResultCache;
+import net.kaczmarzyk.spring.data.jpa.utils.SingleFlight;
+import net.kaczmarzyk.spring.data.jpa.utils.SpecificationFingerprint;
 import net.kaczmarzyk.spring.data.jpa.utils.TypeUtil;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.CacheResults;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.ConditionalSearch;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.CountToken;
 import org.springframework.context.support.AbstractApplicationContext;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -47,6 +63,26 @@ public class SpecificationArgumentResolver implements HandlerMethodArgumentResol
 
     private final Map<Class<? extends Annotation>, SpecificationResolver<? extends Annotation>> resolversBySupportedType;
 
+    private final SimpleSpecificationResolver simpleSpecificationResolver;
+
+    private QueryCostGuard queryCostGuard = new QueryCostGuard();
+
+    private boolean joinTypeInference = false;
+
+    private EntityGraphFetchPlanner entityGraphFetchPlanner;
+
+    private CountTokenCodec countTokenCodec;
+
+    private CountCache countCache;
+
+    private ResultCache resultCache;
+
+    private SingleFlight singleFlight;
+
+    private EntityVersions entityVersions;
+
+    private Metamodel metamodel;
+
     public SpecificationArgumentResolver() {
         this(null, null);
     }
@@ -60,7 +96,7 @@ public class SpecificationArgumentResolver implements HandlerMethodArgumentResol
     }
 
     public SpecificationArgumentResolver(ConversionService conversionService, AbstractApplicationContext abstractApplicationContext) {
-        SimpleSpecificationResolver simpleSpecificationResolver = new SimpleSpecificationResolver(conversionService, abstractApplicationContext);
+        simpleSpecificationResolver = new SimpleSpecificationResolver(conversionService, abstractApplicationContext);
 
         resolversBySupportedType = Arrays.asList(
                         simpleSpecificationResolver,
@@ -72,7 +108,11 @@ public class SpecificationArgumentResolver implements HandlerMethodArgumentResol
                         new JoinsSpecificationResolver(),
                         new JoinFetchSpecificationResolver(),
                         new RepeatedJoinFetchResolver(),
-                        new RepeatedJoinResolver()).stream()
+                        new RepeatedJoinResolver(),
+                        new BatchLoadSpecificationResolver(),
+                        new RepeatedBatchLoadResolver(),
+                        new FieldsSpecificationResolver(),
+                        new SeekSpecificationResolver()).stream()
                 .collect(toMap(
                         SpecificationResolver::getSupportedSpecificationDefinition,
                         identity(),
@@ -95,29 +135,188 @@ public class SpecificationArgumentResolver implements HandlerMethodArgumentResol
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest,
                                   WebDataBinderFactory binderFactory) throws Exception {
 
+        CacheResults cacheResults = parameter.getParameterAnnotation(CacheResults.class);
+        if (cacheResults != null && resultCache == null) {
+            throw new IllegalStateException("@CacheResults requires ResultCache to be configured, see SpecificationArgumentResolver.setResultCache");
+        }
+
+        ConditionalSearch conditionalSearch = parameter.getParameterAnnotation(ConditionalSearch.class);
+        if (conditionalSearch != null && entityVersions == null) {
+            throw new IllegalStateException("@ConditionalSearch requires EntityVersions to be configured, see SpecificationArgumentResolver.setEntityVersions");
+        }
+
+        CountToken countToken = parameter.getParameterAnnotation(CountToken.class);
+        if (countToken != null) {
+            if (countTokenCodec == null) {
+                throw new IllegalStateException("@CountToken requires CountTokenCodec to be configured, see SpecificationArgumentResolver.setCountTokenCodec");
+            }
+            webRequest = countTokenCodec.withSearchOfToken(webRequest, countToken.param(), countToken.searchPath());
+        }
+
         WebRequestProcessingContext context = new WebRequestProcessingContext(parameter, webRequest);
 
         List<Specification<Object>> specs = resolveSpec(context);
 
+        if (conditionalSearch != null) {
+            checkNotModified(conditionalSearch, parameter, webRequest, specs);
+        }
+
         if (specs.isEmpty()) {
             return null;
         }
 
-        if (specs.size() == 1) {
-            Specification<Object> firstSpecification = specs.iterator().next();
+        Specification<Object> spec = specs.size() == 1
+                ? specs.iterator().next()
+                : new net.kaczmarzyk.spring.data.jpa.domain.Conjunction<>(specs);
 
-            if (Specification.class == parameter.getParameterType()) {
-                return firstSpecification;
-            } else {
-                return EnhancerUtil.wrapWithInterfaceImplementation(parameter.getParameterType(), firstSpecification);
-            }
+        spec = queryCostGuard.guard(context, spec);
+
+        if (spec == null) {
+            return null;
         }
 
-        Specification<Object> spec = new net.kaczmarzyk.spring.data.jpa.domain.Conjunction<>(specs);
+        if (joinTypeInference) {
+            spec = JoinTypeInference.inferJoinTypes(spec);
+        }
+
+        if (entityGraphFetchPlanner != null) {
+            spec = entityGraphFetchPlanner.plan(spec);
+        }
+
+        if (countCache != null || cacheResults != null || singleFlight != null) {
+            spec = withCacheMarkers(spec, cacheResults);
+        }
+
+        if (specs.size() == 1 && Specification.class == parameter.getParameterType()) {
+            return spec;
+        }
 
         return EnhancerUtil.wrapWithInterfaceImplementation(parameter.getParameterType(), spec);
     }
 
+    /**
+     * Plugs in the guard which checks the cost of every resolved specification, see {@link QueryCostGuard}.
+     * By default only endpoints annotated with {@link net.kaczmarzyk.spring.data.jpa.web.annotation.QueryCostLimit} are guarded.
+     */
+    public void setQueryCostGuard(QueryCostGuard queryCostGuard) {
+        this.queryCostGuard = queryCostGuard;
+    }
+
+    /**
+     * Enables rewriting {@code LEFT} joins into {@code INNER} ones when the filters on the joined alias reject nulls anyway,
+     * see {@link JoinTypeInference}. Disabled by default.
+     */
+    public void setJoinTypeInference(boolean joinTypeInference) {
+        this.joinTypeInference = joinTypeInference;
+    }
+
+    /**
+     * Makes {@code LEFT} fetches defined with {@code @JoinFetch} applied as an entity graph hint of the given type
+     * (by {@code SpecificationRepository}) instead of fetch joins, see {@link EntityGraphFetch}.
+     * {@code null} (default) restores fetch joins.
+     */
+    public void setJoinFetchAsEntityGraph(EntityGraphType graphType) {
+        this.entityGraphFetchPlanner = graphType == null ? null : new EntityGraphFetchPlanner(graphType);
+    }
+
+    /**
+     * Sets the codec of the tokens used by the parameters annotated with {@link CountToken}.
+     */
+    public void setCountTokenCodec(CountTokenCodec countTokenCodec) {
+        this.countTokenCodec = countTokenCodec;
+    }
+
+    /**
+     * Makes the total counts of the resolved specifications cached in the given cache (by {@code SpecificationRepository}),
+     * keyed by {@link SpecificationFingerprint}. {@code null} (default) disables caching.
+     */
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
+    /**
+     * Makes the results of the specifications resolved from the parameters annotated with {@link CacheResults}
+     * cached in the given cache (by {@code SpecificationRepository}), keyed by {@link SpecificationFingerprint}.
+     */
+    public void setResultCache(ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * Makes the concurrent identical searches with the resolved specifications (by {@code SpecificationRepository})
+     * coalesced with the given {@link SingleFlight}. {@code null} (default) disables coalescing.
+     */
+    public void setSingleFlight(SingleFlight singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    /**
+     * Sets the versions of the entity types used for the ETags of the endpoints annotated with {@link ConditionalSearch}
+     * (e.g. {@link net.kaczmarzyk.spring.data.jpa.utils.InMemoryEntityVersions}, incremented by {@code EntityVersionsListener}).
+     * Without the metamodel, the entity types have to be listed in {@link ConditionalSearch#entities()}.
+     */
+    public void setEntityVersions(EntityVersions entityVersions) {
+        setEntityVersions(entityVersions, null);
+    }
+
+    /**
+     * Sets the versions of the entity types used for the ETags of the endpoints annotated with {@link ConditionalSearch}
+     * and the metamodel used to work out which entity types (including the joined ones) the results of a search depend on.
+     */
+    public void setEntityVersions(EntityVersions entityVersions, Metamodel metamodel) {
+        this.entityVersions = entityVersions;
+        this.metamodel = metamodel;
+    }
+
+    private void checkNotModified(ConditionalSearch conditionalSearch, MethodParameter parameter, NativeWebRequest webRequest,
+                                  List<Specification<Object>> specs) {
+        Specification<Object> spec = specs.isEmpty() ? null : new net.kaczmarzyk.spring.data.jpa.domain.Conjunction<>(specs);
+        String etag = SearchETag.of(conditionalSearch, parameter, webRequest, spec, SpecificationFingerprint.of(spec), entityVersions, metamodel);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            throw new SearchNotModifiedException(etag);
+        }
+    }
+
+    private Specification<Object> withCacheMarkers(Specification<Object> spec, CacheResults cacheResults) {
+        SpecificationFingerprint fingerprint = SpecificationFingerprint.of(spec);
+        if (fingerprint == null) {
+            return spec;
+        }
+        List<Specification<Object>> parts = new ArrayList<>();
+        if (spec instanceof net.kaczmarzyk.spring.data.jpa.domain.Conjunction) {
+            parts.addAll(((net.kaczmarzyk.spring.data.jpa.domain.Conjunction<Object>) spec).getInnerSpecs());
+        } else {
+            parts.add(spec);
+        }
+        if (countCache != null) {
+            parts.add(new CachedCount<>(countCache, fingerprint));
+        }
+        if (cacheResults != null) {
+            parts.add(new CachedResults<>(resultCache, fingerprint, Duration.of(cacheResults.ttl(), cacheResults.timeUnit().toChronoUnit())));
+        }
+        if (singleFlight != null) {
+            parts.add(new CoalescedSearch<>(singleFlight, fingerprint));
+        }
+        return new net.kaczmarzyk.spring.data.jpa.domain.Conjunction<>(parts);
+    }
+
+    /**
+     * Sets the config used for all specs of the given type which do not define {@code config} in their {@code @Spec},
+     * e.g. {@code setDefaultSpecConfig(StartingWith.class, StartingWith.PREFIX_RANGE)}.
+     */
+    @SuppressWarnings("rawtypes")
+    public void setDefaultSpecConfig(Class<? extends Specification> specType, String... config) {
+        simpleSpecificationResolver.setDefaultConfig(specType, config);
+    }
+
+    /**
+     * Custom specification interfaces (e.g. {@code CustomerSpec extends Specification<Customer>}) are implemented with proxies
+     * delegating to the resolved specification tree. This method returns the tree itself, so that it can be inspected.
+     */
+    public static <T> Specification<T> unwrap(Specification<T> spec) {
+        return EnhancerUtil.unwrap(spec);
+    }
+
     private List<Specification<Object>> resolveSpec(WebRequestProcessingContext context) throws Exception {
         List<Specification<Object>> specAccumulator = new ArrayList<>();
 
@@ -18,13 +18,23 @@ package net.kaczmarzyk.spring.data.jpa.web;
 import jakarta.servlet.http.HttpServletRequest;
 import net.kaczmarzyk.spring.data.jpa.utils.PathVariableResolver;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.core.MethodParameter;
-import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Provides information about Controller/method and WebRequest being processed.
@@ -34,9 +44,16 @@ import java.util.Map;
  */
 public class WebRequestProcessingContext {
 
+    /**
+     * Value of {@code HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE} (spring-webmvc is not a compile dependency of this library).
+     * Spring MVC exposes the path variables of the matched handler under this request attribute.
+     */
+    static final String URI_TEMPLATE_VARIABLES_ATTRIBUTE = "org.springframework.web.servlet.HandlerMapping.uriTemplateVariables";
+
+    private static final ConcurrentMap<Pair<Class<?>, Method>, PathPattern> PATH_PATTERNS_BY_HANDLER = new ConcurrentHashMap<>();
+
     private final MethodParameter methodParameter;
     private final NativeWebRequest webRequest;
-    private String pathPattern;
 
     private Map<String, String> resolvedPathVariables;
 
@@ -49,10 +66,30 @@ public class WebRequestProcessingContext {
         return methodParameter.getParameterType();
     }
 
+    /**
+     * @return the type parameter of the specification (i.e. the type of the filtered entities) or {@code null} if it cannot be resolved
+     */
+    public Class<?> getDomainType() {
+        return ResolvableType.forMethodParameter(methodParameter).as(Specification.class).resolveGeneric(0);
+    }
+
+    /**
+     * @return the name of the handler method, e.g. {@code CustomerController#findCustomers}
+     */
+    public String getHandlerName() {
+        Method method = methodParameter.getMethod();
+        String controllerName = methodParameter.getContainingClass().getSimpleName();
+        return method != null ? controllerName + "#" + method.getName() : controllerName;
+    }
+
     public Annotation[] getParameterAnnotations() {
         return methodParameter.getParameterAnnotations();
     }
 
+    public <A extends Annotation> A getMethodAnnotation(Class<A> annotationType) {
+        return methodParameter.getMethodAnnotation(annotationType);
+    }
+
     public String[] getParameterValues(String webParamName) {
         return webRequest.getParameterValues(webParamName);
     }
@@ -63,7 +100,7 @@ public class WebRequestProcessingContext {
 
     public String getPathVariableValue(String pathVariableName) {
         if (resolvedPathVariables == null) {
-            resolvedPathVariables = PathVariableResolver.resolvePathVariables(pathPattern(), actualWebPath());
+            resolvedPathVariables = resolvePathVariables();
         }
         String value = resolvedPathVariables.get(pathVariableName);
         if (value != null) {
@@ -73,37 +110,48 @@ public class WebRequestProcessingContext {
         }
     }
 
-    private String pathPattern() {
-        if (pathPattern != null) {
-            return pathPattern;
-        } else {
-            Class<?> controllerClass = methodParameter.getContainingClass();
-            if (controllerClass.getAnnotation(RequestMapping.class) != null) {
-                RequestMapping controllerMapping = controllerClass.getAnnotation(RequestMapping.class);
-                pathPattern = firstOf(controllerMapping.value(), controllerMapping.path());
-            }
-
-            String methodPathPattern = null;
-
-            if (methodParameter.hasMethodAnnotation(RequestMapping.class)) {
-                RequestMapping methodMapping = methodParameter.getMethodAnnotation(RequestMapping.class);
-                methodPathPattern = firstOf(methodMapping.value(), methodMapping.path());
-            } else if (methodParameter.hasMethodAnnotation(GetMapping.class)) {
-                GetMapping methodMapping = methodParameter.getMethodAnnotation(GetMapping.class);
-                methodPathPattern = firstOf(methodMapping.value(), methodMapping.path());
-            }
-
-            if (methodPathPattern != null) {
-                pathPattern = pathPattern != null ? pathPattern + methodPathPattern : methodPathPattern;
-            }
+    @SuppressWarnings("unchecked")
+    private Map<String, String> resolvePathVariables() {
+        Map<String, String> uriTemplateVariables = (Map<String, String>) webRequest.getAttribute(
+                URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        if (uriTemplateVariables != null) {
+            return uriTemplateVariables;
+        }
+        // request has not been dispatched by Spring MVC handler mapping (e.g. a standalone usage), the path has to be matched manually
+        return PathVariableResolver.resolvePathVariables(pathPattern(), actualWebPath());
+    }
+
+    private PathPattern pathPattern() {
+        Pair<Class<?>, Method> handler = Pair.of(methodParameter.getContainingClass(), methodParameter.getMethod());
+        return PATH_PATTERNS_BY_HANDLER.computeIfAbsent(handler,
+                key -> PathPatternParser.defaultInstance.parse(rawPathPattern(key.getLeft(), key.getRight())));
+    }
+
+    private static String rawPathPattern(Class<?> controllerClass, Method handlerMethod) {
+        String controllerPathPattern = mappedPathPattern(controllerClass);
+        String methodPathPattern = handlerMethod != null ? mappedPathPattern(handlerMethod) : null;
+
+        String pathPattern = controllerPathPattern;
+        if (methodPathPattern != null) {
+            pathPattern = pathPattern != null ? pathPattern + methodPathPattern : methodPathPattern;
         }
         if (pathPattern == null) {
-            throw new IllegalStateException("path pattern could not be resolved (searched for @RequestMapping or @GetMapping)");
+            throw new IllegalStateException("path pattern could not be resolved (searched for @RequestMapping and its composed variants, e.g. @GetMapping)");
         }
         return pathPattern;
     }
 
-    private String firstOf(String[] array1, String[] array2) {
+    /**
+     * Resolves the path from {@code @RequestMapping} as well as from any composed annotation meta-annotated with it
+     * (e.g. {@code @GetMapping}, {@code @PostMapping}).
+     */
+    private static String mappedPathPattern(AnnotatedElement element) {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(element, RequestMapping.class);
+        return mapping != null ? firstOf(mapping.value(), mapping.path()) : null;
+    }
+
+    private static String firstOf(String[] array1, String[] array2) {
         if (array1.length > 0) {
             return array1[0];
         } else if (array2.length > 0) {
@@ -16,13 +16,17 @@
 package net.kaczmarzyk.spring.data.jpa.web;
 
 import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Root;
+import net.kaczmarzyk.spring.data.jpa.utils.JoinRegistry;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -33,9 +37,13 @@ public class WebRequestQueryContext implements QueryContext {
 
     private static final String ATTRIBUTE_KEY = WebRequestQueryContext.class.getName() + ".ATTRIBUTE_KEY";
     private static final String JOIN_FETCH_ATTRIBUTE_KEY = WebRequestQueryContext.class.getName() + ".ATTRIBUTE_KEY_JOIN_FETCH";
+    private static final String EXISTS_SUBQUERY_ATTRIBUTE_KEY = WebRequestQueryContext.class.getName() + ".ATTRIBUTE_KEY_EXISTS_SUBQUERY";
+    private static final String JOIN_REGISTRY_ATTRIBUTE_KEY = WebRequestQueryContext.class.getName() + ".ATTRIBUTE_KEY_JOIN_REGISTRY";
     private final Map<Pair<String, Root>, jakarta.persistence.criteria.Join<?, ?>> rootCache = new HashMap<>();
+    private final JoinRegistry joinRegistry;
     private HashMap<String, Function<Root<?>, Join<?, ?>>> contextMap;
     private HashMap<String, Fetch<?, ?>> evaluatedJoinFetch;
+    private HashSet<String> existsSubqueryAliases;
 
     public WebRequestQueryContext(NativeWebRequest request) {
         this.contextMap = (HashMap<String, Function<Root<?>, Join<?, ?>>>) request.getAttribute(ATTRIBUTE_KEY, NativeWebRequest.SCOPE_REQUEST);
@@ -49,6 +57,22 @@ public class WebRequestQueryContext implements QueryContext {
             this.evaluatedJoinFetch = new HashMap<>();
             request.setAttribute(JOIN_FETCH_ATTRIBUTE_KEY, evaluatedJoinFetch, NativeWebRequest.SCOPE_REQUEST);
         }
+        @SuppressWarnings("unchecked")
+        HashSet<String> existsSubqueryAliases = (HashSet<String>) request.getAttribute(EXISTS_SUBQUERY_ATTRIBUTE_KEY, NativeWebRequest.SCOPE_REQUEST);
+
+        if (existsSubqueryAliases == null) {
+            existsSubqueryAliases = new HashSet<>();
+            request.setAttribute(EXISTS_SUBQUERY_ATTRIBUTE_KEY, existsSubqueryAliases, NativeWebRequest.SCOPE_REQUEST);
+        }
+        this.existsSubqueryAliases = existsSubqueryAliases;
+
+        // shared by all contexts of the request (i.e. by all specs of the query), just like the lazy joins
+        JoinRegistry joinRegistry = (JoinRegistry) request.getAttribute(JOIN_REGISTRY_ATTRIBUTE_KEY, NativeWebRequest.SCOPE_REQUEST);
+        if (joinRegistry == null) {
+            joinRegistry = new JoinRegistry();
+            request.setAttribute(JOIN_REGISTRY_ATTRIBUTE_KEY, joinRegistry, NativeWebRequest.SCOPE_REQUEST);
+        }
+        this.joinRegistry = joinRegistry;
     }
 
     @Override
@@ -83,6 +107,21 @@ public class WebRequestQueryContext implements QueryContext {
         this.evaluatedJoinFetch.put(key, fetch);
     }
 
+    @Override
+    public void putExistsSubqueryAlias(String key) {
+        this.existsSubqueryAliases.add(key);
+    }
+
+    @Override
+    public boolean isExistsSubqueryAlias(String key) {
+        return this.existsSubqueryAliases.contains(key);
+    }
+
+    @Override
+    public Join<?, ?> join(From<?, ?> from, String attribute, JoinType joinType) {
+        return joinRegistry.join(from, attribute, joinType);
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -0,0 +1,40 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Makes the results of the searches with the specification (ids of the entities or projections, together with the total count)
+ * cached by {@code SpecificationRepository} in the {@code ResultCache} configured in {@code SpecificationArgumentResolver}.
+ * The results are cached per the combination of filters, page and sort, for the given time.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface CacheResults {
+
+    /**
+     * Time to live of the cached results, in {@link #timeUnit()}.
+     */
+    long ttl();
+
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * <p>Makes the search endpoint answer with {@code ETag} computed from the fingerprint of the resolved specification,
+ * the paging parameters and the versions of the entity types (see {@code EntityVersions}), and with {@code 304 Not Modified}
+ * (without invoking the handler) if the ETag matches {@code If-None-Match} of the request.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface ConditionalSearch {
+
+    /**
+     * Entity types the results depend on (including the joined ones). By default, they are worked out from the paths
+     * of the specification (e.g. {@code Customer} and {@code Order} for {@code orders.itemName} of {@code Specification<Customer>}),
+     * which requires the metamodel to be configured with {@code SpecificationArgumentResolver.setEntityVersions}.
+     */
+    Class<?>[] entities() default {};
+
+    /**
+     * HTTP parameters which affect the results besides the specification, e.g. paging.
+     */
+    String[] params() default { "page", "size", "sort" };
+}
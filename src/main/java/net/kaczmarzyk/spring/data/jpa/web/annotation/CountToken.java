@@ -0,0 +1,41 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * Makes the specification resolved from the HTTP parameters encoded in the count token (issued by
+ * {@code CountTokenCodec} together with a page of results) instead of the parameters of the current request.
+ * It allows to fetch the total count of the results from a separate endpoint, only if it is needed.
+ * Path variables are resolved from the token as well.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface CountToken {
+
+    /**
+     * The path of the search endpoint which issues the tokens: its path pattern (e.g. {@code /users/{userId}/orders})
+     * if it is dispatched by Spring MVC, or its path within the application otherwise. Tokens issued by other endpoints are rejected.
+     */
+    String searchPath();
+
+    String param() default "countToken";
+}
@@ -49,4 +49,10 @@ public @interface Join {
     boolean distinct() default true;
 
     JoinType type() default JoinType.INNER;
+
+    /**
+     * Whether the alias should be joined to the query or the filters on the alias should be applied
+     * with a correlated {@code exists} subquery, see {@link JoinStrategy}
+     */
+    JoinStrategy strategy() default JoinStrategy.JOIN;
 }
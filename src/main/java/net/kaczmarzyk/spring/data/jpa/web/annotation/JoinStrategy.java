@@ -0,0 +1,41 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web.annotation;
+
+/**
+ * <p>Specifies how the filters on an alias defined with {@link Join} are applied to the query.</p>
+ *
+ * <p>To be used with {@code strategy} property of {@code @Join} annotation.</p>
+ */
+public enum JoinStrategy {
+
+    /**
+     * The joined entity is added to the {@code from} clause of the query (e.g. {@code select c from Customer c inner join c.orders o where o.itemName = ?}).
+     * For collections, the query has to be made {@code distinct} to avoid duplicates.
+     */
+    JOIN,
+
+    /**
+     * The filters on the alias are grouped into a correlated subquery
+     * (e.g. {@code select c from Customer c where exists (select 1 from c.orders o where o.itemName = ?)}),
+     * so the rows of the root entity are not multiplied and the query does not have to be {@code distinct}.
+     * Negations ({@code NotEqual} and {@code NotIn}) are turned into {@code not exists} with the positive condition,
+     * i.e. they match the entities for which no element of the collection matches the value.
+     * Filters on the alias used outside of a conjunction (e.g. within {@code @Or}) fall back to a regular join.
+     * Only paths on the root entity are supported.
+     */
+    EXISTS
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web.annotation;
+
+/**
+ * <p>Specifies the behaviour when a resolved specification exceeds the limits of {@link QueryCostLimit}.</p>
+ */
+public enum OnQueryCostExceeded {
+
+    /**
+     * The request is rejected with {@code QueryCostExceededException} (mapped to {@code 400 Bad Request}).
+     */
+    REJECT,
+
+    /**
+     * The expensive parts (leading-wildcard patterns, too long {@code IN} lists, too wide disjunctions and fetches)
+     * are removed from the specification. If the remaining specification still exceeds the limits, the request is rejected.
+     */
+    STRIP,
+
+    /**
+     * The violation is only logged, the specification is passed to the controller unchanged.
+     */
+    LOG
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Limits the cost of the specification resolved for an endpoint. Overrides the default policy configured
+ * in {@code SpecificationArgumentResolver}.</p>
+ *
+ * <p>All numeric limits are disabled when negative.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.PARAMETER, ElementType.METHOD})
+public @interface QueryCostLimit {
+
+    int maxJoins() default -1;
+
+    int maxFetches() default -1;
+
+    /**
+     * Maximum number of branches of a single disjunction
+     */
+    int maxOrBreadth() default -1;
+
+    /**
+     * Maximum number of values of a single {@code In}/{@code NotIn}
+     */
+    int maxInValues() default -1;
+
+    int maxTotalInValues() default -1;
+
+    /**
+     * Whether {@code LIKE} patterns starting with a wildcard (e.g. {@code EndingWith}) are allowed
+     */
+    boolean allowLeadingWildcard() default true;
+
+    int maxScore() default -1;
+
+    OnQueryCostExceeded onExceeded() default OnQueryCostExceeded.REJECT;
+}
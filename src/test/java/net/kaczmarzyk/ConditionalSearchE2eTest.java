@@ -0,0 +1,175 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.CustomerRepository;
+import net.kaczmarzyk.spring.data.jpa.Order;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.ConditionalSearch;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.Join;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.Spec;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class ConditionalSearchE2eTest extends E2eTestBase {
+
+    @Test
+    public void returnsResultsWithETag() throws Exception {
+        mockMvc.perform(get("/conditional/customers")
+                        .param("lastName", "Simpson")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.content[0].firstName").exists());
+    }
+
+    @Test
+    public void respondsWithNotModifiedWithoutBodyIfETagMatches() throws Exception {
+        String etag = etagOfSimpsons("0");
+
+        mockMvc.perform(get("/conditional/customers")
+                        .param("lastName", "Simpson")
+                        .param("page", "0")
+                        .header("If-None-Match", etag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void returnsResultsIfSearchIsDifferent() throws Exception {
+        String etag = etagOfSimpsons("0");
+
+        assertThat(etagOfSimpsons("1")).isNotEqualTo(etag);
+        mockMvc.perform(get("/conditional/customers")
+                        .param("lastName", "Szyslak")
+                        .param("page", "0")
+                        .header("If-None-Match", etag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].lastName").value("Szyslak"));
+    }
+
+    @Test
+    public void returnsResultsAfterCommittedWriteOfSearchedEntityType() throws Exception {
+        String etag = etagOfSimpsons("0");
+
+        AtomicLong apuId = new AtomicLong();
+        doInNewTransaction(() -> apuId.set(customer("Apu", "Nahasapeemapetilon").build(em).getId()));
+        doInNewTransaction(() -> customerRepo.deleteById(apuId.get()));
+
+        mockMvc.perform(get("/conditional/customers")
+                        .param("lastName", "Simpson")
+                        .param("page", "0")
+                        .header("If-None-Match", etag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.content[0].lastName").value("Simpson"));
+    }
+
+    @Test
+    public void returnsResultsAfterCommittedUpdateOfJoinedEntityType() throws Exception {
+        AtomicLong apuId = new AtomicLong();
+        AtomicLong sanjayId = new AtomicLong();
+        doInNewTransaction(() -> {
+            apuId.set(customer("Apu", "Nahasapeemapetilon").orders("Squishee").build(em).getId());
+            sanjayId.set(customer("Sanjay", "Nahasapeemapetilon").build(em).getId());
+        });
+        try {
+            String etag = mockMvc.perform(get("/conditional/customers/orders")
+                            .param("item", "Squishee")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].firstName").value("Apu"))
+                    .andReturn()
+                    .getResponse()
+                    .getHeader("ETag");
+
+            doInNewTransaction(() -> {
+                Order squishee = em.find(Customer.class, apuId.get()).getOrders().iterator().next();
+                squishee.setCustomer(em.find(Customer.class, sanjayId.get()));
+            });
+
+            mockMvc.perform(get("/conditional/customers/orders")
+                            .param("item", "Squishee")
+                            .header("If-None-Match", etag)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].firstName").value("Sanjay"));
+        } finally {
+            doInNewTransaction(() -> {
+                customerRepo.deleteById(apuId.get());
+                customerRepo.deleteById(sanjayId.get());
+            });
+        }
+    }
+
+    private String etagOfSimpsons(String page) throws Exception {
+        return mockMvc.perform(get("/conditional/customers")
+                        .param("lastName", "Simpson")
+                        .param("page", page)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+    }
+
+    @Controller
+    public static class TestController {
+
+        @Autowired
+        CustomerRepository customerRepo;
+
+        @RequestMapping("/conditional/customers")
+        @ResponseBody
+        public Object findByLastName(
+                @ConditionalSearch
+                @Spec(path = "lastName", spec = Equal.class) Specification<Customer> spec, Pageable pageable) {
+
+            return customerRepo.findAll(spec, pageable);
+        }
+
+        @RequestMapping("/conditional/customers/orders")
+        @ResponseBody
+        public Object findByOrderedItem(
+                @ConditionalSearch
+                @Join(path = "orders", alias = "o")
+                @Spec(path = "o.itemName", params = "item", spec = Equal.class) Specification<Customer> spec, Pageable pageable) {
+
+            return customerRepo.findAll(spec, pageable);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import net.kaczmarzyk.spring.data.jpa.domain.Like;
 import net.kaczmarzyk.spring.data.jpa.domain.LikeIgnoreCase;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.And;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Join;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.JoinStrategy;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Joins;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Or;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Spec;
@@ -125,6 +126,20 @@ public class JoinE2eTest extends E2eTestBase {
                 .andExpect(jsonPath("$.size").value(1));
     }
 
+    @Test
+    public void findsByOrdersWithExistsSubqueryAndPagination() throws Exception {
+        mockMvc.perform(get("/join-exists/customers")
+                        .param("order", "Duff Beer")
+                        .param("page", "0")
+                        .param("size", "1")
+                        .param("sort", "id")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].firstName").value("Homer"))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
     @Controller
     public static class TestController {
 
@@ -193,6 +208,20 @@ public class JoinE2eTest extends E2eTestBase {
             return customerRepo.findAll(spec, pageable);
         }
 
+        @RequestMapping(value = "/join-exists/customers")
+        @ResponseBody
+        public Object findByOrdersWithExistsSubquery(
+
+                @Join(path = "orders", alias = "o", strategy = JoinStrategy.EXISTS)
+                @And({
+                        @Spec(path = "firstName", spec = Equal.class),
+                        @Spec(path = "o.itemName", params = "order", spec = LikeIgnoreCase.class)
+                }) Specification<Customer> spec,
+                Pageable pageable) {
+
+            return customerRepo.findAll(spec, pageable);
+        }
+
         @Join(path = "orders", alias = "o")
         @Spec(path = "o.itemName", params = "orderIn", spec = In.class)
         public interface OrderInSpecification extends Specification<Customer> {
@@ -15,9 +15,15 @@
  */
 package net.kaczmarzyk.spring.data.jpa;
 
+import jakarta.persistence.EntityManagerFactory;
+import net.kaczmarzyk.spring.data.jpa.repository.EntityVersionsListener;
+import net.kaczmarzyk.spring.data.jpa.repository.SpecificationRepository;
+import net.kaczmarzyk.spring.data.jpa.utils.EntityVersions;
+import net.kaczmarzyk.spring.data.jpa.utils.InMemoryEntityVersions;
 import net.kaczmarzyk.spring.data.jpa.web.SpecificationArgumentResolver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableMBeanExport;
@@ -39,7 +45,9 @@ import static org.springframework.jmx.support.RegistrationPolicy.IGNORE_EXISTING
         @ComponentScan.Filter(type = ASSIGNABLE_TYPE, value = {ApplicationWithConfiguredConversionService.class}),
         @ComponentScan.Filter(type = ASSIGNABLE_TYPE, value = {ApplicationWithSARConfiguredWithApplicationContext.class})
 })
-@EnableJpaRepositories
+@EnableJpaRepositories(excludeFilters = {
+        @ComponentScan.Filter(type = ASSIGNABLE_TYPE, value = SpecificationRepository.class)
+})
 @EnableAutoConfiguration
 @EnableMBeanExport(registration = IGNORE_EXISTING)
 public class Application implements WebMvcConfigurer {
@@ -47,9 +55,19 @@ public class Application implements WebMvcConfigurer {
     @Autowired
     AbstractApplicationContext applicationContext;
 
+    @Bean
+    public EntityVersions entityVersions(EntityManagerFactory entityManagerFactory) {
+        EntityVersions entityVersions = new InMemoryEntityVersions();
+        EntityVersionsListener.register(entityManagerFactory, entityVersions);
+        return entityVersions;
+    }
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> argumentResolvers) {
-        argumentResolvers.add(new SpecificationArgumentResolver(applicationContext));
+        SpecificationArgumentResolver specificationArgumentResolver = new SpecificationArgumentResolver(applicationContext);
+        specificationArgumentResolver.setEntityVersions(applicationContext.getBean(EntityVersions.class),
+                applicationContext.getBean(EntityManagerFactory.class).getMetamodel());
+        argumentResolvers.add(specificationArgumentResolver);
     }
 
 }
@@ -15,6 +15,7 @@
  */
 package net.kaczmarzyk.spring.data.jpa;
 
+import net.kaczmarzyk.spring.data.jpa.repository.SpecificationRepository;
 import net.kaczmarzyk.spring.data.jpa.web.SpecificationArgumentResolver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -39,7 +40,9 @@ import static org.springframework.jmx.support.RegistrationPolicy.IGNORE_EXISTING
         @ComponentScan.Filter(type = ASSIGNABLE_TYPE, value = Application.class),
         @ComponentScan.Filter(type = ASSIGNABLE_TYPE, value = ApplicationWithConfiguredConversionService.class),
 })
-@EnableJpaRepositories
+@EnableJpaRepositories(excludeFilters = {
+        @ComponentScan.Filter(type = ASSIGNABLE_TYPE, value = SpecificationRepository.class)
+})
 @EnableAutoConfiguration
 @EnableMBeanExport(registration = IGNORE_EXISTING)
 public class ApplicationWithSARConfiguredWithApplicationContext implements WebMvcConfigurer {
@@ -53,6 +53,9 @@ public abstract class IntegrationTestBase {
     @Autowired
     protected CustomerRepository customerRepo;
 
+    @Autowired
+    protected CustomerSpecificationRepository customerSpecRepo;
+
     @PersistenceContext
     protected EntityManager em;
 
@@ -103,6 +103,10 @@ public class Order {
         this.note = note;
     }
 
+    public void setCustomer(Customer customer) {
+        this.customer = customer;
+    }
+
     public Long getId() {
         return id;
     }
@@ -0,0 +1,35 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa;
+
+import net.kaczmarzyk.spring.data.jpa.repository.SpecificationRepository;
+import net.kaczmarzyk.spring.data.jpa.repository.SpecificationRepositoryImpl;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import static org.springframework.context.annotation.FilterType.ASSIGNABLE_TYPE;
+
+/**
+ * Registers {@link SpecificationRepositoryImpl} as the base class only of the repositories extending
+ * {@link SpecificationRepository}, so that the other ones are created with the default base class.
+ */
+@Configuration
+@EnableJpaRepositories(repositoryBaseClass = SpecificationRepositoryImpl.class, includeFilters = {
+        @ComponentScan.Filter(type = ASSIGNABLE_TYPE, value = SpecificationRepository.class)
+})
+public class SpecificationRepositoryConfig {
+}
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.text.ParseException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
@@ -191,4 +192,18 @@ public class BetweenTest extends IntegrationTestBase {
         assertThrows(IllegalArgumentException.class,
                 () -> new Between<>(queryCtx, "path", new String[]{"2014-03-10", "2014-03-11", "2014-03-11"}, defaultConverter));
     }
+
+    @Test
+    public void includesWholeBoundaryDaysOfTimestampsWhenDateFormatHasDayPrecision() {
+        customer("Lenny", "Leonard").lastOrderTime(LocalDateTime.of(2015, 2, 28, 23, 59)).build(em);
+        Customer ordered1stMarch = customer("Carl", "Carlson").lastOrderTime(LocalDateTime.of(2015, 3, 1, 0, 0)).build(em);
+        Customer ordered2ndMarchEvening = customer("Ned", "Flanders").lastOrderTime(LocalDateTime.of(2015, 3, 2, 22, 0)).build(em);
+        customer("Barney", "Gumble").lastOrderTime(LocalDateTime.of(2015, 3, 3, 0, 0)).build(em);
+
+        Between<Customer> between1stAnd2ndMarch = new Between<>(queryCtx, "lastOrderTime", new String[]{"01-03-2015", "02-03-2015"},
+                Converter.withDateFormat("dd-MM-yyyy", OnTypeMismatch.EMPTY_RESULT, null));
+
+        assertThat(customerRepo.findAll(between1stAnd2ndMarch)).containsOnly(ordered1stMarch, ordered2ndMarchEvening);
+    }
+
 }
@@ -0,0 +1,75 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CaseFoldingTest {
+
+    @Test
+    public void usesUpperCaseByDefault() {
+        assertThat(CaseFolding.fromConfig(null)).isEqualTo(CaseFolding.upper());
+        assertThat(CaseFolding.fromConfig(new String[]{ "yyyy-MM-dd" })).isEqualTo(CaseFolding.upper());
+    }
+
+    @Test
+    public void resolvesCaseFoldingFromConfig() {
+        assertThat(CaseFolding.fromConfig(new String[]{ CaseFolding.LOWER })).isEqualTo(CaseFolding.lower());
+        assertThat(CaseFolding.fromConfig(new String[]{ Like.RAW_PATTERN, CaseFolding.ILIKE })).isEqualTo(CaseFolding.ilike());
+        assertThat(CaseFolding.fromConfig(new String[]{ CaseFolding.SHADOW_ATTRIBUTE + "Normalized" }))
+                .isEqualTo(CaseFolding.shadowAttribute("Normalized"))
+                .isNotEqualTo(CaseFolding.shadowAttribute("Folded"));
+    }
+
+    @Test
+    public void rejectsUnknownCaseFolding() {
+        assertThrows(IllegalArgumentException.class, () -> CaseFolding.fromConfig(new String[]{ CaseFolding.CONFIG_PREFIX + "title" }));
+        assertThrows(IllegalArgumentException.class, () -> CaseFolding.fromConfig(new String[]{ CaseFolding.SHADOW_ATTRIBUTE }));
+    }
+
+    @Test
+    public void foldsValues() {
+        assertThat(CaseFolding.upper().foldValue("Homer")).isEqualTo("HOMER");
+        assertThat(CaseFolding.lower().foldValue("Homer")).isEqualTo("homer");
+        assertThat(CaseFolding.ilike().foldValue("Homer")).isEqualTo("homer");
+        assertThat(CaseFolding.shadowAttribute("Normalized").foldValue("Homer")).isEqualTo("homer");
+    }
+
+    @Test
+    public void foldsValuesIndependentlyOfDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertThat(CaseFolding.upper().foldValue("Smithers")).isEqualTo("SMITHERS");
+            assertThat(CaseFolding.lower().foldValue("SMITHERS")).isEqualTo("smithers");
+            assertThat(CaseFolding.shadowAttribute("Normalized").foldValue("SMITHERS")).isEqualTo("smithers");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void mapsPathToShadowAttribute() {
+        assertThat(CaseFolding.shadowAttribute("Normalized").attributePath("name")).isEqualTo("nameNormalized");
+        assertThat(CaseFolding.shadowAttribute("Normalized").attributePath("o.customer.name")).isEqualTo("o.customer.nameNormalized");
+        assertThat(CaseFolding.lower().attributePath("name")).isEqualTo("name");
+    }
+}
@@ -47,6 +47,21 @@ public class EqualIgnoreCaseTest extends EqualTest {
         assertThat(moeFound).hasSize(1).containsOnly(moeSzyslak);
     }
 
+    @Test
+    public void filtersByStringWithConfiguredCaseFolding() {
+        for (String caseFolding : new String[]{ CaseFolding.UPPER, CaseFolding.LOWER, CaseFolding.ILIKE }) {
+            EqualIgnoreCase<Customer> simpsons = new EqualIgnoreCase<>(queryCtx, "lastName", new String[]{ "SIMpsOn" }, defaultConverter, new String[]{ caseFolding });
+            assertThat(customerRepo.findAll(simpsons))
+                    .as(caseFolding)
+                    .containsOnly(homerSimpson, margeSimpson);
+
+            EqualIgnoreCase<Customer> wildcard = new EqualIgnoreCase<>(queryCtx, "lastName", new String[]{ "simps_n" }, defaultConverter, new String[]{ caseFolding });
+            assertThat(customerRepo.findAll(wildcard))
+                    .as(caseFolding)
+                    .isEmpty();
+        }
+    }
+
     @Test
     public void filtersByEnumCaseInsensitive() {
         EqualIgnoreCase<Customer> simpsons = new EqualIgnoreCase<>(queryCtx, "gender", new String[]{"fEmAlE"}, defaultConverter);
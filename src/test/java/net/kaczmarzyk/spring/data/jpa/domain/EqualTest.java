@@ -24,6 +24,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
@@ -168,4 +169,16 @@ public class EqualTest extends IntegrationTestBase {
         assertFilterMembers(homerWeightDouble, homerSimpson);
     }
 
+    @Test
+    public void filtersByTimestampAsWholeDayWhenDateFormatHasDayPrecision() {
+        Customer morningOrder = customer("Lenny", "Leonard").lastOrderTime(LocalDateTime.of(2015, 3, 1, 0, 0)).build(em);
+        Customer eveningOrder = customer("Carl", "Carlson").lastOrderTime(LocalDateTime.of(2015, 3, 1, 23, 59, 59)).build(em);
+        customer("Ned", "Flanders").lastOrderTime(LocalDateTime.of(2015, 3, 2, 0, 0)).build(em);
+
+        Equal<Customer> ordered1stMarch = new Equal<>(queryCtx, "lastOrderTime", new String[]{"01-03-2015"},
+                Converter.withDateFormat("dd-MM-yyyy", OnTypeMismatch.EMPTY_RESULT, null));
+
+        assertThat(customerRepo.findAll(ordered1stMarch)).containsOnly(morningOrder, eveningOrder);
+    }
+
 }
@@ -23,6 +23,7 @@ import net.kaczmarzyk.spring.data.jpa.web.annotation.OnTypeMismatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
@@ -150,4 +151,17 @@ public class InTest extends IntegrationTestBase {
 
         assertThat(found).hasSize(3).containsOnly(homerSimpson, margeSimpson, moeSzyslak);
     }
+
+    @Test
+    public void filtersByTimestampsAsWholeDaysWhenDateFormatHasDayPrecision() {
+        Customer ordered1stMarch = customer("Lenny", "Leonard").lastOrderTime(LocalDateTime.of(2015, 3, 1, 12, 0)).build(em);
+        customer("Carl", "Carlson").lastOrderTime(LocalDateTime.of(2015, 3, 2, 12, 0)).build(em);
+        Customer ordered3rdMarch = customer("Ned", "Flanders").lastOrderTime(LocalDateTime.of(2015, 3, 3, 23, 0)).build(em);
+
+        In<Customer> orderedOn1stOr3rdMarch = new In<>(queryCtx, "lastOrderTime", new String[]{"01-03-2015", "03-03-2015"},
+                Converter.withDateFormat("dd-MM-yyyy", OnTypeMismatch.EMPTY_RESULT, null));
+
+        assertThat(customerRepo.findAll(orderedOn1stOr3rdMarch)).containsOnly(ordered1stMarch, ordered3rdMarch);
+    }
+
 }
@@ -15,6 +15,8 @@
  */
 package net.kaczmarzyk.spring.data.jpa.domain;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.JoinType;
 import net.kaczmarzyk.spring.data.jpa.Customer;
 import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
@@ -353,4 +355,30 @@ public class JoinFetchTest extends IntegrationTestBase {
                 .containsExactlyInAnyOrder("Bart", "Homer", "Marge");
     }
 
+    @Test
+    public void makesQueryDistinctOnlyWhenCollectionIsFetched() {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        CriteriaQuery<Customer> customerQuery = cb.createQuery(Customer.class);
+        new JoinFetch<Customer>(queryCtx, new String[]{"orders"}, JoinType.LEFT, true)
+                .toPredicate(customerQuery.from(Customer.class), customerQuery, cb);
+        assertTrue(customerQuery.isDistinct());
+
+        CriteriaQuery<Order> orderQuery = cb.createQuery(Order.class);
+        new JoinFetch<Order>(queryCtx, new String[]{"customer"}, JoinType.LEFT, true)
+                .toPredicate(orderQuery.from(Order.class), orderQuery, cb);
+        assertFalse(orderQuery.isDistinct());
+    }
+
+    @Test
+    public void doesNotMakeCountQueryDistinct() {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+
+        new JoinFetch<Customer>(queryCtx, new String[]{"orders"}, JoinType.LEFT, true)
+                .toPredicate(countQuery.from(Customer.class), countQuery, cb);
+
+        assertFalse(countQuery.isDistinct());
+    }
+
 }
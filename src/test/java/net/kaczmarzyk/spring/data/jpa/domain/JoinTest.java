@@ -15,21 +15,41 @@
  */
 package net.kaczmarzyk.spring.data.jpa.domain;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.Root;
 import net.kaczmarzyk.spring.data.jpa.Customer;
 import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
 import net.kaczmarzyk.spring.data.jpa.ItemTag;
+import net.kaczmarzyk.spring.data.jpa.Order;
+import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
+import net.kaczmarzyk.spring.data.jpa.web.SpecificationArgumentResolver;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.And;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.Spec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
+import static jakarta.persistence.criteria.JoinType.INNER;
 import static jakarta.persistence.criteria.JoinType.LEFT;
 import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
 import static net.kaczmarzyk.spring.data.jpa.ItemTagBuilder.itemTag;
 import static net.kaczmarzyk.spring.data.jpa.OrderBuilder.order;
 import static net.kaczmarzyk.spring.data.jpa.utils.ThrowableAssertions.assertThrows;
+import static net.kaczmarzyk.spring.data.jpa.web.annotation.JoinStrategy.EXISTS;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class JoinTest extends IntegrationTestBase {
@@ -147,4 +167,262 @@ public class JoinTest extends IntegrationTestBase {
         );
     }
 
+    @Test
+    public void doesNotMakeQueryDistinctWhenJoinIsNotUsed() {
+        Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true);
+        Equal<Customer> lastNameEqual = new Equal<>(queryCtx, "lastName", new String[]{"Simpson"}, defaultConverter);
+
+        CriteriaQuery<Customer> query = toQuery(Customer.class, new Conjunction<>(joinOrders, lastNameEqual));
+
+        assertThat(query.isDistinct()).isFalse();
+    }
+
+    @Test
+    public void makesQueryDistinctWhenCollectionJoinIsUsed() {
+        Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true);
+        Equal<Customer> itemNameEqual = new Equal<>(queryCtx, "o.itemName", new String[]{"Donuts"}, defaultConverter);
+
+        CriteriaQuery<Customer> query = toQuery(Customer.class, new Conjunction<>(joinOrders, itemNameEqual));
+
+        assertThat(query.isDistinct()).isTrue();
+    }
+
+    @Test
+    public void doesNotMakeQueryDistinctForToOneJoin() {
+        Join<Order> joinCustomer = new Join<>(queryCtx, "customer", "c", LEFT, true);
+        Equal<Order> firstNameEqual = new Equal<>(queryCtx, "c.firstName", new String[]{"Homer"}, defaultConverter);
+
+        CriteriaQuery<Order> query = toQuery(Order.class, new Conjunction<>(joinCustomer, firstNameEqual));
+
+        assertThat(query.isDistinct()).isFalse();
+        assertThat(em.createQuery(query).getResultList())
+                .extracting(Order::getItemName)
+                .containsOnly("Duff Beer", "Donuts");
+    }
+
+    @Test
+    public void filtersCollectionWithCorrelatedExistsSubquery() {
+        Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true, EXISTS);
+        Equal<Customer> itemNameEqual = new Equal<>(queryCtx, "o.itemName", new String[]{"Duff Beer"}, defaultConverter);
+        Conjunction<Customer> conjunction = new Conjunction<>(joinOrders, itemNameEqual);
+
+        CriteriaQuery<Customer> query = toQuery(Customer.class, conjunction);
+
+        assertThat(query.isDistinct()).isFalse();
+        assertThat(em.createQuery(query).getResultList())
+                .extracting(Customer::getFirstName)
+                .containsOnly("Homer");
+        assertThat(customerRepo.findAll(conjunction, PageRequest.of(0, 10)).getTotalElements())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void groupsSpecsOnTheSameAliasIntoSingleExistsSubquery() {
+        Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", INNER, true, EXISTS);
+        Equal<Customer> itemNameEqual = new Equal<>(queryCtx, "o.itemName", new String[]{"Duff Beer"}, defaultConverter);
+        Like<Customer> itemNameLike = new Like<>(queryCtx, "o.itemName", "Donuts");
+        Equal<Customer> lastNameEqual = new Equal<>(queryCtx, "lastName", new String[]{"Simpson"}, defaultConverter);
+
+        List<Customer> customers = customerRepo.findAll(new Conjunction<>(joinOrders, itemNameEqual, itemNameLike, lastNameEqual));
+
+        assertThat(customers).isEmpty();
+    }
+
+    @Test
+    public void usesNotExistsSubqueryForNotEqualOnExistsAlias() {
+        Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", INNER, true, EXISTS);
+        NotEqual<Customer> itemNameNotEqual = new NotEqual<>(queryCtx, "o.itemName", new String[]{"Duff Beer"}, defaultConverter);
+
+        List<Customer> customers = customerRepo.findAll(new Conjunction<>(joinOrders, itemNameNotEqual), Sort.by("id"));
+
+        assertThat(customers)
+                .extracting(Customer::getFirstName)
+                .containsExactly("Marge", "Bart");
+    }
+
+    @Test
+    public void usesNotExistsSubqueryForNotInOnExistsAlias() {
+        Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", INNER, true, EXISTS);
+        NotIn<Customer> itemNameNotIn = new NotIn<>(queryCtx, "o.itemName", new String[]{"Donuts", "Comic Books"}, defaultConverter);
+
+        List<Customer> customers = customerRepo.findAll(new Conjunction<>(joinOrders, itemNameNotIn), Sort.by("id"));
+
+        assertThat(customers)
+                .extracting(Customer::getFirstName)
+                .containsExactly("Marge");
+    }
+
+    @Test
+    public void fallsBackToRegularJoinWhenExistsAliasIsUsedInDisjunction() {
+        Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true, EXISTS);
+        Disjunction<Customer> disjunction = new Disjunction<>(
+                new Equal<>(queryCtx, "o.itemName", new String[]{"Duff Beer"}, defaultConverter),
+                new Equal<>(queryCtx, "firstName", new String[]{"Marge"}, defaultConverter));
+
+        List<Customer> customers = customerRepo.findAll(new Conjunction<>(joinOrders, disjunction), Sort.by("id"));
+
+        assertThat(customers)
+                .extracting(Customer::getFirstName)
+                .containsExactly("Homer", "Marge");
+    }
+
+    @Test
+    public void rejectsExistsStrategyForNestedJoin() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new Join<>(queryCtx, "o.tags", "t", INNER, true, EXISTS),
+                "Join strategy EXISTS is supported only for paths on the root entity, but was used with: 'o.tags'"
+        );
+    }
+
+    @Test
+    public void reusesJoinOfSingularAssociationDefinedWithDifferentAliases() {
+        Join<Order> joinCustomer = new Join<>(queryCtx, "customer", "c", LEFT, true);
+        Join<Order> joinCustomerAgain = new Join<>(queryCtx, "customer", "c2", LEFT, true);
+        Equal<Order> firstNameEqual = new Equal<>(queryCtx, "c.firstName", new String[]{"Homer"}, defaultConverter);
+        Equal<Order> lastNameEqual = new Equal<>(queryCtx, "c2.lastName", new String[]{"Simpson"}, defaultConverter);
+
+        CriteriaQuery<Order> query = toQuery(Order.class, new Conjunction<>(joinCustomer, joinCustomerAgain, firstNameEqual, lastNameEqual));
+
+        assertThat(rootOf(query).getJoins()).hasSize(1);
+        assertThat(em.createQuery(query).getResultList())
+                .extracting(Order::getItemName)
+                .containsOnly("Duff Beer", "Donuts");
+    }
+
+    @Test
+    public void reusesJoinForImplicitNavigationThroughTheSameAssociation() {
+        Join<Order> joinCustomer = new Join<>(queryCtx, "customer", "c", INNER, true);
+        Equal<Order> firstNameEqual = new Equal<>(queryCtx, "customer.firstName", new String[]{"Bart"}, defaultConverter);
+        Equal<Order> lastNameEqual = new Equal<>(queryCtx, "customer.lastName", new String[]{"Simpson"}, defaultConverter);
+        Equal<Order> aliasedLastNameEqual = new Equal<>(queryCtx, "c.lastName", new String[]{"Simpson"}, defaultConverter);
+
+        CriteriaQuery<Order> query = toQuery(Order.class, new Conjunction<>(joinCustomer, firstNameEqual, lastNameEqual, aliasedLastNameEqual));
+
+        assertThat(rootOf(query).getJoins()).hasSize(1);
+        assertThat(em.createQuery(query).getResultList())
+                .extracting(Order::getItemName)
+                .containsOnly("Comic Books");
+    }
+
+    @Test
+    public void doesNotJoinForNavigationToIdOfAssociatedEntity() {
+        Equal<Order> customerIdEqual = new Equal<>(queryCtx, "customer.id", new String[]{homerSimpson.getId().toString()}, defaultConverter);
+
+        CriteriaQuery<Order> query = toQuery(Order.class, customerIdEqual);
+
+        assertThat(rootOf(query).getJoins()).isEmpty();
+        assertThat(em.createQuery(query).getResultList())
+                .extracting(Order::getItemName)
+                .containsOnly("Duff Beer", "Donuts");
+    }
+
+    @Test
+    public void doesNotReuseCollectionJoinsDefinedWithDifferentAliases() {
+        Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o1", INNER, true);
+        Join<Customer> joinOrdersAgain = new Join<>(queryCtx, "orders", "o2", INNER, true);
+        Equal<Customer> firstItemEqual = new Equal<>(queryCtx, "o1.itemName", new String[]{"Duff Beer"}, defaultConverter);
+        Equal<Customer> secondItemEqual = new Equal<>(queryCtx, "o2.itemName", new String[]{"Donuts"}, defaultConverter);
+
+        CriteriaQuery<Customer> query = toQuery(Customer.class, new Conjunction<>(joinOrders, joinOrdersAgain, firstItemEqual, secondItemEqual));
+
+        assertThat(rootOf(query).getJoins()).hasSize(2);
+        assertThat(em.createQuery(query).getResultList())
+                .extracting(Customer::getFirstName)
+                .containsOnly("Homer");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void sharesJoinsBetweenSpecsResolvedForTheSameRequest() throws Exception {
+        SpecificationArgumentResolver resolver = new SpecificationArgumentResolver();
+        MethodParameter param = MethodParameter.forExecutable(
+                TestController.class.getMethod("findByCustomerName", Specification.class), 0);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("firstName", "Bart");
+        request.addParameter("lastName", "Simpson");
+        NativeWebRequest req = new ServletWebRequest(request);
+
+        Specification<Order> spec = (Specification<Order>) resolver.resolveArgument(param, null, req, null);
+        CriteriaQuery<Order> query = toQuery(Order.class, spec);
+
+        assertThat(rootOf(query).getJoins()).hasSize(1);
+        assertThat(em.createQuery(query).getResultList())
+                .extracting(Order::getItemName)
+                .containsOnly("Comic Books");
+    }
+
+    @Test
+    public void joinsWithCustomQueryContextImplementingOnlyBaseMethods() {
+        QueryContext customCtx = customQueryContext();
+        Join<Customer> joinOrders = new Join<>(customCtx, "orders", "o", INNER, true);
+        Equal<Customer> itemEqual = new Equal<>(customCtx, "o.itemName", new String[]{"Donuts"}, defaultConverter);
+
+        assertThat(customerRepo.findAll(new Conjunction<>(joinOrders, itemEqual)))
+                .extracting(Customer::getFirstName)
+                .containsOnly("Homer");
+    }
+
+    @Test
+    public void navigatesWithoutExplicitJoinsForCustomQueryContextWithoutJoinRegistry() {
+        QueryContext customCtx = customQueryContext();
+        Specification<Order> spec = new Conjunction<>(
+                new Equal<>(customCtx, "customer.firstName", new String[]{"Bart"}, defaultConverter),
+                new Equal<>(customCtx, "customer.lastName", new String[]{"Simpson"}, defaultConverter));
+
+        CriteriaQuery<Order> query = toQuery(Order.class, spec);
+
+        assertThat(rootOf(query).getJoins()).isEmpty();
+        assertThat(em.createQuery(query).getResultList())
+                .extracting(Order::getItemName)
+                .containsOnly("Comic Books");
+    }
+
+    private QueryContext customQueryContext() {
+        return new QueryContext() {
+            private final Map<String, Function<Root<?>, jakarta.persistence.criteria.Join<?, ?>>> lazyJoins = new HashMap<>();
+            private final Map<String, Fetch<?, ?>> fetches = new HashMap<>();
+
+            @Override
+            public jakarta.persistence.criteria.Join<?, ?> getEvaluated(String key, Root<?> root) {
+                return lazyJoins.containsKey(key) ? lazyJoins.get(key).apply(root) : null;
+            }
+
+            @Override
+            public void putLazyVal(String key, Function<Root<?>, jakarta.persistence.criteria.Join<?, ?>> value) {
+                lazyJoins.put(key, value);
+            }
+
+            @Override
+            public Fetch<?, ?> getEvaluatedJoinFetch(String key) {
+                return fetches.get(key);
+            }
+
+            @Override
+            public void putEvaluatedJoinFetch(String key, Fetch<?, ?> fetch) {
+                fetches.put(key, fetch);
+            }
+        };
+    }
+
+    private <E> CriteriaQuery<E> toQuery(Class<E> entityClass, Specification<E> spec) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<E> query = cb.createQuery(entityClass);
+        Root<E> root = query.from(entityClass);
+        query.where(spec.toPredicate(root, query, cb));
+        return query;
+    }
+
+    private Root<?> rootOf(CriteriaQuery<?> query) {
+        return query.getRoots().iterator().next();
+    }
+
+    public static class TestController {
+
+        public void findByCustomerName(@And({
+                @Spec(path = "customer.firstName", params = "firstName", spec = Equal.class),
+                @Spec(path = "customer.lastName", params = "lastName", spec = Equal.class)
+        }) Specification<Order> spec) {
+        }
+    }
 }
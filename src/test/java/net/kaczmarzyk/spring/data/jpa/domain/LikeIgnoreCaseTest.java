@@ -42,6 +42,41 @@ public class LikeIgnoreCaseTest extends IntegrationTestBase {
         moeSzyslak = customer("MOE", "Szyslak").street("Unknown").build(em);
     }
 
+    @Test
+    public void filtersIgnoringCaseWithConfiguredCaseFolding() {
+        for (String caseFolding : new String[]{ CaseFolding.UPPER, CaseFolding.LOWER, CaseFolding.ILIKE }) {
+            LikeIgnoreCase<Customer> lastNameSimpson = new LikeIgnoreCase<>(queryCtx, "lastName", new String[]{ "sIMPSOn" }, null, new String[]{ caseFolding });
+            assertThat(customerRepo.findAll(lastNameSimpson))
+                    .as(caseFolding)
+                    .containsOnly(homerSimpson, margeSimpson);
+
+            StartingWithIgnoreCase<Customer> firstNameMo = new StartingWithIgnoreCase<>(queryCtx, "firstName", new String[]{ "mO" }, null, new String[]{ caseFolding });
+            assertThat(customerRepo.findAll(firstNameMo))
+                    .as(caseFolding)
+                    .containsOnly(moeSzyslak);
+
+            StartingWithIgnoreCase<Customer> firstNameMoRange = new StartingWithIgnoreCase<>(queryCtx, "firstName", new String[]{ "mO" }, null,
+                    new String[]{ caseFolding, StartingWith.PREFIX_RANGE });
+            assertThat(customerRepo.findAll(firstNameMoRange))
+                    .as(caseFolding)
+                    .containsOnly(moeSzyslak);
+
+            EndingWithIgnoreCase<Customer> lastNameSon = new EndingWithIgnoreCase<>(queryCtx, "lastName", new String[]{ "SON" }, null, new String[]{ caseFolding });
+            assertThat(customerRepo.findAll(lastNameSon))
+                    .as(caseFolding)
+                    .containsOnly(homerSimpson, margeSimpson);
+        }
+    }
+
+    @Test
+    public void foldsPatternOnceAtConstruction() {
+        LikeIgnoreCase<Customer> lower = new LikeIgnoreCase<>(queryCtx, "lastName", new String[]{ "SimPSon" }, null, new String[]{ CaseFolding.LOWER });
+        StartingWithIgnoreCase<Customer> upper = new StartingWithIgnoreCase<>(queryCtx, "lastName", "SimPSon");
+
+        assertThat(lower.foldedPattern).isEqualTo("%simpson%");
+        assertThat(upper.foldedPattern).isEqualTo("SIMPSON%");
+    }
+
     @Test
     public void filtersFirstLevelPropertyIgnoringCase() {
         LikeIgnoreCase<Customer> lastNameSimpson = new LikeIgnoreCase<>(queryCtx, "lastName", "sIMPSOn");
@@ -65,6 +65,35 @@ public class LikeTest extends IntegrationTestBase {
         assertThat(result).hasSize(2).containsOnly(homerSimpson, margeSimpson);
     }
 
+    @Test
+    public void matchesWildcardCharactersLiterally() {
+        Customer percent = customer("100%", "Percent").build(em);
+        Customer underscore = customer("Under_score", "Underscore").build(em);
+
+        assertThat(customerRepo.findAll(new Like<Customer>(queryCtx, "firstName", "%")))
+                .containsOnly(percent);
+        assertThat(customerRepo.findAll(new Like<Customer>(queryCtx, "firstName", "_")))
+                .containsOnly(underscore);
+        assertThat(customerRepo.findAll(new Like<Customer>(queryCtx, "firstName", "H_mer")))
+                .isEmpty();
+    }
+
+    @Test
+    public void treatsWildcardCharactersAsWildcardsInRawPatternMode() {
+        Like<Customer> rawPattern = new Like<>(queryCtx, "firstName", new String[]{ "H_mer" }, null, new String[]{ Like.RAW_PATTERN });
+
+        assertThat(customerRepo.findAll(rawPattern))
+                .containsOnly(homerSimpson);
+    }
+
+    @Test
+    public void escapesWildcardsAndEscapeCharacterInPattern() {
+        assertThat(new Like<>(queryCtx, "path", "a%b_c\\d").getPattern())
+                .isEqualTo("%a\\%b\\_c\\\\d%");
+        assertThat(new Like<>(queryCtx, "path", new String[]{ "a%b" }, null, new String[]{ Like.RAW_PATTERN }).getPattern())
+                .isEqualTo("%a%b%");
+    }
+
     @Test
     public void rejectsMissingArgument() {
         assertThrows(IllegalArgumentException.class, () -> new Like<>(queryCtx, "path", new String[]{}));
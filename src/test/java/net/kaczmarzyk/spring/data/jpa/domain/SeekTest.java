@@ -0,0 +1,110 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.Gender;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static net.kaczmarzyk.spring.data.jpa.utils.ThrowableAssertions.assertThrows;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.domain.Sort.Order.asc;
+import static org.springframework.data.domain.Sort.Order.desc;
+
+public class SeekTest extends IntegrationTestBase {
+
+    Customer homerSimpson;
+    Customer margeSimpson;
+    Customer bartSimpson;
+    Customer lisaSimpson;
+    Customer moeSzyslak;
+    Customer nedFlanders;
+
+    @BeforeEach
+    public void initData() {
+        homerSimpson = customer("Homer", "Simpson").gender(Gender.MALE).build(em);
+        margeSimpson = customer("Marge", "Simpson").gender(Gender.FEMALE).build(em);
+        bartSimpson = customer("Bart", "Simpson").gender(Gender.MALE).build(em);
+        lisaSimpson = customer("Lisa", "Simpson").gender(Gender.FEMALE).build(em);
+        moeSzyslak = customer("Moe", "Szyslak").gender(Gender.MALE).build(em);
+        nedFlanders = customer("Ned", "Flanders").gender(Gender.MALE).build(em);
+    }
+
+    @Test
+    public void filtersResultsAfterTheCursorWithMixedSortDirections() {
+        Sort sort = Sort.by(asc("lastName"), desc("firstName"), asc("id"));
+        Seek<Customer> seek = new Seek<>(new KeysetCursor(sort, List.of("Simpson", "Lisa", lisaSimpson.getId())));
+
+        assertThat(customerRepo.findAll(seek, sort))
+                .containsExactly(homerSimpson, bartSimpson, moeSzyslak);
+    }
+
+    @Test
+    public void usesUniqueLastKeyToBreakTies() {
+        Sort sort = Sort.by(asc("lastName"), asc("id"));
+        Seek<Customer> seek = new Seek<>(new KeysetCursor(sort, List.of("Simpson", margeSimpson.getId())));
+
+        assertThat(customerRepo.findAll(seek, sort))
+                .containsExactly(bartSimpson, lisaSimpson, moeSzyslak);
+    }
+
+    @Test
+    public void convertsEnumNamesOfDecodedCursor() {
+        Sort sort = Sort.by(desc("genderAsString"), asc("id"));
+        String token = new KeysetCursor(sort, List.of(Gender.MALE, bartSimpson.getId())).encode();
+
+        Seek<Customer> seek = new Seek<>(KeysetCursor.decode(token));
+
+        assertThat(customerRepo.findAll(seek, sort))
+                .containsExactly(moeSzyslak, nedFlanders, margeSimpson, lisaSimpson);
+    }
+
+    @Test
+    public void encodesAndDecodesCursorWithSupportedTypes() {
+        Sort sort = Sort.by(asc("a"), desc("b"), asc("c"), asc("d"), asc("e"));
+        KeysetCursor cursor = new KeysetCursor(sort, List.of("Homer", 42L, LocalDate.of(2015, 3, 1), UUID.randomUUID(), true));
+
+        assertThat(KeysetCursor.decode(cursor.encode()))
+                .isEqualTo(cursor);
+    }
+
+    @Test
+    public void rejectsInvalidToken() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> KeysetCursor.decode("not-a-cursor"),
+                "Invalid keyset cursor: not-a-cursor");
+    }
+
+    @Test
+    public void rejectsNullValuesOfSortKeys() {
+        Sort sort = Sort.by(asc("nickName"), asc("id"));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new KeysetCursor(sort, Arrays.asList(null, 1L)),
+                "Keyset pagination does not support null values of the sort keys, but was: sort=nickName: ASC,id: ASC, values=[null, 1]");
+    }
+}
@@ -64,6 +64,48 @@ public class StartingWithTest extends IntegrationTestBase {
         assertThat(result).hasSize(0);
     }
 
+    @Test
+    public void doesNotTreatLeadingWildcardInArgumentAsWildcard() {
+        StartingWith<Customer> leadingWildcard = new StartingWith<>(queryCtx, "lastName", "%son");
+        assertThat(customerRepo.findAll(leadingWildcard)).isEmpty();
+        assertThat(leadingWildcard.getPattern()).isEqualTo("\\%son%");
+
+        StartingWith<Customer> rawLeadingWildcard = new StartingWith<>(queryCtx, "lastName", new String[]{ "%son" }, null, new String[]{ Like.RAW_PATTERN });
+        assertThat(customerRepo.findAll(rawLeadingWildcard)).containsOnly(homerSimpson, margeSimpson);
+    }
+
+    @Test
+    public void filtersWithPrefixRange() {
+        String[] prefixRange = { StartingWith.PREFIX_RANGE };
+
+        StartingWith<Customer> lastNameSimpson = new StartingWith<>(queryCtx, "lastName", new String[]{ "Simp" }, null, prefixRange);
+        assertThat(customerRepo.findAll(lastNameSimpson)).containsOnly(homerSimpson, margeSimpson);
+
+        StartingWith<Customer> streetWithEvergreen = new StartingWith<>(queryCtx, "address.street", new String[]{ "Evergreen" }, null, prefixRange);
+        assertThat(customerRepo.findAll(streetWithEvergreen)).containsOnly(homerSimpson, margeSimpson);
+
+        StartingWith<Customer> wholeValue = new StartingWith<>(queryCtx, "firstName", new String[]{ "Moe" }, null, prefixRange);
+        assertThat(customerRepo.findAll(wholeValue)).containsOnly(moeSzyslak);
+
+        StartingWith<Customer> wildcard = new StartingWith<>(queryCtx, "firstName", new String[]{ "M%" }, null, prefixRange);
+        assertThat(customerRepo.findAll(wildcard)).isEmpty();
+    }
+
+    @Test
+    public void computesPrefixUpperBoundByIncrementingLastCodePoint() {
+        assertThat(Like.prefixUpperBound("abc")).isEqualTo("abd");
+        assertThat(Like.prefixUpperBound("ab\uD7FF")).isEqualTo("ab\uE000");
+        assertThat(Like.prefixUpperBound("a\uD83D\uDE00")).isEqualTo("a\uD83D\uDE01");
+        assertThat(Like.prefixUpperBound("a" + new String(Character.toChars(Character.MAX_CODE_POINT)))).isEqualTo("b");
+        assertThat(Like.prefixUpperBound("")).isNull();
+    }
+
+    @Test
+    public void rejectsPrefixRangeCombinedWithRawPattern() {
+        assertThrows(IllegalArgumentException.class, () -> new StartingWith<>(queryCtx, "path", new String[]{ "a" }, null,
+                new String[]{ StartingWith.PREFIX_RANGE, Like.RAW_PATTERN }));
+    }
+
     @Test
     public void rejectsMissingArgument() {
         assertThrows(IllegalArgumentException.class, () -> new StartingWith<>(queryCtx, "path", new String[]{}));
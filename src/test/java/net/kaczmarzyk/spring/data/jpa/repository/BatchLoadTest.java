@@ -0,0 +1,118 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.PersistenceUnitUtil;
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.ItemTag;
+import net.kaczmarzyk.spring.data.jpa.Order;
+import net.kaczmarzyk.spring.data.jpa.domain.BatchLoad;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static net.kaczmarzyk.spring.data.jpa.ItemTagBuilder.itemTag;
+import static net.kaczmarzyk.spring.data.jpa.OrderBuilder.order;
+import static net.kaczmarzyk.spring.data.jpa.utils.ThrowableAssertions.assertThrows;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchLoadTest extends IntegrationTestBase {
+
+    PersistenceUnitUtil persistenceUnitUtil;
+
+    @BeforeEach
+    public void initData() {
+        ItemTag snacks = itemTag("snacks").build(em);
+        ItemTag books = itemTag("books").build(em);
+
+        customer("Homer", "Simpson").orders(order("Duff Beer"), order("Donuts").withTags(snacks)).badges("Beef Eater").build(em);
+        customer("Marge", "Simpson").orders(order("Pork Chops")).build(em);
+        customer("Bart", "Simpson").orders(order("Comic Books").withTags(books)).badges("Troll Face", "Cool Kid").build(em);
+        customer("Moe", "Szyslak").orders(order("Duff Beer")).build(em);
+
+        em.flush();
+        em.clear();
+
+        persistenceUnitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
+    }
+
+    @Test
+    public void initializesCollectionsOfAllLoadedEntitiesWithoutMultiplyingRows() {
+        Conjunction<Customer> spec = new Conjunction<>(
+                new BatchLoad<>(new String[]{ "orders", "badges" }, ""),
+                new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter));
+
+        Page<Customer> page = customerSpecRepo.findAll(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+
+        assertThat(page.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Bart", "Homer");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent())
+                .allMatch(customer -> persistenceUnitUtil.isLoaded(customer, "orders"))
+                .allMatch(customer -> persistenceUnitUtil.isLoaded(customer, "badges"));
+        assertThat(page.getContent().get(0).getBadges()).hasSize(2);
+        assertThat(page.getContent().get(1).getOrders()).hasSize(2);
+    }
+
+    @Test
+    public void initializesNestedAssociationsByAlias() {
+        Conjunction<Customer> spec = new Conjunction<>(
+                new BatchLoad<>(new String[]{ "orders" }, "o"),
+                new BatchLoad<>(new String[]{ "o.tags" }, ""));
+
+        List<Customer> customers = customerSpecRepo.findAll(spec, Sort.by("id"));
+
+        assertThat(customers).hasSize(4);
+        for (Customer customer : customers) {
+            assertThat(persistenceUnitUtil.isLoaded(customer, "orders")).isTrue();
+            for (Order order : customer.getOrders()) {
+                assertThat(persistenceUnitUtil.isLoaded(order, "tags")).isTrue();
+            }
+        }
+    }
+
+    @Test
+    public void doesNotInitializeAssociationsWithoutBatchLoad() {
+        List<Customer> customers = customerSpecRepo.findAll(new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter));
+
+        assertThat(customers)
+                .noneMatch(customer -> persistenceUnitUtil.isLoaded(customer, "orders"));
+    }
+
+    @Test
+    public void throwsExceptionWhenAliasIsNotDefinedBefore() {
+        Conjunction<Customer> spec = new Conjunction<>(
+                new BatchLoad<>(new String[]{ "o.tags" }, ""),
+                new BatchLoad<>(new String[]{ "orders" }, "o"));
+
+        assertThrows(
+                InvalidDataAccessApiUsageException.class,
+                () -> customerSpecRepo.findAll(spec),
+                "Batch load definition with alias: 'o' not found! "
+                        + "Make sure that batch load with the alias 'o' is defined before the batch load with path: 'o.tags'"
+        );
+    }
+}
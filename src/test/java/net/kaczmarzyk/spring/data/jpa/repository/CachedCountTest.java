@@ -0,0 +1,94 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedCount;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.utils.CountCache;
+import net.kaczmarzyk.spring.data.jpa.utils.SpecificationFingerprint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CachedCountTest extends IntegrationTestBase {
+
+    CountCache cache = new CountCache(100, Duration.ofMinutes(1));
+
+    @BeforeEach
+    public void initData() {
+        customer("Homer", "Simpson").build(em);
+        customer("Marge", "Simpson").build(em);
+        customer("Bart", "Simpson").build(em);
+        customer("Lisa", "Simpson").build(em);
+        customer("Moe", "Szyslak").build(em);
+    }
+
+    @Test
+    public void executesCountQueryOnceWhenPagingThroughResults() {
+        QueryRecordingSpec<Customer> recordingSpec = new QueryRecordingSpec<>(simpsons());
+        Specification<Customer> spec = withCachedCount(recordingSpec, simpsons());
+
+        Page<Customer> page1 = customerSpecRepo.findAll(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+        Page<Customer> page2 = customerSpecRepo.findAll(spec, PageRequest.of(1, 2, Sort.by("firstName")));
+
+        assertThat(page1.getTotalElements()).isEqualTo(4);
+        assertThat(page2.getTotalElements()).isEqualTo(4);
+        assertThat(page2.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Lisa", "Marge");
+        assertThat(recordingSpec.getResultTypes())
+                .containsExactly(Customer.class, Long.class, Customer.class);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void sharesCountBetweenLogicallyIdenticalSpecifications() {
+        long count1 = customerSpecRepo.count(withCachedCount(simpsons(), simpsons()));
+        QueryRecordingSpec<Customer> recordingSpec = new QueryRecordingSpec<>(simpsons());
+        long count2 = customerSpecRepo.count(withCachedCount(recordingSpec, simpsons()));
+
+        assertThat(count1).isEqualTo(4);
+        assertThat(count2).isEqualTo(4);
+        assertThat(recordingSpec.getResultTypes()).isEmpty();
+    }
+
+    @Test
+    public void countsWithoutCacheWhenSpecificationIsNotMarked() {
+        customerSpecRepo.count(simpsons());
+
+        assertThat(cache.size()).isZero();
+    }
+
+    private Specification<Customer> withCachedCount(Specification<Customer> spec, Specification<Customer> fingerprinted) {
+        return new Conjunction<>(spec, new CachedCount<>(cache, SpecificationFingerprint.of(fingerprinted)));
+    }
+
+    private Equal<Customer> simpsons() {
+        return new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedResults;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.Fields;
+import net.kaczmarzyk.spring.data.jpa.utils.ResultCache;
+import net.kaczmarzyk.spring.data.jpa.utils.SpecificationFingerprint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toList;
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static net.kaczmarzyk.spring.data.jpa.utils.ThrowableAssertions.assertThrows;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CachedResultsTest extends IntegrationTestBase {
+
+    ResultCache cache = new ResultCache(100);
+
+    @BeforeEach
+    public void initData() {
+        customer("Homer", "Simpson").build(em);
+        customer("Marge", "Simpson").build(em);
+        customer("Bart", "Simpson").build(em);
+        customer("Lisa", "Simpson").build(em);
+        customer("Moe", "Szyslak").build(em);
+    }
+
+    @Test
+    public void servesPageFromCacheForRepeatedSearch() {
+        QueryRecordingSpec<Customer> recordingSpec = new QueryRecordingSpec<>(simpsons());
+        Specification<Customer> spec = withCachedResults(recordingSpec);
+
+        Page<Customer> page1 = customerSpecRepo.findAll(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+        Page<Customer> page2 = customerSpecRepo.findAll(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+
+        assertThat(page2.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Bart", "Homer");
+        assertThat(page2.getContent()).isEqualTo(page1.getContent());
+        assertThat(page2.getTotalElements()).isEqualTo(4);
+        assertThat(recordingSpec.getResultTypes())
+                .containsExactly(Customer.class, Long.class);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void cachesPagesAndSortsSeparately() {
+        Specification<Customer> spec = withCachedResults(simpsons());
+
+        customerSpecRepo.findAll(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+        Page<Customer> nextPage = customerSpecRepo.findAll(spec, PageRequest.of(1, 2, Sort.by("firstName")));
+        List<Customer> sortedDesc = customerSpecRepo.findAll(spec, Sort.by("firstName").descending());
+
+        assertThat(nextPage.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Lisa", "Marge");
+        assertThat(sortedDesc)
+                .extracting(Customer::getFirstName)
+                .containsExactly("Marge", "Lisa", "Homer", "Bart");
+        assertThat(cache.getHitCount()).isZero();
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void servesProjectionsFromCache() {
+        QueryRecordingSpec<Customer> recordingSpec = new QueryRecordingSpec<>(simpsons());
+        Specification<Customer> spec = withCachedResults(recordingSpec);
+
+        customerSpecRepo.findAllProjected(spec, ProjectionTest.CustomerName.class, PageRequest.of(0, 2, Sort.by("firstName")));
+        Page<ProjectionTest.CustomerName> cached = customerSpecRepo.findAllProjected(spec, ProjectionTest.CustomerName.class, PageRequest.of(0, 2, Sort.by("firstName")));
+
+        assertThat(cached.getContent())
+                .extracting(ProjectionTest.CustomerName::firstName)
+                .containsExactly("Bart", "Homer");
+        assertThat(recordingSpec.getResultTypes()).hasSize(2);
+    }
+
+    @Test
+    public void servesUnmodifiableRowsOfFieldsFromCache() {
+        Specification<Customer> spec = withCachedResults(new Conjunction<>(
+                simpsons(), new Fields<>(queryCtx, List.of("firstName"))));
+
+        Page<Map<String, Object>> page = customerSpecRepo.findAllFields(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+        assertThrows(UnsupportedOperationException.class, () -> page.getContent().get(0).put("firstName", "Maggie"));
+        Page<Map<String, Object>> cached = customerSpecRepo.findAllFields(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+
+        assertThat(cached.getContent())
+                .extracting(row -> row.get("firstName"))
+                .containsExactly("Bart", "Homer");
+        assertThrows(UnsupportedOperationException.class, () -> cached.getContent().get(0).put("firstName", "Maggie"));
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void loadsCachedUnpagedResultsInChunks() {
+        for (int i = 0; i < BatchLoader.MAX_IDS_PER_QUERY + 10; i++) {
+            customer("Clone" + i, "Simpson").build(em);
+        }
+        em.flush();
+        em.clear();
+        Specification<Customer> spec = withCachedResults(simpsons());
+
+        List<Customer> found = customerSpecRepo.findAll(spec, Sort.by("id"));
+        List<Customer> cached = customerSpecRepo.findAll(spec, Sort.by("id"));
+
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cached).hasSize(BatchLoader.MAX_IDS_PER_QUERY + 14);
+        assertThat(cached).extracting(Customer::getId)
+                .containsExactlyElementsOf(found.stream().map(Customer::getId).collect(toList()));
+    }
+
+    private Specification<Customer> withCachedResults(Specification<Customer> spec) {
+        return new Conjunction<>(spec, new CachedResults<>(cache, SpecificationFingerprint.of(simpsons()), Duration.ofMinutes(1)));
+    }
+
+    private Equal<Customer> simpsons() {
+        return new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+    }
+}
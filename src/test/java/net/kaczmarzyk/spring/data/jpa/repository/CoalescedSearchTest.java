@@ -0,0 +1,120 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.CoalescedSearch;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.utils.SingleFlight;
+import net.kaczmarzyk.spring.data.jpa.utils.SpecificationFingerprint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CoalescedSearchTest extends IntegrationTestBase {
+
+    SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(10));
+
+    Pageable pageable = PageRequest.of(0, 2, Sort.by("firstName"));
+
+    @BeforeEach
+    public void initData() {
+        customer("Homer", "Simpson").build(em);
+        customer("Marge", "Simpson").build(em);
+        customer("Bart", "Simpson").build(em);
+        customer("Moe", "Szyslak").build(em);
+    }
+
+    @Test
+    public void sharesProjectionsOfSearchInFlightWithConcurrentIdenticalSearch() throws Exception {
+        CompletableFuture<Page<ProjectionTest.CustomerName>> follower = new CompletableFuture<>();
+        Specification<Customer> leaderSpec = coalesced(new StartingConcurrentSearch(simpsons(), () ->
+                follower.completeAsync(() -> customerSpecRepo.findAllProjected(coalesced(simpsons()), ProjectionTest.CustomerName.class, pageable))));
+
+        Page<ProjectionTest.CustomerName> leaderPage = customerSpecRepo.findAllProjected(leaderSpec, ProjectionTest.CustomerName.class, pageable);
+
+        assertThat(follower.get().getContent())
+                .extracting(ProjectionTest.CustomerName::firstName)
+                .containsExactly("Bart", "Homer");
+        assertThat(follower.get().getContent()).isEqualTo(leaderPage.getContent());
+        assertThat(follower.get().getTotalElements()).isEqualTo(3);
+        assertThat(singleFlight.getSharedResultCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void returnsOwnEntitiesToCallerExecutingSearch() {
+        Page<Customer> page = customerSpecRepo.findAll(coalesced(simpsons()), pageable);
+
+        assertThat(page.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Bart", "Homer");
+        assertThat(page.getContent()).allMatch(em::contains);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+
+    private Specification<Customer> coalesced(Specification<Customer> spec) {
+        return new Conjunction<>(spec, new CoalescedSearch<>(singleFlight, SpecificationFingerprint.of(simpsons())));
+    }
+
+    private Equal<Customer> simpsons() {
+        return new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+    }
+
+    /**
+     * Starts the concurrent search when the query is being created (i.e. when the search is in flight)
+     * and waits until it waits for the result
+     */
+    private class StartingConcurrentSearch implements Specification<Customer> {
+
+        private final Specification<Customer> spec;
+        private final Runnable concurrentSearch;
+        private boolean started;
+
+        StartingConcurrentSearch(Specification<Customer> spec, Runnable concurrentSearch) {
+            this.spec = spec;
+            this.concurrentSearch = concurrentSearch;
+        }
+
+        @Override
+        public Predicate toPredicate(Root<Customer> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+            if (!started) {
+                started = true;
+                concurrentSearch.run();
+                while (singleFlight.getWaitingCount() == 0) {
+                    Thread.onSpinWait();
+                }
+            }
+            return spec.toPredicate(root, query, cb);
+        }
+    }
+}
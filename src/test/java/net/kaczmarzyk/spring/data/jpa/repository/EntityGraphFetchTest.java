@@ -0,0 +1,132 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.criteria.JoinType;
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.ItemTag;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.EntityGraphFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.web.SpecificationArgumentResolver;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.JoinFetch;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.Spec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static net.kaczmarzyk.spring.data.jpa.ItemTagBuilder.itemTag;
+import static net.kaczmarzyk.spring.data.jpa.OrderBuilder.order;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EntityGraphFetchTest extends IntegrationTestBase {
+
+    PersistenceUnitUtil persistenceUnitUtil;
+
+    @BeforeEach
+    public void initData() {
+        ItemTag snacks = itemTag("snacks").build(em);
+        ItemTag books = itemTag("books").build(em);
+
+        customer("Homer", "Simpson").orders(order("Duff Beer"), order("Donuts").withTags(snacks)).badges("Beef Eater").build(em);
+        customer("Marge", "Simpson").orders(order("Pork Chops")).build(em);
+        customer("Bart", "Simpson").orders(order("Comic Books").withTags(books)).badges("Troll Face", "Cool Kid").build(em);
+        customer("Moe", "Szyslak").orders(order("Duff Beer")).build(em);
+
+        em.flush();
+        em.clear();
+
+        persistenceUnitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
+    }
+
+    @Test
+    public void loadsAttributesOfTheFetchPlan() {
+        Conjunction<Customer> spec = new Conjunction<>(
+                new EntityGraphFetch<>(List.of("orders", "badges"), EntityGraphType.FETCH),
+                new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter));
+
+        List<Customer> found = customerSpecRepo.findAll(spec, Sort.by("firstName"));
+
+        assertThat(found)
+                .extracting(Customer::getFirstName)
+                .containsExactly("Bart", "Homer", "Marge");
+        assertThat(found)
+                .allMatch(customer -> persistenceUnitUtil.isLoaded(customer, "orders"))
+                .allMatch(customer -> persistenceUnitUtil.isLoaded(customer, "badges"));
+        assertThat(found.get(1).getOrders()).hasSize(2);
+    }
+
+    @Test
+    public void loadsNestedAttributesOfTheFetchPlanWhenPagingIdsFirst() {
+        Conjunction<Customer> spec = new Conjunction<>(
+                new EntityGraphFetch<>(List.of("orders", "orders.tags"), EntityGraphType.LOAD),
+                new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter));
+
+        Page<Customer> page = customerSpecRepo.findAllPagingIdsFirst(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+
+        assertThat(page.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Bart", "Homer");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent())
+                .allMatch(customer -> persistenceUnitUtil.isLoaded(customer, "orders"))
+                .allMatch(customer -> customer.getOrders().stream().allMatch(order -> persistenceUnitUtil.isLoaded(order, "tags")))
+                .noneMatch(customer -> persistenceUnitUtil.isLoaded(customer, "badges"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void keepsLeftFetchWhoseAliasIsUsedByInnerFetch() throws Exception {
+        SpecificationArgumentResolver resolver = new SpecificationArgumentResolver();
+        resolver.setJoinFetchAsEntityGraph(EntityGraphType.FETCH);
+        MethodParameter param = MethodParameter.forExecutable(
+                TestController.class.getMethod("findWithTaggedOrders", Specification.class), 0);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("lastName", "Simpson");
+
+        Specification<Customer> spec = (Specification<Customer>) resolver.resolveArgument(param, null, new ServletWebRequest(request), null);
+        List<Customer> found = customerSpecRepo.findAll(spec, Sort.by("firstName"));
+
+        assertThat(found)
+                .extracting(Customer::getFirstName)
+                .containsExactly("Bart", "Homer");
+        assertThat(found)
+                .allMatch(customer -> persistenceUnitUtil.isLoaded(customer, "orders"))
+                .allMatch(customer -> persistenceUnitUtil.isLoaded(customer, "badges"));
+    }
+
+    public static class TestController {
+
+        public void findWithTaggedOrders(
+                @JoinFetch(paths = "orders", alias = "o")
+                @JoinFetch(paths = "o.tags", joinType = JoinType.INNER)
+                @JoinFetch(paths = "badges")
+                @Spec(path = "lastName", spec = Equal.class) Specification<Customer> spec) {
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.Order;
+import net.kaczmarzyk.spring.data.jpa.utils.EntityVersions;
+import net.kaczmarzyk.spring.data.jpa.utils.InMemoryEntityVersions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.Test;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EntityVersionsListenerTest extends IntegrationTestBase {
+
+    EntityVersions versions = new InMemoryEntityVersions();
+
+    EntityVersionsListener listener = new EntityVersionsListener(versions);
+
+    @Test
+    public void incrementsVersionOfEntityTypeOnCommittedWrites() {
+        Customer homer = customer("Homer", "Simpson").build(em);
+        EntityPersister persister = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(Customer.class);
+
+        listener.onPostInsert(new PostInsertEvent(homer, homer.getId(), null, persister, null));
+        listener.onPostUpdate(new PostUpdateEvent(homer, homer.getId(), null, null, null, persister, null));
+        listener.onPostDelete(new PostDeleteEvent(homer, homer.getId(), null, persister, null));
+
+        assertThat(versions.getVersion(Customer.class)).isEqualTo(3);
+        assertThat(versions.getVersion(Object.class)).isEqualTo(3);
+        assertThat(versions.getVersion(Order.class)).isZero();
+    }
+}
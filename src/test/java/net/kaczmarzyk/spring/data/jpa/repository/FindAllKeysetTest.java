@@ -0,0 +1,91 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.KeysetCursor;
+import net.kaczmarzyk.spring.data.jpa.domain.Seek;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static net.kaczmarzyk.spring.data.jpa.utils.ThrowableAssertions.assertThrows;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FindAllKeysetTest extends IntegrationTestBase {
+
+    @BeforeEach
+    public void initData() {
+        customer("Homer", "Simpson").build(em);
+        customer("Marge", "Simpson").build(em);
+        customer("Bart", "Simpson").build(em);
+        customer("Lisa", "Simpson").build(em);
+        customer("Maggie", "Simpson").build(em);
+        customer("Moe", "Szyslak").build(em);
+        customer("Ned", "Flanders").build(em);
+    }
+
+    @Test
+    public void scrollsThroughAllResultsWithCursors() {
+        Sort sort = Sort.by("lastName");
+        Equal<Customer> simpsons = new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+
+        List<String> scrolled = new ArrayList<>();
+        KeysetSlice<Customer> slice = customerSpecRepo.findAllKeyset(simpsons, sort, 2);
+        slice.getContent().forEach(customer -> scrolled.add(customer.getFirstName()));
+        while (slice.hasNext()) {
+            Specification<Customer> nextSpec = new Conjunction<>(
+                    simpsons,
+                    new Seek<>(KeysetCursor.decode(slice.getNextCursor())));
+            slice = customerSpecRepo.findAllKeyset(nextSpec, sort, 2);
+            slice.getContent().forEach(customer -> scrolled.add(customer.getFirstName()));
+        }
+
+        assertThat(scrolled)
+                .containsExactly("Homer", "Marge", "Bart", "Lisa", "Maggie");
+    }
+
+    @Test
+    public void returnsNoCursorIfThereAreNoMoreResults() {
+        KeysetSlice<Customer> slice = customerSpecRepo.findAllKeyset(null, Sort.by(Sort.Direction.DESC, "firstName"), 7);
+
+        assertThat(slice.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Ned", "Moe", "Marge", "Maggie", "Lisa", "Homer", "Bart");
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void rejectsCursorCreatedForDifferentSort() {
+        KeysetSlice<Customer> slice = customerSpecRepo.findAllKeyset(null, Sort.by("lastName"), 2);
+        Seek<Customer> seek = new Seek<>(KeysetCursor.decode(slice.getNextCursor()));
+
+        assertThrows(
+                InvalidDataAccessApiUsageException.class,
+                () -> customerSpecRepo.findAllKeyset(seek, Sort.by("firstName"), 2),
+                "Keyset cursor does not match the requested sort: firstName: ASC,id: ASC, cursor: " + seek.getCursor());
+    }
+}
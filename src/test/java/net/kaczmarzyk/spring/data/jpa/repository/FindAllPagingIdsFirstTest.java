@@ -0,0 +1,114 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.PersistenceUnitUtil;
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.Join;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.Like;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static jakarta.persistence.criteria.JoinType.INNER;
+import static jakarta.persistence.criteria.JoinType.LEFT;
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FindAllPagingIdsFirstTest extends IntegrationTestBase {
+
+    @BeforeEach
+    public void initData() {
+        customer("Homer", "Simpson").orders("Duff Beer", "Donuts").badges("Beef Eater").build(em);
+        customer("Marge", "Simpson").orders("Pork Chops").build(em);
+        customer("Bart", "Simpson").orders("Comic Books", "Squishee", "Krusty Burger").build(em);
+        customer("Lisa", "Simpson").build(em);
+        customer("Moe", "Szyslak").orders("Duff Beer").build(em);
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void pagesIdsAndLoadsEntitiesWithFetchedCollectionsInOriginalOrder() {
+        Conjunction<Customer> spec = new Conjunction<>(
+                new JoinFetch<>(queryCtx, new String[]{ "orders", "badges" }, LEFT, true),
+                new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter));
+
+        Page<Customer> page = customerSpecRepo.findAllPagingIdsFirst(spec, PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "firstName")));
+
+        assertThat(page.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Marge", "Lisa", "Homer");
+        assertThat(page.getTotalElements()).isEqualTo(4);
+
+        PersistenceUnitUtil persistenceUnitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
+        assertThat(page.getContent())
+                .allMatch(customer -> persistenceUnitUtil.isLoaded(customer, "orders"))
+                .allMatch(customer -> persistenceUnitUtil.isLoaded(customer, "badges"));
+        assertThat(page.getContent().get(2).getOrders()).hasSize(2);
+    }
+
+    @Test
+    public void pagesDistinctResultsOfJoinedCollection() {
+        Conjunction<Customer> spec = new Conjunction<>(
+                new Join<>(queryCtx, "orders", "o", INNER, true),
+                new JoinFetch<>(queryCtx, new String[]{ "orders" }, LEFT, true),
+                new Like<>(queryCtx, "o.itemName", "u"));
+
+        Page<Customer> firstPage = customerSpecRepo.findAllPagingIdsFirst(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+        Page<Customer> secondPage = customerSpecRepo.findAllPagingIdsFirst(spec, PageRequest.of(1, 2, Sort.by("firstName")));
+
+        assertThat(firstPage.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Bart", "Homer");
+        assertThat(secondPage.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Moe");
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(firstPage.getContent().get(0).getOrders()).hasSize(3);
+    }
+
+    @Test
+    public void filtersIdsAndCountWithInnerFetch() {
+        Conjunction<Customer> spec = new Conjunction<>(
+                new JoinFetch<>(queryCtx, new String[]{ "orders" }, INNER, true),
+                new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter));
+
+        Page<Customer> page = customerSpecRepo.findAllPagingIdsFirst(spec, PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "firstName")));
+
+        assertThat(page.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Marge", "Homer");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(customerSpecRepo.count(spec)).isEqualTo(3);
+    }
+
+    @Test
+    public void returnsEmptyPageWhenNothingMatches() {
+        Page<Customer> page = customerSpecRepo.findAllPagingIdsFirst(
+                new Equal<>(queryCtx, "lastName", new String[]{ "Flanders" }, defaultConverter), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+    }
+}
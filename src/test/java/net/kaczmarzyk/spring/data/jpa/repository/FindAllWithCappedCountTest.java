@@ -0,0 +1,124 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.criteria.CriteriaQuery;
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.Join;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.Like;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import static jakarta.persistence.criteria.JoinType.INNER;
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FindAllWithCappedCountTest extends IntegrationTestBase {
+
+    @BeforeEach
+    public void initData() {
+        customer("Homer", "Simpson").orders("Duff Beer", "Donuts", "Duff Light").build(em);
+        customer("Marge", "Simpson").orders("Pork Chops").build(em);
+        customer("Bart", "Simpson").orders("Comic Books", "Duff Beer").build(em);
+        customer("Lisa", "Simpson").orders("Duff Beer").build(em);
+        customer("Maggie", "Simpson").build(em);
+        customer("Moe", "Szyslak").orders("Duff Beer").build(em);
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void capsTheTotalCount() {
+        Equal<Customer> spec = new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+
+        CappedPage<Customer> page = customerSpecRepo.findAllWithCappedCount(spec, PageRequest.of(0, 2, Sort.by("firstName")), 3);
+
+        assertThat(page.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Bart", "Homer");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.isTotalCapped()).isTrue();
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    public void returnsExactTotalCountIfItDoesNotExceedTheCap() {
+        Equal<Customer> spec = new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+
+        CappedPage<Customer> page = customerSpecRepo.findAllWithCappedCount(spec, PageRequest.of(0, 2, Sort.by("firstName")), 5);
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.isTotalCapped()).isFalse();
+    }
+
+    @Test
+    public void returnsExactTotalCountOfTheLastPageEvenIfItExceedsTheCap() {
+        Equal<Customer> spec = new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+
+        CappedPage<Customer> page = customerSpecRepo.findAllWithCappedCount(spec, PageRequest.of(2, 2, Sort.by("firstName")), 3);
+
+        assertThat(page.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Marge");
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.isTotalCapped()).isFalse();
+    }
+
+    @Test
+    public void countsEntitiesJoinedWithCollectionOnlyOnce() {
+        Conjunction<Customer> spec = new Conjunction<>(
+                new Join<>(queryCtx, "orders", "o", INNER, true),
+                new Like<>(queryCtx, "o.itemName", "Duff"));
+
+        CappedPage<Customer> page = customerSpecRepo.findAllWithCappedCount(spec, PageRequest.of(0, 1, Sort.by("firstName")), 10);
+
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.isTotalCapped()).isFalse();
+    }
+
+    @Test
+    public void filtersCountWithInnerFetches() {
+        Conjunction<Customer> spec = new Conjunction<>(
+                new JoinFetch<>(queryCtx, new String[]{ "orders" }, INNER, true),
+                new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter));
+
+        CappedPage<Customer> page = customerSpecRepo.findAllWithCappedCount(spec, PageRequest.of(0, 1, Sort.by("firstName")), 10);
+
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.isTotalCapped()).isFalse();
+    }
+
+    @Test
+    public void appliesSpecUsingQueryOrderToCountQuery() {
+        Specification<Customer> orderingSpec = (root, query, cb) -> {
+            ((CriteriaQuery<?>) query).orderBy(cb.asc(root.get("firstName")));
+            return cb.equal(root.get("lastName"), "Simpson");
+        };
+
+        CappedPage<Customer> page = customerSpecRepo.findAllWithCappedCount(orderingSpec, PageRequest.of(0, 2, Sort.by("firstName")), 4);
+
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.isTotalCapped()).isTrue();
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Tuple;
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.Join;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.Like;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static jakarta.persistence.criteria.JoinType.INNER;
+import static jakarta.persistence.criteria.JoinType.LEFT;
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FindAllWithWindowCountTest extends IntegrationTestBase {
+
+    @BeforeEach
+    public void initData() {
+        customer("Homer", "Simpson").orders("Duff Beer", "Donuts", "Duff Light").build(em);
+        customer("Marge", "Simpson").orders("Pork Chops").build(em);
+        customer("Bart", "Simpson").orders("Comic Books", "Duff Beer").build(em);
+        customer("Lisa", "Simpson").orders("Duff Beer").build(em);
+        customer("Maggie", "Simpson").build(em);
+        customer("Moe", "Szyslak").orders("Duff Beer").build(em);
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void returnsPageWithTotalCountFromSingleQuery() {
+        QueryRecordingSpec<Customer> spec = new QueryRecordingSpec<>(
+                new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter));
+
+        Page<Customer> page = customerSpecRepo.findAllWithWindowCount(spec, PageRequest.of(1, 2, Sort.by("firstName")));
+
+        assertThat(page.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Lisa", "Maggie");
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(spec.getResultTypes())
+                .containsExactly(Tuple.class);
+    }
+
+    @Test
+    public void countsDistinctEntitiesOfQueryWithJoinedCollection() {
+        Conjunction<Customer> spec = new Conjunction<>(
+                new Join<>(queryCtx, "orders", "o", INNER, true),
+                new Like<>(queryCtx, "o.itemName", "Duff"));
+
+        Page<Customer> page = customerSpecRepo.findAllWithWindowCount(spec, PageRequest.of(0, 3, Sort.by("firstName")));
+
+        assertThat(page.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Bart", "Homer", "Lisa");
+        assertThat(page.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    public void countsWithSeparateQueryIfPageIsBeyondTheLastOne() {
+        Equal<Customer> spec = new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+
+        Page<Customer> page = customerSpecRepo.findAllWithWindowCount(spec, PageRequest.of(5, 2, Sort.by("firstName")));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(5);
+    }
+
+    @Test
+    public void appliesInnerAndLeftFetchesWithRegularPagedQuery() {
+        Conjunction<Customer> spec = new Conjunction<>(
+                new JoinFetch<>(queryCtx, new String[]{ "orders" }, INNER, true),
+                new JoinFetch<>(queryCtx, new String[]{ "badges" }, LEFT, true),
+                new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter));
+
+        Page<Customer> page = customerSpecRepo.findAllWithWindowCount(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+
+        assertThat(page.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Bart", "Homer");
+        assertThat(page.getTotalElements()).isEqualTo(4);
+
+        PersistenceUnitUtil persistenceUnitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
+        assertThat(page.getContent())
+                .allMatch(customer -> persistenceUnitUtil.isLoaded(customer, "orders"))
+                .allMatch(customer -> persistenceUnitUtil.isLoaded(customer, "badges"));
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FindSliceTest extends IntegrationTestBase {
+
+    @BeforeEach
+    public void initData() {
+        customer("Homer", "Simpson").build(em);
+        customer("Marge", "Simpson").build(em);
+        customer("Bart", "Simpson").build(em);
+        customer("Lisa", "Simpson").build(em);
+        customer("Moe", "Szyslak").build(em);
+    }
+
+    @Test
+    public void returnsSliceWithNextPageWithoutCountQuery() {
+        QueryRecordingSpec<Customer> spec = new QueryRecordingSpec<>(new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter));
+
+        Slice<Customer> slice = customerSpecRepo.findSlice(spec, PageRequest.of(0, 3, Sort.by("firstName")));
+
+        assertThat(slice.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Bart", "Homer", "Lisa");
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(spec.getResultTypes())
+                .containsExactly(Customer.class);
+    }
+
+    @Test
+    public void returnsLastSliceWithoutNextPage() {
+        Equal<Customer> spec = new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+
+        Slice<Customer> slice = customerSpecRepo.findSlice(spec, PageRequest.of(1, 2, Sort.by("firstName")));
+
+        assertThat(slice.getContent())
+                .extracting(Customer::getFirstName)
+                .containsExactly("Lisa", "Marge");
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.hasPrevious()).isTrue();
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.Fields;
+import net.kaczmarzyk.spring.data.jpa.domain.Join;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+
+import static jakarta.persistence.criteria.JoinType.INNER;
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static net.kaczmarzyk.spring.data.jpa.utils.ThrowableAssertions.assertThrows;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProjectionTest extends IntegrationTestBase {
+
+    @BeforeEach
+    public void initData() {
+        customer("Homer", "Simpson").orders("Duff Beer", "Donuts").build(em);
+        customer("Marge", "Simpson").orders("Pork Chops").build(em);
+        customer("Bart", "Simpson").orders("Comic Books").build(em);
+        customer("Moe", "Szyslak").orders("Duff Beer").build(em);
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void selectsOnlyTheFieldsWithoutLoadingEntities() {
+        Conjunction<Customer> spec = new Conjunction<>(
+                new Fields<>(queryCtx, List.of("firstName", "lastName")),
+                new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter));
+
+        Page<Map<String, Object>> page = customerSpecRepo.findAllFields(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+
+        assertThat(page.getContent()).containsExactly(
+                Map.of("firstName", "Bart", "lastName", "Simpson"),
+                Map.of("firstName", "Homer", "lastName", "Simpson"));
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(em.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    public void selectsFieldsThroughTheJoinsOfTheSpecification() {
+        Conjunction<Customer> spec = new Conjunction<>(
+                new Join<>(queryCtx, "orders", "o", INNER, false),
+                new Fields<>(queryCtx, List.of("firstName", "o.itemName")),
+                new Equal<>(queryCtx, "o.itemName", new String[]{ "Duff Beer" }, defaultConverter));
+
+        Page<Map<String, Object>> page = customerSpecRepo.findAllFields(spec, Pageable.unpaged());
+
+        assertThat(page.getContent()).containsExactlyInAnyOrder(
+                Map.of("firstName", "Homer", "o.itemName", "Duff Beer"),
+                Map.of("firstName", "Moe", "o.itemName", "Duff Beer"));
+    }
+
+    @Test
+    public void throwsExceptionIfSpecificationDoesNotDefineFields() {
+        Equal<Customer> spec = new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+
+        assertThrows(
+                InvalidDataAccessApiUsageException.class,
+                () -> customerSpecRepo.findAllFields(spec, Pageable.unpaged()),
+                "Specification does not define the fields to select (see @Fields): " + spec);
+    }
+
+    @Test
+    public void mapsSelectedPropertiesToRecord() {
+        Equal<Customer> spec = new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+
+        Page<CustomerName> page = customerSpecRepo.findAllProjected(spec, CustomerName.class, PageRequest.of(0, 2, Sort.by("firstName")));
+
+        assertThat(page.getContent())
+                .containsExactly(new CustomerName("Bart", "Simpson"), new CustomerName("Homer", "Simpson"));
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    public void mapsSelectedPropertiesToInterfaceProjection() {
+        Equal<Customer> spec = new Equal<>(queryCtx, "lastName", new String[]{ "Szyslak" }, defaultConverter);
+
+        Page<CustomerFirstName> page = customerSpecRepo.findAllProjected(spec, CustomerFirstName.class, Pageable.unpaged());
+
+        assertThat(page.getContent())
+                .extracting(CustomerFirstName::getFirstName)
+                .containsExactly("Moe");
+    }
+
+    record CustomerName(String firstName, String lastName) {
+    }
+
+    interface CustomerFirstName {
+
+        String getFirstName();
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the result types of the queries the wrapped specification is applied to
+ * (e.g. to check whether a count query has been executed).
+ */
+class QueryRecordingSpec<T> implements Specification<T> {
+
+    private final Specification<T> spec;
+    private final List<Class<?>> resultTypes = new ArrayList<>();
+
+    QueryRecordingSpec(Specification<T> spec) {
+        this.spec = spec;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        resultTypes.add(query.getResultType());
+        return spec.toPredicate(root, query, cb);
+    }
+
+    List<Class<?>> getResultTypes() {
+        return resultTypes;
+    }
+}
@@ -0,0 +1,233 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.ItemTag;
+import net.kaczmarzyk.spring.data.jpa.Order;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedCount;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedResults;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.Join;
+import net.kaczmarzyk.spring.data.jpa.utils.CountCache;
+import net.kaczmarzyk.spring.data.jpa.utils.ResultCache;
+import net.kaczmarzyk.spring.data.jpa.utils.SpecificationFingerprint;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static jakarta.persistence.criteria.JoinType.INNER;
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static net.kaczmarzyk.spring.data.jpa.ItemTagBuilder.itemTag;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResultCacheInvalidationTest extends IntegrationTestBase {
+
+    ResultCache cache = new ResultCache(100);
+
+    Customer homer;
+
+    @BeforeEach
+    public void initData() {
+        homer = customer("Homer", "Simpson").orders("Duff Beer").build(em);
+        customer("Marge", "Simpson").build(em);
+        customer("Moe", "Szyslak").orders("Duff Beer").build(em);
+    }
+
+    @Test
+    public void invalidatesResultsDependingOnUpdatedAttributes() {
+        Specification<Customer> spec = cached(simpsons());
+        customerSpecRepo.findAll(spec, PageRequest.of(0, 10, Sort.by("firstName")));
+
+        cache.invalidate(Customer.class, List.of("nickName", "address"));
+
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.invalidate(Customer.class, List.of("firstName"));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void invalidatesResultsDependingOnJoinedEntity() {
+        Specification<Customer> spec = cached(new Conjunction<>(
+                new Join<>(queryCtx, "orders", "o", INNER, true),
+                new Equal<>(queryCtx, "o.itemName", new String[]{ "Duff Beer" }, defaultConverter)));
+        customerSpecRepo.findAll(spec, Sort.by("id"));
+
+        cache.invalidate(Order.class, List.of("note"));
+        cache.invalidate(Customer.class, List.of("lastName"));
+
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.invalidate(Order.class, List.of("itemName"));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void invalidatesResultsDependingOnJoinedAssociationWhenItsOwningSideIsUpdated() {
+        Specification<Customer> spec = cached(new Conjunction<>(
+                new Join<>(queryCtx, "orders", "o", INNER, true),
+                new Equal<>(queryCtx, "o.itemName", new String[]{ "Duff Beer" }, defaultConverter)));
+        customerSpecRepo.findAll(spec, Sort.by("id"));
+
+        cache.invalidate(Order.class, List.of("customer2"));
+
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.invalidate(Order.class, List.of("customer"));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void invalidatesResultsOnCommittedMoveOfOrderToAnotherCustomerAndOnCommittedChangeOfItsTags() {
+        ResultCacheInvalidationListener.register(em.getEntityManagerFactory(), cache);
+        AtomicLong apuId = new AtomicLong();
+        AtomicLong sanjayId = new AtomicLong();
+        AtomicLong orderId = new AtomicLong();
+        AtomicLong tagId = new AtomicLong();
+        doInNewTransaction(() -> {
+            Customer apu = customer("Apu", "Nahasapeemapetilon").orders("Squishee").build(em);
+            apuId.set(apu.getId());
+            sanjayId.set(customer("Sanjay", "Nahasapeemapetilon").build(em).getId());
+            orderId.set(apu.getOrders().iterator().next().getId());
+            tagId.set(itemTag("Frozen").build(em).getId());
+        });
+        try {
+            Specification<Customer> squisheeBuyers = cached(new Conjunction<>(
+                    new Join<>(queryCtx, "orders", "o", INNER, true),
+                    new Equal<>(queryCtx, "o.itemName", new String[]{ "Squishee" }, defaultConverter)));
+            assertThat(customerSpecRepo.findAll(squisheeBuyers, Sort.by("id")))
+                    .extracting(Customer::getFirstName)
+                    .containsExactly("Apu");
+
+            doInNewTransaction(() -> em.find(Order.class, orderId.get()).setCustomer(em.find(Customer.class, sanjayId.get())));
+
+            assertThat(cache.size()).isZero();
+            assertThat(customerSpecRepo.findAll(squisheeBuyers, Sort.by("id")))
+                    .extracting(Customer::getFirstName)
+                    .containsExactly("Sanjay");
+
+            Specification<Customer> frozenItemBuyers = cached(new Conjunction<>(
+                    new Join<>(queryCtx, "orders", "o", INNER, true),
+                    new Join<>(queryCtx, "o.tags", "t", INNER, true),
+                    new Equal<>(queryCtx, "t.name", new String[]{ "Frozen" }, defaultConverter)));
+            assertThat(customerSpecRepo.findAll(frozenItemBuyers, Sort.by("id"))).isEmpty();
+
+            doInNewTransaction(() -> em.find(Order.class, orderId.get()).getTags().add(em.find(ItemTag.class, tagId.get())));
+
+            assertThat(customerSpecRepo.findAll(frozenItemBuyers, Sort.by("id")))
+                    .extracting(Customer::getFirstName)
+                    .containsExactly("Sanjay");
+        } finally {
+            doInNewTransaction(() -> {
+                em.remove(em.find(Customer.class, apuId.get()));
+                em.remove(em.find(Customer.class, sanjayId.get()));
+                em.flush();
+                em.remove(em.find(ItemTag.class, tagId.get()));
+            });
+        }
+    }
+
+    @Test
+    public void invalidatesResultsDependingOnEntityTypeOnInsertOrDelete() {
+        customerSpecRepo.findAll(cached(simpsons()), Sort.by("id"));
+
+        cache.invalidate(Order.class);
+
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.invalidate(Customer.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void invalidatesResultsDependingOnDirtyAttributesOfHibernateUpdateEvent() {
+        customerSpecRepo.findAll(cached(simpsons()), Sort.by("id"));
+        ResultCacheInvalidationListener listener = new ResultCacheInvalidationListener(cache);
+        EntityPersister persister = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(Customer.class);
+
+        listener.onPostUpdate(updateEvent(persister, "nickName"));
+
+        assertThat(cache.size()).isEqualTo(1);
+
+        listener.onPostUpdate(updateEvent(persister, "lastName"));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void invalidatesCountsDependingOnDirtyAttributesOfHibernateUpdateEvent() {
+        CountCache countCache = new CountCache(100, Duration.ofMinutes(1));
+        customerSpecRepo.count(new Conjunction<>(simpsons(), new CachedCount<>(countCache, SpecificationFingerprint.of(simpsons()))));
+        ResultCacheInvalidationListener listener = new ResultCacheInvalidationListener(null, countCache);
+        EntityPersister persister = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(Customer.class);
+
+        listener.onPostUpdate(updateEvent(persister, "nickName"));
+
+        assertThat(countCache.size()).isEqualTo(1);
+
+        listener.onPostUpdate(updateEvent(persister, "lastName"));
+
+        assertThat(countCache.size()).isZero();
+    }
+
+    @Test
+    public void doesNotCacheResultsOfSearchDuringWhichDependencyHasBeenWritten() {
+        Specification<Customer> writeDuringSearch = (root, query, cb) -> {
+            cache.invalidate(Customer.class);
+            return null;
+        };
+        Specification<Customer> spec = new Conjunction<>(simpsons(), writeDuringSearch,
+                new CachedResults<>(cache, SpecificationFingerprint.of(simpsons()), Duration.ofMinutes(1)));
+
+        customerSpecRepo.findAll(spec, Sort.by("id"));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    private PostUpdateEvent updateEvent(EntityPersister persister, String dirtyProperty) {
+        int dirtyPropertyIndex = Arrays.asList(persister.getPropertyNames()).indexOf(dirtyProperty);
+        return new PostUpdateEvent(homer, homer.getId(), null, null, new int[]{ dirtyPropertyIndex }, persister, null);
+    }
+
+    private Specification<Customer> cached(Specification<Customer> spec) {
+        return new Conjunction<>(spec, new CachedResults<>(cache, SpecificationFingerprint.of(spec), Duration.ofMinutes(1)));
+    }
+
+    private Equal<Customer> simpsons() {
+        return new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+    }
+}
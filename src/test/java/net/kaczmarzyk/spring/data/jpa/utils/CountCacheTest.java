@@ -0,0 +1,137 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CountCacheTest {
+
+    MutableClock clock = new MutableClock();
+
+    CountCache cache = new CountCache(2, Duration.ofMinutes(1), clock);
+
+    AtomicInteger executedCounts = new AtomicInteger();
+
+    @Test
+    public void executesCountOnlyOnFirstAccess() {
+        assertThat(cache.get("key", this::count)).isEqualTo(42L);
+        assertThat(cache.get("key", this::count)).isEqualTo(42L);
+
+        assertThat(executedCounts).hasValue(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void executesCountAgainAfterExpiry() {
+        cache.get("key", this::count);
+        clock.advance(Duration.ofMinutes(1));
+        cache.get("key", this::count);
+
+        assertThat(executedCounts).hasValue(2);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedEntry() {
+        cache.get("key1", this::count);
+        cache.get("key2", this::count);
+        cache.get("key1", this::count);
+        cache.get("key3", this::count);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+        cache.get("key1", this::count);
+        cache.get("key2", this::count);
+
+        assertThat(executedCounts).hasValue(4);
+    }
+
+    @Test
+    public void invalidatesAllEntries() {
+        cache.get("key", this::count);
+        cache.invalidateAll();
+        cache.get("key", this::count);
+
+        assertThat(executedCounts).hasValue(2);
+    }
+
+    @Test
+    public void invalidatesEntriesByDependencies() {
+        cache.get("names", Map.of(String.class, Set.of("firstName")), this::count);
+        cache.get("any", null, this::count);
+
+        cache.invalidate(String.class, List.of("lastName"));
+
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.invalidate(String.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void doesNotCacheCountDuringWhichDependencyHasBeenWritten() {
+        cache.get("names", Map.of(String.class, Set.of("firstName")), () -> {
+            cache.invalidate(String.class);
+            return count();
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    private long count() {
+        executedCounts.incrementAndGet();
+        return 42L;
+    }
+
+    static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import jakarta.persistence.criteria.JoinType;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Disjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.EmptyResultOnTypeMismatch;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.Join;
+import net.kaczmarzyk.spring.data.jpa.domain.Like;
+import net.kaczmarzyk.spring.data.jpa.domain.NotIn;
+import net.kaczmarzyk.spring.data.jpa.domain.Null;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.OnTypeMismatch;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import static net.kaczmarzyk.spring.data.jpa.web.annotation.JoinStrategy.EXISTS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JoinTypeInferenceTest {
+
+    Converter converter = Converter.withTypeMismatchBehaviour(OnTypeMismatch.EMPTY_RESULT, null);
+
+    Join<Object> leftJoinOrders = new Join<>(null, "orders", "o", JoinType.LEFT, true);
+
+    @Test
+    public void downgradesLeftJoinWhenConjunctiveSpecRejectsNulls() {
+        Specification<Object> spec = JoinTypeInference.inferJoinTypes(new Conjunction<>(
+                leftJoinOrders,
+                new Equal<>(null, "o.itemName", new String[]{ "Pizza" }, converter)
+        ));
+
+        assertThat(joinTypeOf(spec, "o")).isEqualTo(JoinType.INNER);
+    }
+
+    @Test
+    public void downgradesLeftJoinWhenSpecIsWrappedForTypeMismatch() {
+        Specification<Object> spec = JoinTypeInference.inferJoinTypes(new Conjunction<>(
+                leftJoinOrders,
+                new EmptyResultOnTypeMismatch<>(new Equal<>(null, "o.id", new String[]{ "1" }, converter))
+        ));
+
+        assertThat(joinTypeOf(spec, "o")).isEqualTo(JoinType.INNER);
+    }
+
+    @Test
+    public void keepsLeftJoinForSpecsAcceptingNulls() {
+        Conjunction<Object> original = new Conjunction<>(
+                leftJoinOrders,
+                new Null<>(null, "o.itemName", new String[]{ "true" }, converter),
+                new NotIn<>(null, "o.itemName", new String[]{ "Pizza" }, converter),
+                new Equal<>(null, "firstName", new String[]{ "Homer" }, converter)
+        );
+
+        assertThat(JoinTypeInference.inferJoinTypes(original)).isSameAs(original);
+    }
+
+    @Test
+    public void downgradesLeftJoinOnlyIfAllBranchesOfDisjunctionRejectNulls() {
+        Specification<Object> allBranches = JoinTypeInference.inferJoinTypes(new Conjunction<>(
+                leftJoinOrders,
+                new Disjunction<>(
+                        new Like<>(null, "o.itemName", "Pizza"),
+                        new Equal<>(null, "o.itemName", new String[]{ "Beer" }, converter))
+        ));
+        Specification<Object> singleBranch = JoinTypeInference.inferJoinTypes(new Conjunction<>(
+                leftJoinOrders,
+                new Disjunction<>(
+                        new Like<>(null, "o.itemName", "Pizza"),
+                        new Equal<>(null, "firstName", new String[]{ "Homer" }, converter))
+        ));
+
+        assertThat(joinTypeOf(allBranches, "o")).isEqualTo(JoinType.INNER);
+        assertThat(joinTypeOf(singleBranch, "o")).isEqualTo(JoinType.LEFT);
+    }
+
+    @Test
+    public void downgradesParentOfNestedJoinRejectingNulls() {
+        Specification<Object> spec = JoinTypeInference.inferJoinTypes(new Conjunction<>(
+                leftJoinOrders,
+                new Join<>(null, "o.tags", "t", JoinType.LEFT, true),
+                new Equal<>(null, "t.name", new String[]{ "books" }, converter)
+        ));
+
+        assertThat(joinTypeOf(spec, "t")).isEqualTo(JoinType.INNER);
+        assertThat(joinTypeOf(spec, "o")).isEqualTo(JoinType.INNER);
+    }
+
+    @Test
+    public void ignoresJoinsWithExistsStrategy() {
+        Specification<Object> spec = JoinTypeInference.inferJoinTypes(new Conjunction<>(
+                new Join<>(null, "orders", "o", JoinType.LEFT, true, EXISTS),
+                new Equal<>(null, "o.itemName", new String[]{ "Pizza" }, converter)
+        ));
+
+        assertThat(joinTypeOf(spec, "o")).isEqualTo(JoinType.LEFT);
+    }
+
+    private JoinType joinTypeOf(Specification<Object> spec, String alias) {
+        return ((Conjunction<Object>) spec).getInnerSpecs().stream()
+                .filter(inner -> inner instanceof Join && ((Join<Object>) inner).getAlias().equals(alias))
+                .map(inner -> ((Join<Object>) inner).getJoinType())
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+    }
+}
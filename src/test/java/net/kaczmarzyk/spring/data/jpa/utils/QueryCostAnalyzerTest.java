@@ -0,0 +1,143 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Disjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.EndingWith;
+import net.kaczmarzyk.spring.data.jpa.domain.EntityGraphFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.In;
+import net.kaczmarzyk.spring.data.jpa.domain.Join;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.Negation;
+import net.kaczmarzyk.spring.data.jpa.domain.NotIn;
+import net.kaczmarzyk.spring.data.jpa.domain.StartingWith;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.OnTypeMismatch;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryCostAnalyzerTest extends IntegrationTestBase {
+
+    Converter converter = Converter.withTypeMismatchBehaviour(OnTypeMismatch.EMPTY_RESULT, null);
+
+    @Test
+    public void countsJoinsFetchesAndPredicates() {
+        QueryCost cost = QueryCostAnalyzer.analyze(new Conjunction<>(
+                new Join<>(null, "orders", "o", JoinType.INNER, true),
+                new JoinFetch<>(null, new String[]{ "addresses", "badges" }, JoinType.LEFT, true),
+                new Equal<>(null, "o.itemName", new String[]{ "Pizza" }, converter)
+        ));
+
+        assertThat(cost.getJoins()).isEqualTo(1);
+        assertThat(cost.getFetches()).isEqualTo(2);
+        assertThat(cost.getPredicates()).isEqualTo(1);
+    }
+
+    @Test
+    public void countsOnlyFetchesOfCollectionsWithMetamodel() {
+        Conjunction<Object> spec = new Conjunction<>(
+                new JoinFetch<>(null, new String[]{ "orders" }, "o", JoinType.LEFT, true),
+                new JoinFetch<>(null, new String[]{ "o.note" }, JoinType.LEFT, true),
+                new JoinFetch<>(null, new String[]{ "o.tags" }, JoinType.LEFT, true),
+                new EntityGraphFetch<>(List.of("badges", "orders2", "orders2.customer"), EntityGraphType.FETCH));
+
+        assertThat(QueryCostAnalyzer.analyze(spec, em.getMetamodel(), Customer.class).getFetches()).isEqualTo(4);
+        assertThat(QueryCostAnalyzer.analyze(spec).getFetches()).isEqualTo(6);
+    }
+
+    @Test
+    public void measuresInListsAndOrBreadth() {
+        QueryCost cost = QueryCostAnalyzer.analyze(new Conjunction<>(
+                new In<>(null, "id", new String[]{ "1", "2", "3" }, converter),
+                new Disjunction<>(
+                        new In<>(null, "id", new String[]{ "4", "5" }, converter),
+                        new Equal<>(null, "firstName", new String[]{ "Homer" }, converter),
+                        new Equal<>(null, "lastName", new String[]{ "Simpson" }, converter))
+        ));
+
+        assertThat(cost.getTotalInValues()).isEqualTo(5);
+        assertThat(cost.getMaxInValues()).isEqualTo(3);
+        assertThat(cost.getMaxOrBreadth()).isEqualTo(3);
+    }
+
+    @Test
+    public void measuresNegatedSpecs() {
+        Disjunction<Object> disjunction = new Disjunction<>(
+                new Equal<>(null, "firstName", new String[]{ "Homer" }, converter),
+                new Equal<>(null, "lastName", new String[]{ "Simpson" }, converter));
+
+        QueryCost cost = QueryCostAnalyzer.analyze(new Conjunction<>(
+                new NotIn<>(null, "id", new String[]{ "1", "2", "3" }, converter),
+                new NegatedSpec<>(disjunction)));
+
+        assertThat(cost.getTotalInValues()).isEqualTo(3);
+        assertThat(cost.getMaxOrBreadth()).isEqualTo(2);
+        assertThat(cost.getPredicates()).isEqualTo(3);
+        assertThat(cost.toString()).contains("totalOrBranches=2");
+    }
+
+    @Test
+    public void detectsLeadingWildcardPatterns() {
+        QueryCost cost = QueryCostAnalyzer.analyze(new Conjunction<>(
+                new EndingWith<>(null, "firstName", "mer"),
+                new StartingWith<>(null, "lastName", "Sim")
+        ));
+
+        assertThat(cost.getLeadingWildcardPatterns()).isEqualTo(1);
+    }
+
+    @Test
+    public void scoreGrowsWithJoins() {
+        QueryCost withoutJoin = QueryCostAnalyzer.analyze(new Equal<>(null, "o.itemName", new String[]{ "Pizza" }, converter));
+        QueryCost withJoin = QueryCostAnalyzer.analyze(new Conjunction<>(
+                new Join<>(null, "orders", "o", JoinType.INNER, true),
+                new Equal<>(null, "o.itemName", new String[]{ "Pizza" }, converter)));
+
+        assertThat(withJoin.getScore()).isGreaterThan(withoutJoin.getScore());
+    }
+
+    static class NegatedSpec<T> implements Specification<T>, Negation<T> {
+
+        private final Specification<T> negated;
+
+        NegatedSpec(Specification<T> negated) {
+            this.negated = negated;
+        }
+
+        @Override
+        public Specification<T> negatedSpec() {
+            return negated;
+        }
+
+        @Override
+        public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+            return cb.not(negated.toPredicate(root, query, cb));
+        }
+    }
+}
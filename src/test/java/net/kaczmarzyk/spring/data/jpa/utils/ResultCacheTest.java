@@ -0,0 +1,137 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import net.kaczmarzyk.spring.data.jpa.utils.CountCacheTest.MutableClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResultCacheTest {
+
+    MutableClock clock = new MutableClock();
+
+    ResultCache cache = new ResultCache(2, clock);
+
+    @Test
+    public void returnsCachedValueUntilExpiry() {
+        assertThat(cache.<String>getIfPresent("key")).isNull();
+        cache.put("key", "value", Duration.ofMinutes(1));
+
+        assertThat(cache.<String>getIfPresent("key")).isEqualTo("value");
+
+        clock.advance(Duration.ofMinutes(1));
+
+        assertThat(cache.<String>getIfPresent("key")).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void rejectsOneOffKeyWhenFullOfFrequentlyRequestedOnes() {
+        ResultCache cache = new ResultCache(1, clock);
+        cache.getIfPresent("frequent");
+        cache.put("frequent", "value", Duration.ofMinutes(1));
+        cache.getIfPresent("frequent");
+
+        cache.getIfPresent("one-off");
+        cache.put("one-off", "value", Duration.ofMinutes(1));
+
+        assertThat(cache.<String>getIfPresent("frequent")).isEqualTo("value");
+        assertThat(cache.getRejectionCount()).isEqualTo(1);
+        assertThat(cache.getEvictionCount()).isZero();
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedKeyForMoreFrequentlyRequestedOne() {
+        ResultCache cache = new ResultCache(1, clock);
+        cache.getIfPresent("old");
+        cache.put("old", "value1", Duration.ofMinutes(1));
+
+        cache.getIfPresent("new");
+        cache.getIfPresent("new");
+        cache.put("new", "value2", Duration.ofMinutes(1));
+
+        assertThat(cache.<String>getIfPresent("new")).isEqualTo("value2");
+        assertThat(cache.<String>getIfPresent("old")).isNull();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void replacesExpiredEntryRegardlessOfFrequency() {
+        ResultCache cache = new ResultCache(1, clock);
+        for (int i = 0; i < 3; i++) {
+            cache.getIfPresent("old");
+        }
+        cache.put("old", "value1", Duration.ofSeconds(10));
+        clock.advance(Duration.ofSeconds(10));
+
+        cache.put("new", "value2", Duration.ofMinutes(1));
+
+        assertThat(cache.<String>getIfPresent("new")).isEqualTo("value2");
+    }
+
+    @Test
+    public void invalidatesEntriesByDependencies() {
+        cache.put("names", "value1", Duration.ofMinutes(1), Map.of(String.class, Set.of("firstName")));
+        cache.put("custom", "value2", Duration.ofMinutes(1), null);
+
+        cache.invalidate(String.class, List.of("lastName"));
+
+        assertThat(cache.<String>getIfPresent("names")).isEqualTo("value1");
+        assertThat(cache.<String>getIfPresent("custom")).isNull();
+
+        cache.invalidate(String.class, List.of(ResultCache.ANY_ATTRIBUTE, "firstName"));
+
+        assertThat(cache.<String>getIfPresent("names")).isNull();
+    }
+
+    @Test
+    public void doesNotCacheValueIfDependencyHasBeenWrittenSinceStampWasTaken() {
+        Map<Class<?>, Set<String>> dependencies = Map.of(String.class, Set.of("firstName"));
+        long stamp = cache.invalidationStamp(dependencies);
+
+        cache.invalidate(Integer.class);
+        cache.put("names", "value1", Duration.ofMinutes(1), dependencies, stamp);
+
+        assertThat(cache.<String>getIfPresent("names")).isEqualTo("value1");
+
+        cache.invalidate(String.class, List.of("lastName"));
+        cache.put("names", "value2", Duration.ofMinutes(1), dependencies, stamp);
+
+        assertThat(cache.<String>getIfPresent("names")).isNull();
+    }
+
+    @Test
+    public void invalidatesEntries() {
+        cache.put("key1", "value1", Duration.ofMinutes(1));
+        cache.put("key2", "value2", Duration.ofMinutes(1));
+
+        cache.invalidate("key1");
+
+        assertThat(cache.<String>getIfPresent("key1")).isNull();
+        assertThat(cache.<String>getIfPresent("key2")).isEqualTo("value2");
+
+        cache.invalidateAll();
+
+        assertThat(cache.size()).isZero();
+    }
+}
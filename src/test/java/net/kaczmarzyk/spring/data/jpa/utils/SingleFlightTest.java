@@ -0,0 +1,114 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.kaczmarzyk.spring.data.jpa.utils.ThrowableAssertions.assertThrows;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SingleFlightTest {
+
+    AtomicInteger executedSearches = new AtomicInteger();
+
+    @Test
+    public void sharesResultOfSearchInFlight() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+            executedSearches.incrementAndGet();
+            await(release);
+            return "result";
+        }));
+        awaitInFlight(singleFlight);
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", this::search));
+        awaitWaiting(singleFlight);
+        release.countDown();
+
+        assertThat(leader.get()).isEqualTo("result");
+        assertThat(follower.get()).isEqualTo("result");
+        assertThat(executedSearches).hasValue(1);
+        assertThat(singleFlight.getSharedResultCount()).isEqualTo(1);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+        assertThat(singleFlight.getWaitingCount()).isZero();
+    }
+
+    @Test
+    public void executesSearchesForDifferentKeysIndependently() {
+        SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(10));
+
+        String result = singleFlight.execute("key1", () -> singleFlight.execute("key2", this::search));
+
+        assertThat(result).isEqualTo("own result");
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void executesSearchOnItsOwnAfterMaxWait() {
+        SingleFlight singleFlight = new SingleFlight(Duration.ofMillis(10));
+
+        String result = singleFlight.execute("key", () -> singleFlight.execute("key", this::search));
+
+        assertThat(result).isEqualTo("own result");
+        assertThat(singleFlight.getTimeoutCount()).isEqualTo(1);
+        assertThat(executedSearches).hasValue(1);
+    }
+
+    @Test
+    public void doesNotKeepFailedSearchInFlight() {
+        SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(10));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> singleFlight.execute("key", () -> {
+                    throw new IllegalArgumentException("failed");
+                }),
+                "failed");
+
+        assertThat(singleFlight.getInFlightCount()).isZero();
+        assertThat(singleFlight.execute("key", this::search)).isEqualTo("own result");
+    }
+
+    private String search() {
+        executedSearches.incrementAndGet();
+        return "own result";
+    }
+
+    static void awaitInFlight(SingleFlight singleFlight) {
+        while (singleFlight.getInFlightCount() == 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    static void awaitWaiting(SingleFlight singleFlight) {
+        while (singleFlight.getWaitingCount() == 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedCount;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Disjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.In;
+import net.kaczmarzyk.spring.data.jpa.domain.NotIn;
+import net.kaczmarzyk.spring.data.jpa.web.WebRequestQueryContext;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.OnTypeMismatch;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpecificationFingerprintTest {
+
+    Converter converter = Converter.withTypeMismatchBehaviour(OnTypeMismatch.EMPTY_RESULT, null);
+
+    @Test
+    public void ignoresQueryContext() {
+        SpecificationFingerprint fingerprint1 = SpecificationFingerprint.of(new Equal<Customer>(newQueryContext(), "firstName", new String[]{ "Homer" }, converter));
+        SpecificationFingerprint fingerprint2 = SpecificationFingerprint.of(new Equal<Customer>(newQueryContext(), "firstName", new String[]{ "Homer" }, converter));
+
+        assertThat(fingerprint1)
+                .isNotNull()
+                .isEqualTo(fingerprint2);
+        assertThat(fingerprint1.hashCode()).isEqualTo(fingerprint2.hashCode());
+        assertThat(fingerprint1.getDigest())
+                .hasSize(64)
+                .isEqualTo(fingerprint2.getDigest());
+    }
+
+    @Test
+    public void ignoresOrderOfConjunctionAndDisjunctionMembers() {
+        Specification<Customer> spec1 = new Conjunction<>(
+                equal("lastName", "Simpson"),
+                new Disjunction<>(equal("firstName", "Homer"), equal("firstName", "Marge")));
+        Specification<Customer> spec2 = new Conjunction<>(
+                new Disjunction<>(equal("firstName", "Marge"), equal("firstName", "Homer")),
+                equal("lastName", "Simpson"));
+
+        assertThat(SpecificationFingerprint.of(spec1)).isEqualTo(SpecificationFingerprint.of(spec2));
+    }
+
+    @Test
+    public void flattensNestedConjunctions() {
+        Specification<Customer> spec1 = new Conjunction<>(
+                equal("lastName", "Simpson"),
+                new Conjunction<>(equal("firstName", "Homer"), equal("gender", "MALE")));
+        Specification<Customer> spec2 = new Conjunction<>(
+                new Conjunction<>(equal("lastName", "Simpson"), equal("gender", "MALE")),
+                equal("firstName", "Homer"));
+
+        assertThat(SpecificationFingerprint.of(spec1)).isEqualTo(SpecificationFingerprint.of(spec2));
+        assertThat(SpecificationFingerprint.of(new Conjunction<>(equal("lastName", "Simpson"))))
+                .isEqualTo(SpecificationFingerprint.of(equal("lastName", "Simpson")));
+    }
+
+    @Test
+    public void ignoresCachedCountMarker() {
+        Specification<Customer> marked = new Conjunction<>(
+                equal("lastName", "Simpson"),
+                new CachedCount<>(new CountCache(1, Duration.ofMinutes(1)), SpecificationFingerprint.of(equal("lastName", "Simpson"))));
+
+        assertThat(SpecificationFingerprint.of(marked)).isEqualTo(SpecificationFingerprint.of(equal("lastName", "Simpson")));
+    }
+
+    @Test
+    public void distinguishesPathsValuesAndConverterConfig() {
+        Converter otherConverter = Converter.withTypeMismatchBehaviour(OnTypeMismatch.EXCEPTION, null);
+
+        assertThat(SpecificationFingerprint.of(equal("firstName", "Homer")))
+                .isNotEqualTo(SpecificationFingerprint.of(equal("firstName", "Marge")))
+                .isNotEqualTo(SpecificationFingerprint.of(equal("lastName", "Homer")))
+                .isNotEqualTo(SpecificationFingerprint.of(new Equal<Customer>(null, "firstName", new String[]{ "Homer" }, otherConverter)));
+    }
+
+    @Test
+    public void includesAllValuesOfMultiValueSpecs() {
+        assertThat(SpecificationFingerprint.of(new In<Customer>(null, "id", new String[]{ "1", "2" }, converter)))
+                .isNotEqualTo(SpecificationFingerprint.of(new In<Customer>(null, "id", new String[]{ "1" }, converter)));
+    }
+
+    @Test
+    public void ignoresOrderAndDuplicatesOfInValues() {
+        assertThat(SpecificationFingerprint.of(new In<Customer>(null, "id", new String[]{ "2", "1", "2" }, converter)))
+                .isEqualTo(SpecificationFingerprint.of(new In<Customer>(null, "id", new String[]{ "1", "2" }, converter)));
+        assertThat(SpecificationFingerprint.of(new NotIn<Customer>(null, "id", new String[]{ "2", "1" }, converter)))
+                .isEqualTo(SpecificationFingerprint.of(new NotIn<Customer>(null, "id", new String[]{ "1", "2" }, converter)));
+    }
+
+    @Test
+    public void returnsNullForLambdaSpecs() {
+        Specification<Customer> lambda = (root, query, cb) -> cb.isNotNull(root.get("id"));
+
+        assertThat(SpecificationFingerprint.of(lambda)).isNull();
+        assertThat(SpecificationFingerprint.of(new Conjunction<>(equal("firstName", "Homer"), lambda))).isNull();
+    }
+
+    private Equal<Customer> equal(String path, String value) {
+        return new Equal<>(null, path, new String[]{ value }, converter);
+    }
+
+    private QueryContext newQueryContext() {
+        return new WebRequestQueryContext(new ServletWebRequest(new MockHttpServletRequest()));
+    }
+}
@@ -20,13 +20,19 @@ import net.kaczmarzyk.spring.data.jpa.utils.Converter;
 import net.kaczmarzyk.spring.data.jpa.utils.Converter.ValueRejectedException;
 import net.kaczmarzyk.spring.data.jpa.utils.Converter.ValuesRejectedException;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.OnTypeMismatch;
+import org.apache.commons.lang3.tuple.Pair;
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -41,6 +47,11 @@ public class ConverterTest {
     private static final Converter converterWithoutFormat = Converter.withTypeMismatchBehaviour(OnTypeMismatch.EMPTY_RESULT, null);
     private static Converter converter = Converter.withDateFormat("yyyy-MM-dd", OnTypeMismatch.EMPTY_RESULT, null);
 
+    @BeforeEach
+    public void resetConverter() {
+        converter = Converter.withDateFormat("yyyy-MM-dd", OnTypeMismatch.EMPTY_RESULT, null);
+    }
+
     @Test
     public void convertsToDate() {
         Date converted = converter.convert("2015-03-01", Date.class);
@@ -211,4 +222,43 @@ public class ConverterTest {
             }
         };
     }
+
+    @Test
+    public void detectsDayBucketWhenDateFormatHasOnlyDayPrecision() {
+        assertThat(converter.isDayBucket(LocalDateTime.class)).isTrue();
+        assertThat(converter.isDayBucket(OffsetDateTime.class)).isTrue();
+        assertThat(converter.isDayBucket(Instant.class)).isTrue();
+        assertThat(converter.isDayBucket(Date.class)).isTrue();
+        assertThat(converter.isDayBucket(LocalDate.class)).isFalse();
+        assertThat(converter.isDayBucket(String.class)).isFalse();
+
+        assertThat(converterWithoutFormat.isDayBucket(LocalDateTime.class)).isFalse();
+        assertThat(Converter.withDateFormat("yyyy-MM-dd'T'HH:mm", OnTypeMismatch.EMPTY_RESULT, null).isDayBucket(LocalDateTime.class)).isFalse();
+        assertThat(Converter.withDateFormat("yyyy-MM", OnTypeMismatch.EMPTY_RESULT, null).isDayBucket(LocalDateTime.class)).isFalse();
+        assertThat(Converter.withDateFormat("'Day' dd 'of' MM yyyy", OnTypeMismatch.EMPTY_RESULT, null).isDayBucket(LocalDateTime.class)).isTrue();
+    }
+
+    @Test
+    public void convertsToDayRange() {
+        assertThat(converter.convertToDayRange("2015-03-01", LocalDateTime.class))
+                .isEqualTo(Pair.of(LocalDateTime.of(2015, 3, 1, 0, 0), LocalDateTime.of(2015, 3, 2, 0, 0)));
+
+        Converter withOffset = Converter.withDateFormat("yyyy-MM-ddXXX", OnTypeMismatch.EMPTY_RESULT, null);
+        assertThat(withOffset.convertToDayRange("2015-02-28+02:00", OffsetDateTime.class))
+                .isEqualTo(Pair.of(OffsetDateTime.parse("2015-02-28T00:00+02:00"), OffsetDateTime.parse("2015-03-01T00:00+02:00")));
+        assertThat(withOffset.convertToDayRange("2015-02-28Z", Instant.class))
+                .isEqualTo(Pair.of(Instant.parse("2015-02-28T00:00:00Z"), Instant.parse("2015-03-01T00:00:00Z")));
+
+        Pair<Date, Date> dateRange = converter.convertToDayRange("2015-03-31", Date.class);
+        assertThat(dateRange.getLeft()).isEqualTo(converter.convert("2015-03-31", Date.class));
+        assertThat(dateRange.getRight()).isEqualTo(converter.convert("2015-04-01", Date.class));
+    }
+
+    @Test
+    public void rejectsUnparseableDayRange() {
+        Assertions.assertThrows(ValueRejectedException.class, () -> converter.convertToDayRange("2015/03/01", LocalDateTime.class));
+        Assertions.assertThrows(ValuesRejectedException.class, () -> Converter.withDateFormat("yyyy-MM-dd", OnTypeMismatch.EXCEPTION, null)
+                .convertToDayRanges(Arrays.asList("2015-03-01", "2015/03/02"), LocalDateTime.class));
+    }
+
 }
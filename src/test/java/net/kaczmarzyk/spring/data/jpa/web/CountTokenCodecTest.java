@@ -0,0 +1,131 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static net.kaczmarzyk.spring.data.jpa.utils.ThrowableAssertions.assertThrows;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CountTokenCodecTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+    Clock clock = Clock.fixed(Instant.parse("2020-01-01T10:00:00Z"), ZoneOffset.UTC);
+
+    CountTokenCodec codec = new CountTokenCodec(SECRET, Duration.ofMinutes(5), clock);
+
+    @Test
+    public void encodesRequestParamsInCanonicalOrder() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/customers");
+        request.addParameter("lastName", "Simpson");
+        request.addParameter("firstName", "Homer", "Bart");
+
+        Map<String, String[]> params = codec.verify(codec.issue(new ServletWebRequest(request)), "/customers");
+
+        assertThat(params.keySet()).containsExactly("firstName", "lastName");
+        assertThat(params.get("firstName")).containsExactly("Homer", "Bart");
+        assertThat(params.get("lastName")).containsExactly("Simpson");
+    }
+
+    @Test
+    public void issuesTheSameTokenForTheSameParamsInDifferentOrder() {
+        MockHttpServletRequest request1 = new MockHttpServletRequest();
+        request1.addParameter("lastName", "Simpson");
+        request1.addParameter("firstName", "Homer");
+        MockHttpServletRequest request2 = new MockHttpServletRequest();
+        request2.addParameter("firstName", "Homer");
+        request2.addParameter("lastName", "Simpson");
+
+        assertThat(codec.issue(new ServletWebRequest(request1)))
+                .isEqualTo(codec.issue(new ServletWebRequest(request2)));
+    }
+
+    @Test
+    public void bindsTokenToPathPatternOfSearchDispatchedBySpringMvc() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1/orders");
+        request.setAttribute(CountTokenCodec.BEST_MATCHING_PATTERN_ATTRIBUTE, "/users/{userId}/orders");
+        request.setAttribute(WebRequestProcessingContext.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("userId", "1"));
+        String token = codec.issue(new ServletWebRequest(request));
+
+        assertThat(codec.verify(token, "/users/{userId}/orders")).isEmpty();
+        assertThrows(
+                InvalidCountTokenException.class,
+                () -> codec.verify(token, "/users/1/orders"),
+                "Count token has been issued for a different search: " + token);
+    }
+
+    @Test
+    public void rejectsTokenOfDifferentSearch() {
+        String token = codec.issue("/customers", Map.of("lastName", new String[]{ "Simpson" }));
+
+        assertThrows(
+                InvalidCountTokenException.class,
+                () -> codec.verify(token, "/orders"),
+                "Count token has been issued for a different search: " + token);
+    }
+
+    @Test
+    public void rejectsTokenWithInvalidSignature() {
+        String token = codec.issue("/customers", Map.of("lastName", new String[]{ "Simpson" }));
+        String otherToken = codec.issue("/customers", Map.of("lastName", new String[]{ "Szyslak" }));
+        String forgedToken = otherToken.substring(0, otherToken.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        assertThrows(
+                InvalidCountTokenException.class,
+                () -> codec.verify(forgedToken, "/customers"),
+                "Invalid signature of count token: " + forgedToken);
+    }
+
+    @Test
+    public void rejectsTokenSignedWithDifferentSecret() {
+        CountTokenCodec otherCodec = new CountTokenCodec("abcdef0123456789abcdef0123456789".getBytes(StandardCharsets.UTF_8), Duration.ofMinutes(5), clock);
+        String token = otherCodec.issue("/customers", Map.of("lastName", new String[]{ "Simpson" }));
+
+        assertThrows(
+                InvalidCountTokenException.class,
+                () -> codec.verify(token, "/customers"),
+                "Invalid signature of count token: " + token);
+    }
+
+    @Test
+    public void rejectsExpiredToken() {
+        String token = codec.issue("/customers", Map.of("lastName", new String[]{ "Simpson" }));
+        CountTokenCodec laterCodec = new CountTokenCodec(SECRET, Duration.ofMinutes(5), Clock.offset(clock, Duration.ofMinutes(6)));
+
+        assertThrows(
+                InvalidCountTokenException.class,
+                () -> laterCodec.verify(token, "/customers"),
+                "Count token has expired: " + token);
+    }
+
+    @Test
+    public void rejectsMalformedToken() {
+        assertThrows(
+                InvalidCountTokenException.class,
+                () -> codec.verify("abc", "/customers"),
+                "Malformed count token: abc");
+    }
+}
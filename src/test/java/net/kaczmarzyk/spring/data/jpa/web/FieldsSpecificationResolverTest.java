@@ -0,0 +1,90 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.Fields;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.List;
+
+import static net.kaczmarzyk.spring.data.jpa.utils.ThrowableAssertions.assertThrows;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FieldsSpecificationResolverTest extends ResolverTestBase {
+
+    private final FieldsSpecificationResolver resolver = new FieldsSpecificationResolver();
+
+    @Test
+    public void resolvesAllFieldsIfParamIsNotPresent() {
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+        QueryContext queryCtx = new WebRequestQueryContext(req);
+
+        WebRequestProcessingContext ctx = new WebRequestProcessingContext(param, req);
+
+        Specification<?> result = resolver.buildSpecification(ctx, param.getParameterAnnotation(Fields.class));
+
+        assertThat(result).isEqualTo(
+                new net.kaczmarzyk.spring.data.jpa.domain.Fields<>(queryCtx, List.of("firstName", "lastName", "o.itemName")));
+    }
+
+    @Test
+    public void resolvesRequestedFieldsInTheRequestedOrder() {
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+        QueryContext queryCtx = new WebRequestQueryContext(req);
+        when(req.getParameterValues("select")).thenReturn(new String[]{ "o.itemName, firstName", "o.itemName" });
+
+        WebRequestProcessingContext ctx = new WebRequestProcessingContext(param, req);
+
+        Specification<?> result = resolver.buildSpecification(ctx, param.getParameterAnnotation(Fields.class));
+
+        assertThat(result).isEqualTo(
+                new net.kaczmarzyk.spring.data.jpa.domain.Fields<>(queryCtx, List.of("o.itemName", "firstName")));
+    }
+
+    @Test
+    public void rejectsFieldsWhichAreNotAllowed() {
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+        when(req.getParameterValues("select")).thenReturn(new String[]{ "firstName,weight" });
+
+        WebRequestProcessingContext ctx = new WebRequestProcessingContext(param, req);
+
+        assertThrows(
+                InvalidFieldsRequestedException.class,
+                () -> resolver.buildSpecification(ctx, param.getParameterAnnotation(Fields.class)),
+                "Field 'weight' cannot be selected, allowed fields: [firstName, lastName, o.itemName]");
+    }
+
+    @Override
+    protected Class<?> controllerClass() {
+        return TestController.class;
+    }
+
+    private static class TestController {
+
+        public void testMethod(
+                @Fields(param = "select", paths = {"firstName", "lastName", "o.itemName"}) Specification<Object> spec) {
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.EmptyResultOnTypeMismatch;
+import net.kaczmarzyk.spring.data.jpa.domain.EndingWith;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.In;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.And;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.OnQueryCostExceeded;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.QueryCostLimit;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.Spec;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import static net.kaczmarzyk.spring.data.jpa.web.utils.NativeWebRequestBuilder.nativeWebRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class QueryCostGuardTest extends ResolverTestBase {
+
+    SpecificationArgumentResolver resolver = new SpecificationArgumentResolver();
+
+    @Test
+    public void rejectsLeadingWildcardPattern() {
+        MethodParameter param = testMethodParameter("rejectLeadingWildcard");
+        NativeWebRequest req = nativeWebRequest().withParameterValues("lastName", "son").build();
+
+        assertThrows(QueryCostExceededException.class, () -> resolver.resolveArgument(param, null, req, null));
+    }
+
+    @Test
+    public void passesSpecWithinLimits() throws Exception {
+        MethodParameter param = testMethodParameter("rejectLeadingWildcard");
+        NativeWebRequest req = nativeWebRequest().withParameterValues("firstName", "Homer").build();
+
+        Specification<?> resolved = (Specification<?>) resolver.resolveArgument(param, null, req, null);
+
+        assertThat(resolved).isEqualTo(new Conjunction<>(new EmptyResultOnTypeMismatch<>(
+                new Equal<>(new WebRequestQueryContext(req), "firstName", new String[]{ "Homer" }, defaultConverter))));
+    }
+
+    @Test
+    public void stripsTooLongInListAndKeepsRemainingFilters() throws Exception {
+        MethodParameter param = testMethodParameter("stripLongInLists");
+        NativeWebRequest req = nativeWebRequest()
+                .withParameterValues("firstName", "Homer")
+                .withParameterValues("id", "1", "2", "3")
+                .build();
+
+        Specification<?> resolved = (Specification<?>) resolver.resolveArgument(param, null, req, null);
+
+        assertThat(resolved).isEqualTo(new Conjunction<>(new EmptyResultOnTypeMismatch<>(
+                new Equal<>(new WebRequestQueryContext(req), "firstName", new String[]{ "Homer" }, defaultConverter))));
+    }
+
+    @Test
+    public void usesDefaultPolicyWhenEndpointIsNotAnnotated() {
+        resolver.setQueryCostGuard(new QueryCostGuard(QueryCostPolicy.unlimited().withMaxInValues(1)));
+        MethodParameter param = testMethodParameter("notAnnotated");
+        NativeWebRequest req = nativeWebRequest().withParameterValues("id", "1", "2").build();
+
+        assertThrows(QueryCostExceededException.class, () -> resolver.resolveArgument(param, null, req, null));
+    }
+
+    @Test
+    public void logsViolationAndReturnsSpecUnchanged() throws Exception {
+        MethodParameter param = testMethodParameter("logOnly");
+        NativeWebRequest req = nativeWebRequest().withParameterValues("lastName", "son").build();
+
+        Specification<?> resolved = (Specification<?>) resolver.resolveArgument(param, null, req, null);
+
+        assertThat(resolved).isEqualTo(new Conjunction<>(
+                new EndingWith<>(new WebRequestQueryContext(req), "lastName", "son")));
+    }
+
+    @Override
+    protected Class<?> controllerClass() {
+        return TestController.class;
+    }
+
+    public static class TestController {
+
+        @QueryCostLimit(allowLeadingWildcard = false)
+        public void rejectLeadingWildcard(@And({
+                @Spec(path = "firstName", spec = Equal.class),
+                @Spec(path = "lastName", spec = EndingWith.class)
+        }) Specification<Object> spec) {
+        }
+
+        public void stripLongInLists(@QueryCostLimit(maxInValues = 2, onExceeded = OnQueryCostExceeded.STRIP) @And({
+                @Spec(path = "firstName", spec = Equal.class),
+                @Spec(path = "id", spec = In.class)
+        }) Specification<Object> spec) {
+        }
+
+        public void notAnnotated(@And({
+                @Spec(path = "id", spec = In.class)
+        }) Specification<Object> spec) {
+        }
+
+        public void logOnly(@QueryCostLimit(allowLeadingWildcard = false, onExceeded = OnQueryCostExceeded.LOG) @And({
+                @Spec(path = "lastName", spec = EndingWith.class)
+        }) Specification<Object> spec) {
+        }
+    }
+}
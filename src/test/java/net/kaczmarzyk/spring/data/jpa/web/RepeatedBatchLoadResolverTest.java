@@ -0,0 +1,62 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.BatchLoad;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.RepeatedBatchLoad;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class RepeatedBatchLoadResolverTest extends ResolverTestBase {
+
+    private final RepeatedBatchLoadResolver resolver = new RepeatedBatchLoadResolver();
+
+    @Test
+    public void resolvesRepeatedBatchLoad() {
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+
+        WebRequestProcessingContext ctx = new WebRequestProcessingContext(param, req);
+
+        Specification<?> result = resolver.buildSpecification(ctx, param.getParameterAnnotation(RepeatedBatchLoad.class));
+
+        assertThat(result).isEqualTo(
+                new Conjunction<>(
+                        new net.kaczmarzyk.spring.data.jpa.domain.BatchLoad<>(new String[]{"orders"}, "o"),
+                        new net.kaczmarzyk.spring.data.jpa.domain.BatchLoad<>(new String[]{"o.tags", "badges"}, "")
+                )
+        );
+    }
+
+    @Override
+    protected Class<?> controllerClass() {
+        return TestController.class;
+    }
+
+    private static class TestController {
+
+        public void testMethod(
+                @BatchLoad(paths = "orders", alias = "o")
+                @BatchLoad(paths = {"o.tags", "badges"}) Specification<Object> spec) {
+        }
+    }
+}
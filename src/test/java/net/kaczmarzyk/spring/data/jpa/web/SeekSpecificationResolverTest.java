@@ -0,0 +1,85 @@
+/**
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import net.kaczmarzyk.spring.data.jpa.domain.KeysetCursor;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.Seek;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.List;
+
+import static net.kaczmarzyk.spring.data.jpa.utils.ThrowableAssertions.assertThrows;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SeekSpecificationResolverTest extends ResolverTestBase {
+
+    private final SeekSpecificationResolver resolver = new SeekSpecificationResolver();
+
+    @Test
+    public void resolvesSeekFromCursorParam() {
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+        KeysetCursor cursor = new KeysetCursor(Sort.by("lastName", "id"), List.of("Simpson", 3L));
+        when(req.getParameterValues("after")).thenReturn(new String[]{ cursor.encode() });
+
+        WebRequestProcessingContext ctx = new WebRequestProcessingContext(param, req);
+
+        Specification<?> result = resolver.buildSpecification(ctx, param.getParameterAnnotation(Seek.class));
+
+        assertThat(result).isEqualTo(new net.kaczmarzyk.spring.data.jpa.domain.Seek<>(cursor));
+    }
+
+    @Test
+    public void returnsNullIfCursorParamIsNotPresent() {
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+
+        WebRequestProcessingContext ctx = new WebRequestProcessingContext(param, req);
+
+        assertThat(resolver.buildSpecification(ctx, param.getParameterAnnotation(Seek.class))).isNull();
+    }
+
+    @Test
+    public void throwsInvalidCursorExceptionForMalformedCursor() {
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+        when(req.getParameterValues("after")).thenReturn(new String[]{ "abc" });
+
+        WebRequestProcessingContext ctx = new WebRequestProcessingContext(param, req);
+
+        assertThrows(
+                InvalidCursorException.class,
+                () -> resolver.buildSpecification(ctx, param.getParameterAnnotation(Seek.class)),
+                "Invalid value of 'after' parameter: abc");
+    }
+
+    @Override
+    protected Class<?> controllerClass() {
+        return TestController.class;
+    }
+
+    private static class TestController {
+
+        public void testMethod(@Seek(param = "after") Specification<Object> spec) {
+        }
+    }
+}
@@ -20,6 +20,7 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import net.kaczmarzyk.spring.data.jpa.domain.CaseFolding;
 import net.kaczmarzyk.spring.data.jpa.utils.Converter;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.OnTypeMismatch;
@@ -102,6 +103,51 @@ public class SimpleSpecificationResolverSpecConstructorTest extends ResolverTest
         assertThat(resolved.config).isEqualTo(new String[]{"yyyyMMdd"});
     }
 
+    @Test
+    public void usesDefaultConfigOfSpecTypeWhenSpecDoesNotDefineConfig() throws Exception {
+        resolver.setDefaultConfig(SpecWith5ArgConstructor.class, "ddMMyyyy");
+
+        MethodParameter param = MethodParameter.forExecutable(testMethod("methodWith5argSpecWithoutConfig"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+        when(req.getParameterValues("theParameter")).thenReturn(new String[]{"theValue"});
+
+        WebRequestProcessingContext ctx = new WebRequestProcessingContext(param, req);
+
+        SpecWith5ArgConstructor resolved = (SpecWith5ArgConstructor) resolver.buildSpecification(ctx, param.getParameterAnnotation(Spec.class));
+
+        assertThat(resolved.converter).isEqualTo(Converter.withDateFormat("ddMMyyyy", OnTypeMismatch.EXCEPTION, null));
+        assertThat(resolved.config).isEqualTo(new String[]{"ddMMyyyy"});
+    }
+
+    @Test
+    public void prefersConfigOfSpecOverDefaultConfigOfSpecType() throws Exception {
+        resolver.setDefaultConfig(SpecWith5ArgConstructor.class, "ddMMyyyy");
+
+        MethodParameter param = MethodParameter.forExecutable(testMethod("methodWith5argSpec"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+        when(req.getParameterValues("theParameter")).thenReturn(new String[]{"theValue"});
+
+        WebRequestProcessingContext ctx = new WebRequestProcessingContext(param, req);
+
+        SpecWith5ArgConstructor resolved = (SpecWith5ArgConstructor) resolver.buildSpecification(ctx, param.getParameterAnnotation(Spec.class));
+
+        assertThat(resolved.config).isEqualTo(new String[]{"yyyyMMdd"});
+    }
+
+    @Test
+    public void doesNotUseSpecOptionsAsDateFormat() throws Exception {
+        MethodParameter param = MethodParameter.forExecutable(testMethod("methodWith5argSpecWithOptions"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+        when(req.getParameterValues("theParameter")).thenReturn(new String[]{"theValue"});
+
+        WebRequestProcessingContext ctx = new WebRequestProcessingContext(param, req);
+
+        SpecWith5ArgConstructor resolved = (SpecWith5ArgConstructor) resolver.buildSpecification(ctx, param.getParameterAnnotation(Spec.class));
+
+        assertThat(resolved.converter).isEqualTo(Converter.withDateFormat("yyyyMMdd", OnTypeMismatch.EXCEPTION, null));
+        assertThat(resolved.config).isEqualTo(new String[]{ CaseFolding.LOWER, "yyyyMMdd" });
+    }
+
     @Override
     protected Class<?> controllerClass() {
         return TestController.class;
@@ -173,5 +219,13 @@ public class SimpleSpecificationResolverSpecConstructorTest extends ResolverTest
         public void methodWith5argSpec(
                 @Spec(path = "thePath", params = "theParameter", spec = SpecWith5ArgConstructor.class, config = "yyyyMMdd", onTypeMismatch = EXCEPTION) Specification<Object> spec) {
         }
+
+        public void methodWith5argSpecWithOptions(
+                @Spec(path = "thePath", params = "theParameter", spec = SpecWith5ArgConstructor.class, config = { CaseFolding.LOWER, "yyyyMMdd" }, onTypeMismatch = EXCEPTION) Specification<Object> spec) {
+        }
+
+        public void methodWith5argSpecWithoutConfig(
+                @Spec(path = "thePath", params = "theParameter", spec = SpecWith5ArgConstructor.class, onTypeMismatch = EXCEPTION) Specification<Object> spec) {
+        }
     }
 }
@@ -16,9 +16,20 @@
 package net.kaczmarzyk.spring.data.jpa.web;
 
 import jakarta.persistence.criteria.JoinType;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedCount;
+import net.kaczmarzyk.spring.data.jpa.domain.CachedResults;
 import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.EntityGraphFetch;
 import net.kaczmarzyk.spring.data.jpa.domain.Like;
+import net.kaczmarzyk.spring.data.jpa.utils.CountCache;
+import net.kaczmarzyk.spring.data.jpa.utils.EntityVersions;
+import net.kaczmarzyk.spring.data.jpa.utils.InMemoryEntityVersions;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
+import net.kaczmarzyk.spring.data.jpa.utils.ResultCache;
+import net.kaczmarzyk.spring.data.jpa.utils.SpecificationFingerprint;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.CacheResults;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.ConditionalSearch;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.CountToken;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Join;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.JoinFetch;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Joins;
@@ -26,8 +37,19 @@ import net.kaczmarzyk.spring.data.jpa.web.annotation.Spec;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.MethodParameter;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static net.kaczmarzyk.spring.data.jpa.utils.ThrowableAssertions.assertThrows;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -37,6 +59,187 @@ public class SpecificationArgumentResolverTest extends ResolverTestBase {
 
     SpecificationArgumentResolver resolver = new SpecificationArgumentResolver();
 
+    @Test
+    public void resolvesLeftJoinFetchesAsEntityGraphWhenEnabled() throws Exception {
+        resolver.setJoinFetchAsEntityGraph(EntityGraphType.FETCH);
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod_aliasedFetch"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+        QueryContext queryCtx = new WebRequestQueryContext(req);
+        when(req.getParameterValues("path1")).thenReturn(new String[]{"value1"});
+
+        Specification<?> resolved = (Specification<?>) resolver.resolveArgument(param, null, req, null);
+
+        assertThat(innerSpecs(resolved))
+                .hasSize(3)
+                .contains(new Like<>(queryCtx, "path1", "value1"))
+                .contains(new Conjunction<>(
+                        new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(queryCtx, new String[]{"fetch3"}, JoinType.INNER, true)))
+                .contains(new EntityGraphFetch<>(List.of("fetch1", "fetch1.fetch2"), EntityGraphType.FETCH));
+    }
+
+    @Test
+    public void reusesEntityGraphFetchPlanOfTheHandler() throws Exception {
+        resolver.setJoinFetchAsEntityGraph(EntityGraphType.LOAD);
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod_aliasedFetch"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+        when(req.getParameterValues("path1")).thenReturn(new String[]{"value1"});
+
+        Specification<?> first = (Specification<?>) resolver.resolveArgument(param, null, req, null);
+        Specification<?> second = (Specification<?>) resolver.resolveArgument(param, null, req, null);
+
+        assertThat(entityGraphFetchOf(first)).isSameAs(entityGraphFetchOf(second));
+    }
+
+    @Test
+    public void resolvesSpecFromParamsOfCountToken() throws Exception {
+        CountTokenCodec codec = new CountTokenCodec("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8), Duration.ofMinutes(5));
+        resolver.setCountTokenCodec(codec);
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod_countToken"), 0);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("countToken", codec.issue("/search", Map.of("path1", new String[]{ "value1" })));
+        request.addParameter("path1", "ignored");
+        NativeWebRequest req = new ServletWebRequest(request);
+
+        Specification<?> resolved = (Specification<?>) resolver.resolveArgument(param, null, req, null);
+
+        assertThat(SpecificationArgumentResolver.unwrap(resolved))
+                .isEqualTo(new Like<>(new WebRequestQueryContext(req), "path1", "value1"));
+    }
+
+    @Test
+    public void resolvesSpecFromPathVariablesOfCountToken() throws Exception {
+        CountTokenCodec codec = new CountTokenCodec("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8), Duration.ofMinutes(5));
+        resolver.setCountTokenCodec(codec);
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod_countTokenWithPathVariable"), 0);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("countToken", codec.issue("/search/{var1}", Map.of("var1", "value1"), Map.of()));
+        request.setAttribute(WebRequestProcessingContext.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("var1", "ignored"));
+        NativeWebRequest req = new ServletWebRequest(request);
+
+        Specification<?> resolved = (Specification<?>) resolver.resolveArgument(param, null, req, null);
+
+        assertThat(SpecificationArgumentResolver.unwrap(resolved))
+                .isEqualTo(new Like<>(new WebRequestQueryContext(req), "path1", "value1"));
+    }
+
+    @Test
+    public void rejectsCountTokenOfDifferentSearch() throws Exception {
+        CountTokenCodec codec = new CountTokenCodec("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8), Duration.ofMinutes(5));
+        resolver.setCountTokenCodec(codec);
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod_countToken"), 0);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        String token = codec.issue("/other-search", Map.of("path1", new String[]{ "value1" }));
+        request.addParameter("countToken", token);
+
+        assertThrows(
+                InvalidCountTokenException.class,
+                () -> resolver.resolveArgument(param, null, new ServletWebRequest(request), null),
+                "Count token has been issued for a different search: " + token);
+    }
+
+    @Test
+    public void marksSpecWithCountCacheKeyEqualForIdenticalRequests() throws Exception {
+        resolver.setCountCache(new CountCache(10, Duration.ofMinutes(1)));
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod"), 0);
+        NativeWebRequest req1 = mock(NativeWebRequest.class);
+        when(req1.getParameterValues("path1")).thenReturn(new String[]{"value1"});
+        NativeWebRequest req2 = mock(NativeWebRequest.class);
+        when(req2.getParameterValues("path1")).thenReturn(new String[]{"value1"});
+        NativeWebRequest req3 = mock(NativeWebRequest.class);
+        when(req3.getParameterValues("path1")).thenReturn(new String[]{"value2"});
+
+        CachedCount<?> cachedCount1 = cachedCountOf((Specification<?>) resolver.resolveArgument(param, null, req1, null));
+        CachedCount<?> cachedCount2 = cachedCountOf((Specification<?>) resolver.resolveArgument(param, null, req2, null));
+        CachedCount<?> cachedCount3 = cachedCountOf((Specification<?>) resolver.resolveArgument(param, null, req3, null));
+
+        assertThat(cachedCount1.getFingerprint())
+                .isEqualTo(cachedCount2.getFingerprint())
+                .isNotEqualTo(cachedCount3.getFingerprint());
+    }
+
+    @Test
+    public void marksSpecAnnotatedWithCacheResults() throws Exception {
+        ResultCache resultCache = new ResultCache(10);
+        resolver.setResultCache(resultCache);
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod_cacheResults"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+        QueryContext queryCtx = new WebRequestQueryContext(req);
+        when(req.getParameterValues("path1")).thenReturn(new String[]{"value1"});
+
+        Specification<?> resolved = (Specification<?>) resolver.resolveArgument(param, null, req, null);
+
+        assertThat(resolved)
+                .isEqualTo(new Conjunction<>(
+                        new Like<>(queryCtx, "path1", "value1"),
+                        new CachedResults<>(resultCache, SpecificationFingerprint.of(new Like<>(queryCtx, "path1", "value1")), Duration.ofMinutes(5))));
+    }
+
+    @Test
+    public void rejectsCacheResultsWithoutResultCache() {
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod_cacheResults"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+
+        assertThrows(IllegalStateException.class,
+                () -> resolver.resolveArgument(param, null, req, null),
+                "@CacheResults requires ResultCache to be configured, see SpecificationArgumentResolver.setResultCache");
+    }
+
+    @Test
+    public void answersUnchangedSearchWithNotModified() throws Exception {
+        EntityVersions entityVersions = new InMemoryEntityVersions();
+        resolver.setEntityVersions(entityVersions);
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod_conditionalSearch"), 0);
+
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        resolver.resolveArgument(param, null, conditionalRequest(null, firstResponse), null);
+        String etag = firstResponse.getHeader("ETag");
+
+        MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+        assertThat(etag).isNotNull();
+        assertThrows(SearchNotModifiedException.class,
+                () -> resolver.resolveArgument(param, null, conditionalRequest(etag, secondResponse), null),
+                "Search results not modified since: " + etag);
+        assertThat(secondResponse.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    public void changesETagAfterWriteOfEntityType() throws Exception {
+        EntityVersions entityVersions = new InMemoryEntityVersions();
+        resolver.setEntityVersions(entityVersions);
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod_conditionalSearch"), 0);
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        resolver.resolveArgument(param, null, conditionalRequest(null, firstResponse), null);
+        String etag = firstResponse.getHeader("ETag");
+
+        entityVersions.increment(String.class);
+        MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+        Specification<?> resolved = (Specification<?>) resolver.resolveArgument(param, null, conditionalRequest(etag, secondResponse), null);
+
+        assertThat(resolved).isNotNull();
+        assertThat(secondResponse.getHeader("ETag"))
+                .isNotNull()
+                .isNotEqualTo(etag);
+    }
+
+    @Test
+    public void rejectsConditionalSearchWithoutEntityVersions() {
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod_conditionalSearch"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+
+        assertThrows(IllegalStateException.class,
+                () -> resolver.resolveArgument(param, null, req, null),
+                "@ConditionalSearch requires EntityVersions to be configured, see SpecificationArgumentResolver.setEntityVersions");
+    }
+
+    private NativeWebRequest conditionalRequest(String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/customers");
+        request.addParameter("path1", "value1");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+
     @Test
     public void resolvesJoinFetchForSimpleSpec() throws Exception {
         MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod"), 0);
@@ -178,6 +381,20 @@ public class SpecificationArgumentResolverTest extends ResolverTestBase {
                 .isInstanceOf(CustomSpecJoinContainer.class); // TODO better assertions
     }
 
+    private Specification<Object> entityGraphFetchOf(Specification<?> resolved) {
+        return innerSpecs(resolved).stream()
+                .filter(spec -> spec instanceof EntityGraphFetch)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private CachedCount<?> cachedCountOf(Specification<?> resolved) {
+        return (CachedCount<?>) innerSpecs(resolved).stream()
+                .filter(spec -> spec instanceof CachedCount)
+                .findFirst()
+                .orElseThrow();
+    }
+
     @Override
     protected Class<?> controllerClass() {
         return TestController.class;
@@ -224,6 +441,33 @@ public class SpecificationArgumentResolverTest extends ResolverTestBase {
                 @Spec(path = "path1", spec = Like.class) Specification<Object> spec) {
         }
 
+        public void testMethod_aliasedFetch(
+                @JoinFetch(paths = {"fetch1"}, alias = "f")
+                @JoinFetch(paths = {"f.fetch2"})
+                @JoinFetch(paths = {"fetch3"}, joinType = JoinType.INNER)
+                @Spec(path = "path1", spec = Like.class) Specification<Object> spec) {
+        }
+
+        public void testMethod_cacheResults(
+                @CacheResults(ttl = 5, timeUnit = TimeUnit.MINUTES)
+                @Spec(path = "path1", spec = Like.class) Specification<Object> spec) {
+        }
+
+        public void testMethod_conditionalSearch(
+                @ConditionalSearch(entities = String.class)
+                @Spec(path = "path1", spec = Like.class) Specification<Object> spec) {
+        }
+
+        public void testMethod_countToken(
+                @CountToken(searchPath = "/search")
+                @Spec(path = "path1", spec = Like.class) Specification<Object> spec) {
+        }
+
+        public void testMethod_countTokenWithPathVariable(
+                @CountToken(searchPath = "/search/{var1}")
+                @Spec(path = "path1", pathVars = "var1", spec = Like.class) Specification<Object> spec) {
+        }
+
         public void testMethod_joinContainerWithJoinFetch(
                 @Joins(fetch = {
                         @JoinFetch(paths = {"fetch1"}),
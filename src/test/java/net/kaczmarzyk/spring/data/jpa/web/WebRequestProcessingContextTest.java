@@ -19,9 +19,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.core.MethodParameter;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 import java.lang.reflect.Executable;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -120,6 +123,31 @@ public class WebRequestProcessingContextTest {
         assertThat(context.getPathVariableValue("orderId")).isEqualTo("99");
     }
 
+    @Test
+    public void resolvesPathVariableValue_postMapping_path() {
+        MockWebRequest req = new MockWebRequest("/customers/888/orders/99");
+        WebRequestProcessingContext context = new WebRequestProcessingContext(
+                testMethodParameter("testMethodUsingPathVariable_postMapping_path", TestController.class), req);
+
+        assertThat(context.getPathVariableValue("customerId")).isEqualTo("888");
+        assertThat(context.getPathVariableValue("orderId")).isEqualTo("99");
+    }
+
+    @Test
+    public void resolvesPathVariableValueFromUriTemplateVariablesExtractedBySpringMvc() {
+        MockWebRequest req = new MockWebRequest("/path/not/matching/the/mapping");
+        Map<String, String> uriTemplateVariables = new HashMap<>();
+        uriTemplateVariables.put("customerId", "888");
+        uriTemplateVariables.put("orderId", "99");
+        req.setAttribute(WebRequestProcessingContext.URI_TEMPLATE_VARIABLES_ATTRIBUTE, uriTemplateVariables, MockWebRequest.SCOPE_REQUEST);
+
+        WebRequestProcessingContext context = new WebRequestProcessingContext(
+                testMethodParameter("testMethodUsingPathVariable_requestMapping_path", TestController.class), req);
+
+        assertThat(context.getPathVariableValue("customerId")).isEqualTo("888");
+        assertThat(context.getPathVariableValue("orderId")).isEqualTo("99");
+    }
+
     private MethodParameter testMethodParameter(String methodName, Class<?> controllerClass) {
         return MethodParameter.forExecutable(testMethod(methodName, controllerClass, Specification.class), 0);
     }
@@ -165,5 +193,9 @@ public class WebRequestProcessingContextTest {
         @GetMapping(value = "/customers/{customerId:[0-9]+}/orders/{orderId:.*}")
         public void testMethodUsingPathVariableWithRegexp_getMapping_value(Specification<Object> spec) {
         }
+
+        @PostMapping(path = "/customers/{customerId}/orders/{orderId}")
+        public void testMethodUsingPathVariable_postMapping_path(Specification<Object> spec) {
+        }
     }
 }